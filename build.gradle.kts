@@ -3,6 +3,7 @@ plugins {
   id("io.spring.dependency-management") version "1.1.6"
   java
   jacoco
+  id("me.champeau.jmh") version "0.7.2"
 }
 
 group = "com.example"
@@ -11,11 +12,30 @@ java.sourceCompatibility = JavaVersion.VERSION_17
 
 repositories { mavenCentral() }
 
+val loadTest: SourceSet by sourceSets.creating {
+  compileClasspath += sourceSets.main.get().output
+  runtimeClasspath += sourceSets.main.get().output
+}
+
+sourceSets.test {
+  resources.srcDir("src/loadTest/resources")
+}
+
+configurations[loadTest.implementationConfigurationName].extendsFrom(configurations.implementation.get())
+configurations[loadTest.runtimeOnlyConfigurationName].extendsFrom(configurations.runtimeOnly.get())
+
 dependencies {
   implementation("org.springframework.boot:spring-boot-starter-webflux")
   implementation("org.springframework.boot:spring-boot-starter-validation")
   implementation("org.springframework.boot:spring-boot-starter-data-r2dbc")
+  implementation("org.springframework.boot:spring-boot-starter-actuator")
+  implementation("com.github.ben-manes.caffeine:caffeine")
+  implementation("io.github.resilience4j:resilience4j-reactor:2.2.0")
+  implementation("io.github.resilience4j:resilience4j-circuitbreaker:2.2.0")
+  implementation("io.github.resilience4j:resilience4j-bulkhead:2.2.0")
+  implementation("io.github.resilience4j:resilience4j-micrometer:2.2.0")
   implementation("io.asyncer:r2dbc-mysql:1.1.2")
+  implementation("io.r2dbc:r2dbc-proxy")
   implementation("org.springdoc:springdoc-openapi-starter-webflux-ui:2.6.0")
 
   runtimeOnly("com.mysql:mysql-connector-j")
@@ -27,10 +47,42 @@ dependencies {
   testImplementation("org.mockito:mockito-core")
   testImplementation("org.mockito:mockito-junit-jupiter")
   testImplementation("io.r2dbc:r2dbc-h2")
+
+  "loadTestRuntimeOnly"("io.r2dbc:r2dbc-h2")
 }
 
 tasks.test { useJUnitPlatform() }
 
+val loadTestProperties = project.properties.filterKeys {
+  it.startsWith("loadtest.") || it.startsWith("benchmark.") || it.startsWith("app.")
+}
+
+tasks.register<JavaExec>("loadTest") {
+  group = "verification"
+  description = "Boots the application against H2 or a local MySQL and drives a create/list/delete mix over HTTP."
+  classpath = loadTest.runtimeClasspath
+  mainClass.set("com.example.bootcamp.loadtest.LoadTestApplication")
+  systemProperty("loadtest.results-file", layout.buildDirectory.file("reports/loadtest/results.json").get().asFile.path)
+  systemProperties(loadTestProperties)
+}
+
+tasks.register<JavaExec>("repositoryBenchmark") {
+  group = "verification"
+  description = "Seeds a synthetic dataset at increasing scales and times repository page and summary queries."
+  classpath = loadTest.runtimeClasspath
+  mainClass.set("com.example.bootcamp.loadtest.RepositoryBenchmark")
+  systemProperty("benchmark.results-file", layout.buildDirectory.file("reports/repository-benchmark/results.json").get().asFile.path)
+  systemProperties(loadTestProperties)
+}
+
+jmh {
+  jmhVersion.set("1.37")
+  profilers.set(listOf("gc"))
+  resultFormat.set("JSON")
+  resultsFile.set(layout.buildDirectory.file("reports/jmh/results.json"))
+  (project.findProperty("jmhIncludes") as String?)?.let { includes.set(listOf(it)) }
+}
+
 jacoco {
   toolVersion = "0.8.12"
 }
@@ -46,5 +98,6 @@ tasks.jacocoTestReport {
 
 tasks.check {
   dependsOn(tasks.jacocoTestReport)
+  dependsOn(tasks.named(loadTest.classesTaskName))
 }
 
@@ -0,0 +1,176 @@
+package com.example.bootcamp.benchmark;
+
+import com.example.bootcamp.domain.model.Bootcamp;
+import com.example.bootcamp.domain.model.BootcampSummary;
+import com.example.bootcamp.domain.model.CapabilitySummary;
+import com.example.bootcamp.domain.model.PaginatedBootcamp;
+import com.example.bootcamp.domain.model.TechnologySummary;
+import com.example.bootcamp.infrastructure.repository.support.BootcampDetailRowAssembler.BootcampCapabilityTechnologyDetailRow;
+import com.example.bootcamp.infrastructure.repository.support.BootcampRepositorySupport.BootcampRow;
+import com.example.bootcamp.infrastructure.repository.support.BootcampRepositorySupport.CapabilityTechnologyRow;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public final class BenchmarkFixtures {
+
+  private static final LocalDate LAUNCH_DATE = LocalDate.of(2024, 1, 8);
+  private static final int CAPABILITY_POOL = 32;
+
+  private final int pageSize;
+  private final int capabilitiesPerBootcamp;
+  private final int technologiesPerCapability;
+
+  public BenchmarkFixtures(int pageSize, int capabilitiesPerBootcamp, int technologiesPerCapability) {
+    this.pageSize = pageSize;
+    this.capabilitiesPerBootcamp = capabilitiesPerBootcamp;
+    this.technologiesPerCapability = technologiesPerCapability;
+  }
+
+  public List<CapabilityTechnologyRow> catalogRows() {
+    List<CapabilityTechnologyRow> rows = new ArrayList<>(CAPABILITY_POOL * technologiesPerCapability);
+    for (int capability = 0; capability < CAPABILITY_POOL; capability++) {
+      for (int technology = 0; technology < technologiesPerCapability; technology++) {
+        rows.add(new CapabilityTechnologyRow(
+            capabilityId(capability),
+            "Capability " + capability,
+            "Capability description " + capability,
+            technologyId(capability, technology),
+            "Technology " + capability + "." + technology
+        ));
+      }
+    }
+    return rows;
+  }
+
+  public Map<String, CapabilitySummary> catalog() {
+    Map<String, CapabilitySummary> catalog = new LinkedHashMap<>();
+    for (int capability = 0; capability < CAPABILITY_POOL; capability++) {
+      List<TechnologySummary> technologies = new ArrayList<>(technologiesPerCapability);
+      for (int technology = 0; technology < technologiesPerCapability; technology++) {
+        technologies.add(new TechnologySummary(technologyId(capability, technology), "Technology " + capability + "." + technology));
+      }
+      catalog.put(capabilityId(capability), new CapabilitySummary(
+          capabilityId(capability),
+          "Capability " + capability,
+          "Capability description " + capability,
+          technologies,
+          technologies.size()
+      ));
+    }
+    return catalog;
+  }
+
+  public List<BootcampRow> bootcampRows() {
+    List<BootcampRow> rows = new ArrayList<>(pageSize);
+    for (int bootcamp = 0; bootcamp < pageSize; bootcamp++) {
+      rows.add(new BootcampRow(
+          bootcampId(bootcamp),
+          "Bootcamp " + bootcamp,
+          "Bootcamp description " + bootcamp,
+          LAUNCH_DATE.plusDays(bootcamp),
+          8 + bootcamp % 8,
+          capabilitiesPerBootcamp
+      ));
+    }
+    return rows;
+  }
+
+  public Map<String, List<String>> links() {
+    Map<String, List<String>> links = new LinkedHashMap<>();
+    for (int bootcamp = 0; bootcamp < pageSize; bootcamp++) {
+      links.put(bootcampId(bootcamp), capabilityIds(bootcamp));
+    }
+    return links;
+  }
+
+  public List<BootcampCapabilityTechnologyDetailRow> detailRows() {
+    List<BootcampCapabilityTechnologyDetailRow> rows =
+        new ArrayList<>(pageSize * capabilitiesPerBootcamp * technologiesPerCapability);
+    for (int bootcamp = 0; bootcamp < pageSize; bootcamp++) {
+      for (int slot = 0; slot < capabilitiesPerBootcamp; slot++) {
+        int capability = capabilityIndex(bootcamp, slot);
+        for (int technology = 0; technology < technologiesPerCapability; technology++) {
+          rows.add(new BootcampCapabilityTechnologyDetailRow(
+              bootcampId(bootcamp),
+              "Bootcamp " + bootcamp,
+              "Bootcamp description " + bootcamp,
+              LAUNCH_DATE.plusDays(bootcamp),
+              8 + bootcamp % 8,
+              capabilitiesPerBootcamp,
+              capabilityId(capability),
+              "Capability " + capability,
+              "Capability description " + capability,
+              technologyId(capability, technology),
+              "Technology " + capability + "." + technology
+          ));
+        }
+      }
+    }
+    return rows;
+  }
+
+  public List<Bootcamp> bootcamps() {
+    List<Bootcamp> bootcamps = new ArrayList<>(pageSize);
+    for (int bootcamp = 0; bootcamp < pageSize; bootcamp++) {
+      bootcamps.add(new Bootcamp(
+          bootcampId(bootcamp),
+          "Bootcamp " + bootcamp,
+          "Bootcamp description " + bootcamp,
+          LAUNCH_DATE.plusDays(bootcamp),
+          8 + bootcamp % 8,
+          capabilityIds(bootcamp)
+      ));
+    }
+    return bootcamps;
+  }
+
+  public List<BootcampSummary> summaries() {
+    Map<String, CapabilitySummary> catalog = catalog();
+    List<BootcampSummary> summaries = new ArrayList<>(pageSize);
+    for (int bootcamp = 0; bootcamp < pageSize; bootcamp++) {
+      List<CapabilitySummary> capabilities = capabilityIds(bootcamp).stream().map(catalog::get).toList();
+      summaries.add(new BootcampSummary(
+          bootcampId(bootcamp),
+          "Bootcamp " + bootcamp,
+          "Bootcamp description " + bootcamp,
+          LAUNCH_DATE.plusDays(bootcamp),
+          8 + bootcamp % 8,
+          capabilities,
+          capabilities.size()
+      ));
+    }
+    return summaries;
+  }
+
+  public PaginatedBootcamp page() {
+    return new PaginatedBootcamp(summaries(), 0, pageSize, pageSize * 10L, 10);
+  }
+
+  private List<String> capabilityIds(int bootcamp) {
+    List<String> ids = new ArrayList<>(capabilitiesPerBootcamp);
+    for (int slot = 0; slot < capabilitiesPerBootcamp; slot++) {
+      ids.add(capabilityId(capabilityIndex(bootcamp, slot)));
+    }
+    return ids;
+  }
+
+  private int capabilityIndex(int bootcamp, int slot) {
+    return (bootcamp * capabilitiesPerBootcamp + slot) % CAPABILITY_POOL;
+  }
+
+  private static String bootcampId(int bootcamp) {
+    return String.format("00000000-0000-0000-0000-%012d", bootcamp);
+  }
+
+  private static String capabilityId(int capability) {
+    return String.format("00000000-0000-0000-0001-%012d", capability);
+  }
+
+  private static String technologyId(int capability, int technology) {
+    return String.format("00000000-0000-0002-%04d-%012d", capability, technology);
+  }
+}
@@ -0,0 +1,68 @@
+package com.example.bootcamp.domain.model;
+
+import com.example.bootcamp.benchmark.BenchmarkFixtures;
+import com.example.bootcamp.infrastructure.client.BootcampReportRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BootcampConstructionBenchmark {
+
+  @Param({"10", "100", "1000"})
+  public int pageSize;
+
+  @Param({"1", "4"})
+  public int capabilitiesPerBootcamp;
+
+  @Param({"3", "20"})
+  public int technologiesPerCapability;
+
+  private List<Bootcamp> bootcamps;
+  private List<BootcampSummary> summaries;
+
+  @Setup
+  public void setUp() {
+    BenchmarkFixtures fixtures = new BenchmarkFixtures(pageSize, capabilitiesPerBootcamp, technologiesPerCapability);
+    bootcamps = fixtures.bootcamps();
+    summaries = fixtures.summaries();
+  }
+
+  @Benchmark
+  public void validateBootcamps(Blackhole blackhole) {
+    for (Bootcamp bootcamp : bootcamps) {
+      blackhole.consume(new Bootcamp(
+          bootcamp.id(),
+          bootcamp.name(),
+          bootcamp.description(),
+          bootcamp.launchDate(),
+          bootcamp.durationWeeks(),
+          bootcamp.capabilities()
+      ));
+    }
+  }
+
+  @Benchmark
+  public void buildReportRequests(Blackhole blackhole) {
+    for (int index = 0; index < bootcamps.size(); index++) {
+      blackhole.consume(BootcampReportRequest.from(bootcamps.get(index), summaries.get(index)));
+    }
+  }
+}
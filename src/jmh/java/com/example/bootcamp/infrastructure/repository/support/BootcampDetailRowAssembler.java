@@ -0,0 +1,77 @@
+package com.example.bootcamp.infrastructure.repository.support;
+
+import com.example.bootcamp.domain.model.BootcampSummary;
+import com.example.bootcamp.domain.model.CapabilitySummary;
+import com.example.bootcamp.infrastructure.repository.support.BootcampRepositorySupport.BootcampRow;
+import com.example.bootcamp.infrastructure.repository.support.BootcampRepositorySupport.CapabilityTechnologyRow;
+import reactor.core.publisher.Flux;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public final class BootcampDetailRowAssembler {
+
+  private BootcampDetailRowAssembler() {
+  }
+
+  public static Flux<BootcampSummary> summaries(Flux<BootcampCapabilityTechnologyDetailRow> rowsOrderedByBootcamp) {
+    return rowsOrderedByBootcamp
+        .bufferUntilChanged(BootcampCapabilityTechnologyDetailRow::bootcampId)
+        .map(BootcampDetailRowAssembler::bootcamp);
+  }
+
+  public static BootcampSummary bootcamp(List<BootcampCapabilityTechnologyDetailRow> rows) {
+    if (rows.isEmpty()) {
+      throw new IllegalStateException("bootcamp.rows.empty");
+    }
+    var first = rows.get(0);
+    Map<String, CapabilitySummary> capabilities = new LinkedHashMap<>();
+    List<CapabilityTechnologyRow> capabilityRows = new ArrayList<>();
+    for (BootcampCapabilityTechnologyDetailRow row : rows) {
+      if (row.capabilityId() == null) {
+        continue;
+      }
+      if (!capabilityRows.isEmpty() && !capabilityRows.get(0).capabilityId().equals(row.capabilityId())) {
+        capabilities.put(capabilityRows.get(0).capabilityId(), BootcampSummaryAssembler.capability(capabilityRows));
+        capabilityRows = new ArrayList<>();
+      }
+      capabilityRows.add(new CapabilityTechnologyRow(
+          row.capabilityId(),
+          row.capabilityName(),
+          row.capabilityDescription(),
+          row.technologyId(),
+          row.technologyName()
+      ));
+    }
+    if (!capabilityRows.isEmpty()) {
+      capabilities.put(capabilityRows.get(0).capabilityId(), BootcampSummaryAssembler.capability(capabilityRows));
+    }
+    BootcampRow bootcamp = new BootcampRow(
+        first.bootcampId(),
+        first.bootcampName(),
+        first.bootcampDescription(),
+        first.launchDate(),
+        first.durationWeeks(),
+        first.capabilityCount()
+    );
+    return BootcampSummaryAssembler.bootcamp(bootcamp, List.copyOf(capabilities.keySet()), capabilities);
+  }
+
+  public record BootcampCapabilityTechnologyDetailRow(
+      String bootcampId,
+      String bootcampName,
+      String bootcampDescription,
+      LocalDate launchDate,
+      Integer durationWeeks,
+      Integer capabilityCount,
+      String capabilityId,
+      String capabilityName,
+      String capabilityDescription,
+      String technologyId,
+      String technologyName
+  ) {
+  }
+}
@@ -0,0 +1,73 @@
+package com.example.bootcamp.infrastructure.repository.support;
+
+import com.example.bootcamp.benchmark.BenchmarkFixtures;
+import com.example.bootcamp.domain.model.BootcampSummary;
+import com.example.bootcamp.domain.model.CapabilitySummary;
+import com.example.bootcamp.infrastructure.repository.support.BootcampDetailRowAssembler.BootcampCapabilityTechnologyDetailRow;
+import com.example.bootcamp.infrastructure.repository.support.BootcampRepositorySupport.BootcampRow;
+import com.example.bootcamp.infrastructure.repository.support.BootcampRepositorySupport.CapabilityTechnologyRow;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BootcampSummaryAssemblerBenchmark {
+
+  @Param({"10", "100", "1000"})
+  public int pageSize;
+
+  @Param({"1", "4"})
+  public int capabilitiesPerBootcamp;
+
+  @Param({"3", "20"})
+  public int technologiesPerCapability;
+
+  private List<BootcampCapabilityTechnologyDetailRow> detailRows;
+  private List<BootcampRow> bootcampRows;
+  private Map<String, List<String>> links;
+  private Map<String, CapabilitySummary> catalog;
+  private List<CapabilityTechnologyRow> catalogRows;
+
+  @Setup
+  public void setUp() {
+    BenchmarkFixtures fixtures = new BenchmarkFixtures(pageSize, capabilitiesPerBootcamp, technologiesPerCapability);
+    detailRows = fixtures.detailRows();
+    bootcampRows = fixtures.bootcampRows();
+    links = fixtures.links();
+    catalog = fixtures.catalog();
+    catalogRows = fixtures.catalogRows();
+  }
+
+  @Benchmark
+  public List<BootcampSummary> summariesFromDetailRows() {
+    return BootcampDetailRowAssembler.summaries(Flux.fromIterable(detailRows)).collectList().block();
+  }
+
+  @Benchmark
+  public List<BootcampSummary> summariesFromReadModelPage() {
+    return BootcampSummaryAssembler.summaries(Flux.fromIterable(bootcampRows), links, catalog).collectList().block();
+  }
+
+  @Benchmark
+  public List<CapabilitySummary> capabilityCatalog() {
+    return BootcampSummaryAssembler.capabilities(Flux.fromIterable(catalogRows)).collectList().block();
+  }
+}
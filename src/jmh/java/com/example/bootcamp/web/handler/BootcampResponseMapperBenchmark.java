@@ -0,0 +1,57 @@
+package com.example.bootcamp.web.handler;
+
+import com.example.bootcamp.benchmark.BenchmarkFixtures;
+import com.example.bootcamp.domain.model.PaginatedBootcamp;
+import com.example.bootcamp.web.dto.Responses.BootcampCompactPageResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BootcampResponseMapperBenchmark {
+
+  @Param({"10", "100", "1000"})
+  public int pageSize;
+
+  @Param({"1", "4"})
+  public int capabilitiesPerBootcamp;
+
+  @Param({"3", "20"})
+  public int technologiesPerCapability;
+
+  private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+  private PaginatedBootcamp page;
+
+  @Setup
+  public void setUp() {
+    page = new BenchmarkFixtures(pageSize, capabilitiesPerBootcamp, technologiesPerCapability).page();
+  }
+
+  @Benchmark
+  public BootcampCompactPageResponse mapCompactPage() {
+    return BootcampResponseMapper.compactPage(page);
+  }
+
+  @Benchmark
+  public byte[] mapAndSerializeCompactPage() throws JsonProcessingException {
+    return objectMapper.writeValueAsBytes(BootcampResponseMapper.compactPage(page));
+  }
+}
@@ -0,0 +1,89 @@
+package com.example.bootcamp.loadtest;
+
+import com.example.bootcamp.infrastructure.repository.SpringDataBootcampRepository;
+import com.example.bootcamp.loadtest.SyntheticDataset.Link;
+import com.example.bootcamp.loadtest.SyntheticDataset.NamedRow;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.example.bootcamp.infrastructure.repository.support.BootcampRepositorySupport.MAX_ROWS_PER_INSERT;
+import static com.example.bootcamp.infrastructure.repository.support.BootcampRepositorySupport.multiRowInsert;
+
+public final class CatalogSeeder {
+
+  public static final String DELETE_SYNTHETIC_BOOTCAMPS =
+      "DELETE FROM bootcamp.bootcamps WHERE name LIKE '" + SyntheticDataset.NAME_PREFIX + "%'";
+  public static final String INSERT_TECHNOLOGIES_PREFIX =
+      "INSERT IGNORE INTO bootcamp.technologies (id, name, description) VALUES ";
+  public static final String INSERT_CAPABILITIES_PREFIX =
+      "INSERT IGNORE INTO bootcamp.capabilities (id, name, description) VALUES ";
+  public static final String NAMED_VALUES_TEMPLATE = "(:id%1$d, :name%1$d, :description%1$d)";
+  public static final String INSERT_CAPABILITY_TECHNOLOGIES_PREFIX =
+      "INSERT IGNORE INTO bootcamp.capability_technology (capability_id, technology_id) VALUES ";
+  public static final String CAPABILITY_TECHNOLOGY_VALUES_TEMPLATE = "(:capabilityId%1$d, :technologyId%1$d)";
+
+  private final DatabaseClient databaseClient;
+  private final SpringDataBootcampRepository repository;
+
+  public CatalogSeeder(DatabaseClient databaseClient, SpringDataBootcampRepository repository) {
+    this.databaseClient = databaseClient;
+    this.repository = repository;
+  }
+
+  public Mono<Void> reset() {
+    return databaseClient.sql(DELETE_SYNTHETIC_BOOTCAMPS).then();
+  }
+
+  public Mono<Void> seedCatalog(SyntheticDataset dataset) {
+    return insertNamed(INSERT_TECHNOLOGIES_PREFIX, dataset.technologies())
+        .then(insertNamed(INSERT_CAPABILITIES_PREFIX, dataset.capabilities()))
+        .then(insertLinks(dataset.links()));
+  }
+
+  public Mono<Void> seedBootcamps(SyntheticDataset dataset, int fromInclusive, int toExclusive) {
+    return dataset.bootcamps(fromInclusive, toExclusive, MAX_ROWS_PER_INSERT)
+        .concatMap(repository::saveAll)
+        .then();
+  }
+
+  private Mono<Void> insertNamed(String prefix, List<NamedRow> rows) {
+    return Flux.fromIterable(chunks(rows))
+        .concatMap(chunk -> {
+          DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(multiRowInsert(prefix, NAMED_VALUES_TEMPLATE, chunk.size()));
+          for (int index = 0; index < chunk.size(); index++) {
+            NamedRow row = chunk.get(index);
+            spec = spec.bind("id" + index, row.id())
+                .bind("name" + index, row.name())
+                .bind("description" + index, row.description());
+          }
+          return spec.then();
+        })
+        .then();
+  }
+
+  private Mono<Void> insertLinks(List<Link> links) {
+    return Flux.fromIterable(chunks(links))
+        .concatMap(chunk -> {
+          DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(
+              multiRowInsert(INSERT_CAPABILITY_TECHNOLOGIES_PREFIX, CAPABILITY_TECHNOLOGY_VALUES_TEMPLATE, chunk.size()));
+          for (int index = 0; index < chunk.size(); index++) {
+            spec = spec.bind("capabilityId" + index, chunk.get(index).capabilityId())
+                .bind("technologyId" + index, chunk.get(index).technologyId());
+          }
+          return spec.then();
+        })
+        .then();
+  }
+
+  private static <T> List<List<T>> chunks(List<T> rows) {
+    List<List<T>> chunks = new ArrayList<>();
+    for (int start = 0; start < rows.size(); start += MAX_ROWS_PER_INSERT) {
+      chunks.add(rows.subList(start, Math.min(rows.size(), start + MAX_ROWS_PER_INSERT)));
+    }
+    return chunks;
+  }
+}
@@ -0,0 +1,30 @@
+package com.example.bootcamp.loadtest;
+
+import com.example.bootcamp.infrastructure.persistence.TimedConnectionFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.r2dbc.connection.init.ConnectionFactoryInitializer;
+import org.springframework.r2dbc.connection.init.ResourceDatabasePopulator;
+
+public class H2LoadTestConfig {
+
+  static final String H2_URL = "r2dbc:pool:h2:mem:///bootcamp-loadtest"
+      + "?options=MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1&maxSize=20";
+  static final String SCHEMA_SCRIPT = "loadtest-h2-schema.sql";
+
+  @Bean
+  public ConnectionFactory connectionFactory(MeterRegistry meterRegistry) {
+    return new TimedConnectionFactory(ConnectionFactories.get(H2_URL), meterRegistry);
+  }
+
+  @Bean
+  public ConnectionFactoryInitializer loadTestSchemaInitializer(ConnectionFactory connectionFactory) {
+    ConnectionFactoryInitializer initializer = new ConnectionFactoryInitializer();
+    initializer.setConnectionFactory(connectionFactory);
+    initializer.setDatabasePopulator(new ResourceDatabasePopulator(new ClassPathResource(SCHEMA_SCRIPT)));
+    return initializer;
+  }
+}
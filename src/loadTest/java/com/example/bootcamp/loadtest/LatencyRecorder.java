@@ -0,0 +1,59 @@
+package com.example.bootcamp.loadtest;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+public final class LatencyRecorder {
+
+  private static final double NANOS_PER_MILLI = 1_000_000d;
+
+  private long[] samples = new long[1024];
+  private int size;
+  private long errors;
+
+  public synchronized void record(long latencyNanos, boolean success) {
+    if (size == samples.length) {
+      samples = Arrays.copyOf(samples, size * 2);
+    }
+    samples[size++] = latencyNanos;
+    if (!success) {
+      errors++;
+    }
+  }
+
+  public synchronized RouteStats stats(LoadTestRoute route, Duration elapsed) {
+    long[] sorted = Arrays.copyOf(samples, size);
+    Arrays.sort(sorted);
+    double seconds = elapsed.toNanos() / 1_000_000_000d;
+    return new RouteStats(
+        route.label(),
+        size,
+        errors,
+        seconds > 0 ? size / seconds : 0,
+        percentile(sorted, 0.50),
+        percentile(sorted, 0.95),
+        percentile(sorted, 0.99),
+        sorted.length == 0 ? 0 : sorted[sorted.length - 1] / NANOS_PER_MILLI
+    );
+  }
+
+  static double percentile(long[] sorted, double quantile) {
+    if (sorted.length == 0) {
+      return 0;
+    }
+    int rank = (int) Math.ceil(quantile * sorted.length);
+    return sorted[Math.max(0, rank - 1)] / NANOS_PER_MILLI;
+  }
+
+  public record RouteStats(
+      String route,
+      long requests,
+      long errors,
+      double throughputPerSecond,
+      double p50Millis,
+      double p95Millis,
+      double p99Millis,
+      double maxMillis
+  ) {
+  }
+}
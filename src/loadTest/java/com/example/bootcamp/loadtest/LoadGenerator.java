@@ -0,0 +1,185 @@
+package com.example.bootcamp.loadtest;
+
+import com.example.bootcamp.web.dto.Requests.CreateBootcampRequest;
+import com.example.bootcamp.web.dto.Responses.IdResponse;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicLong;
+
+public final class LoadGenerator {
+
+  private static final Duration TICK = Duration.ofMillis(10);
+  private static final String BOOTCAMP_PATH = "/api/v1/bootcamp";
+  private static final String BOOTCAMP_BY_ID_PATH = "/api/v1/bootcamp/{id}";
+  private static final LocalDate LAUNCH_DATE = LocalDate.of(2026, 1, 5);
+
+  private final WebClient webClient;
+  private final LoadTestSettings settings;
+  private final List<String> capabilityIds;
+  private final ConcurrentLinkedDeque<String> deletable;
+  private final SplittableRandom random;
+  private final LoadTestRoute[] schedule;
+  private final AtomicLong created = new AtomicLong();
+
+  public LoadGenerator(WebClient webClient, LoadTestSettings settings, List<String> capabilityIds, Collection<String> deletable, long seed) {
+    this.webClient = webClient;
+    this.settings = settings;
+    this.capabilityIds = List.copyOf(capabilityIds);
+    this.deletable = new ConcurrentLinkedDeque<>(deletable);
+    this.random = new SplittableRandom(seed);
+    this.schedule = schedule(settings.mix());
+  }
+
+  public LoadTestReport run() {
+    if (!settings.warmup().isZero()) {
+      drive(settings.warmup(), recorders(), new AtomicLong()).block();
+    }
+    Map<LoadTestRoute, LatencyRecorder> recorders = recorders();
+    AtomicLong dropped = new AtomicLong();
+    long start = System.nanoTime();
+    drive(settings.duration(), recorders, dropped).block();
+    Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+    List<LatencyRecorder.RouteStats> routes = new ArrayList<>();
+    long completed = 0;
+    for (Map.Entry<LoadTestRoute, LatencyRecorder> entry : recorders.entrySet()) {
+      LatencyRecorder.RouteStats stats = entry.getValue().stats(entry.getKey(), elapsed);
+      completed += stats.requests();
+      routes.add(stats);
+    }
+    Map<String, Integer> mix = new LinkedHashMap<>();
+    settings.mix().forEach((route, weight) -> mix.put(route.label(), weight));
+    return new LoadTestReport(
+        settings.target().name().toLowerCase(Locale.ROOT),
+        settings.rate(),
+        completed / (elapsed.toNanos() / 1_000_000_000d),
+        elapsed.toMillis(),
+        dropped.get(),
+        mix,
+        routes
+    );
+  }
+
+  private Mono<Void> drive(Duration duration, Map<LoadTestRoute, LatencyRecorder> recorders, AtomicLong dropped) {
+    long ticks = Math.max(1, duration.toMillis() / TICK.toMillis());
+    AtomicLong issued = new AtomicLong();
+    return Flux.interval(TICK)
+        .take(ticks)
+        .concatMapIterable(tick -> due(tick, issued))
+        .onBackpressureDrop(operation -> dropped.incrementAndGet())
+        .flatMap(operation -> execute(operation, recorders.get(operation.route())), settings.maxInFlight())
+        .then();
+  }
+
+  private List<Operation> due(long tick, AtomicLong issued) {
+    long target = (long) ((tick + 1) * TICK.toMillis() * settings.rate() / 1000d);
+    List<Operation> operations = new ArrayList<>();
+    while (issued.get() < target) {
+      operations.add(next());
+      issued.incrementAndGet();
+    }
+    return operations;
+  }
+
+  private Operation next() {
+    LoadTestRoute route = schedule[random.nextInt(schedule.length)];
+    return switch (route) {
+      case CREATE -> new Operation(route, createRequest(), null, 0);
+      case LIST -> new Operation(route, null, null, random.nextInt(Math.max(1, deletable.size() / settings.pageSize())));
+      case DELETE -> {
+        String id = deletable.pollFirst();
+        yield id == null
+            ? new Operation(LoadTestRoute.LIST, null, null, 0)
+            : new Operation(route, null, id, 0);
+      }
+    };
+  }
+
+  private CreateBootcampRequest createRequest() {
+    long sequence = created.incrementAndGet();
+    List<String> capabilities = SyntheticDataset.distinct(random, capabilityIds.size(), 1 + random.nextInt(Math.min(4, capabilityIds.size())))
+        .stream()
+        .map(capabilityIds::get)
+        .toList();
+    return new CreateBootcampRequest(
+        SyntheticDataset.NAME_PREFIX + "run-" + sequence,
+        "Load test bootcamp " + sequence,
+        LAUNCH_DATE.plusDays(random.nextInt(365)),
+        1 + random.nextInt(24),
+        capabilities
+    );
+  }
+
+  private Mono<Void> execute(Operation operation, LatencyRecorder recorder) {
+    return Mono.defer(() -> {
+          long start = System.nanoTime();
+          return send(operation)
+              .map(HttpStatusCode::is2xxSuccessful)
+              .onErrorReturn(false)
+              .doOnNext(success -> recorder.record(System.nanoTime() - start, success));
+        })
+        .then();
+  }
+
+  private Mono<HttpStatusCode> send(Operation operation) {
+    return switch (operation.route()) {
+      case CREATE -> webClient.post()
+          .uri(BOOTCAMP_PATH)
+          .bodyValue(operation.body())
+          .exchangeToMono(response -> response.statusCode().is2xxSuccessful()
+              ? response.bodyToMono(IdResponse.class)
+                  .doOnNext(id -> deletable.addLast(id.id()))
+                  .thenReturn(response.statusCode())
+              : drain(response));
+      case LIST -> webClient.get()
+          .uri(builder -> builder.path(BOOTCAMP_PATH)
+              .queryParam("page", operation.page())
+              .queryParam("size", settings.pageSize())
+              .build())
+          .exchangeToMono(LoadGenerator::drain);
+      case DELETE -> webClient.delete()
+          .uri(BOOTCAMP_BY_ID_PATH, operation.bootcampId())
+          .exchangeToMono(LoadGenerator::drain);
+    };
+  }
+
+  private static Mono<HttpStatusCode> drain(ClientResponse response) {
+    return response.releaseBody().thenReturn(response.statusCode());
+  }
+
+  private static Map<LoadTestRoute, LatencyRecorder> recorders() {
+    Map<LoadTestRoute, LatencyRecorder> recorders = new EnumMap<>(LoadTestRoute.class);
+    for (LoadTestRoute route : LoadTestRoute.values()) {
+      recorders.put(route, new LatencyRecorder());
+    }
+    return recorders;
+  }
+
+  private static LoadTestRoute[] schedule(Map<LoadTestRoute, Integer> mix) {
+    List<LoadTestRoute> schedule = new ArrayList<>();
+    for (LoadTestRoute route : LoadTestRoute.values()) {
+      for (int index = 0; index < mix.getOrDefault(route, 0); index++) {
+        schedule.add(route);
+      }
+    }
+    return schedule.toArray(LoadTestRoute[]::new);
+  }
+
+  private record Operation(LoadTestRoute route, CreateBootcampRequest body, String bootcampId, int page) {
+  }
+}
@@ -0,0 +1,67 @@
+package com.example.bootcamp.loadtest;
+
+import com.example.bootcamp.application.BootcampApplication;
+import com.example.bootcamp.infrastructure.catalog.CapabilityCatalog;
+import com.example.bootcamp.infrastructure.repository.SpringDataBootcampRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+public final class LoadTestApplication {
+
+  private LoadTestApplication() {
+  }
+
+  public static void main(String[] args) throws IOException {
+    LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+    try (ConfigurableApplicationContext context = boot(settings.target(), args)) {
+      SyntheticDataset dataset = new SyntheticDataset(
+          settings.technologies(),
+          settings.capabilities(),
+          settings.technologiesPerCapability(),
+          settings.seed()
+      );
+      CatalogSeeder seeder = new CatalogSeeder(
+          context.getBean(R2dbcEntityTemplate.class).getDatabaseClient(),
+          context.getBean(SpringDataBootcampRepository.class)
+      );
+      seeder.reset().then(seeder.seedCatalog(dataset)).block();
+      context.getBean(CapabilityCatalog.class).refresh().block();
+      seeder.seedBootcamps(dataset, 0, settings.bootcamps()).block();
+
+      int port = context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+      WebClient webClient = context.getBean(WebClient.Builder.class)
+          .baseUrl("http://localhost:" + port)
+          .build();
+      LoadTestReport report = new LoadGenerator(
+          webClient,
+          settings,
+          dataset.capabilityIds(),
+          dataset.bootcampIds(0, settings.bootcamps()),
+          settings.seed()
+      ).run();
+
+      report.print(System.out);
+      report.write(settings.resultsFile(), context.getBean(ObjectMapper.class));
+      System.out.println("Results written to " + settings.resultsFile().toAbsolutePath());
+    }
+  }
+
+  static ConfigurableApplicationContext boot(LoadTestSettings.Target target, String[] args) {
+    List<String> arguments = new ArrayList<>(List.of(args));
+    arguments.add("--server.port=0");
+    arguments.add("--app.bootcamp-report.outbox.poll-interval=1h");
+    SpringApplicationBuilder builder = new SpringApplicationBuilder(BootcampApplication.class);
+    if (target == LoadTestSettings.Target.H2) {
+      arguments.add("--spring.main.allow-bean-definition-overriding=true");
+      builder.sources(H2LoadTestConfig.class);
+    }
+    return builder.run(arguments.toArray(String[]::new));
+  }
+}
@@ -0,0 +1,54 @@
+package com.example.bootcamp.loadtest;
+
+import com.example.bootcamp.loadtest.LatencyRecorder.RouteStats;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+public record LoadTestReport(
+    String target,
+    double targetRate,
+    double achievedRate,
+    long durationMillis,
+    long dropped,
+    Map<String, Integer> mix,
+    List<RouteStats> routes
+) {
+
+  private static final String ROW_FORMAT = "%-32s %10s %8s %12s %10s %10s %10s %10s%n";
+
+  public LoadTestReport {
+    mix = Map.copyOf(mix);
+    routes = List.copyOf(routes);
+  }
+
+  public void print(PrintStream out) {
+    out.printf("%nLoad test against %s: target %.1f req/s, achieved %.1f req/s over %d ms, %d dropped%n",
+        target, targetRate, achievedRate, durationMillis, dropped);
+    out.printf(ROW_FORMAT, "route", "requests", "errors", "req/s", "p50 ms", "p95 ms", "p99 ms", "max ms");
+    for (RouteStats route : routes) {
+      out.printf(ROW_FORMAT,
+          route.route(),
+          route.requests(),
+          route.errors(),
+          String.format("%.1f", route.throughputPerSecond()),
+          String.format("%.2f", route.p50Millis()),
+          String.format("%.2f", route.p95Millis()),
+          String.format("%.2f", route.p99Millis()),
+          String.format("%.2f", route.maxMillis()));
+    }
+  }
+
+  public void write(Path file, ObjectMapper objectMapper) throws IOException {
+    Path parent = file.toAbsolutePath().getParent();
+    if (parent != null) {
+      Files.createDirectories(parent);
+    }
+    objectMapper.writerWithDefaultPrettyPrinter().writeValue(file.toFile(), this);
+  }
+}
@@ -0,0 +1,17 @@
+package com.example.bootcamp.loadtest;
+
+public enum LoadTestRoute {
+  CREATE("POST /api/v1/bootcamp"),
+  LIST("GET /api/v1/bootcamp"),
+  DELETE("DELETE /api/v1/bootcamp/{id}");
+
+  private final String label;
+
+  LoadTestRoute(String label) {
+    this.label = label;
+  }
+
+  public String label() {
+    return label;
+  }
+}
@@ -0,0 +1,83 @@
+package com.example.bootcamp.loadtest;
+
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.util.Assert;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+
+public record LoadTestSettings(
+    Target target,
+    double rate,
+    Duration duration,
+    Duration warmup,
+    int maxInFlight,
+    Map<LoadTestRoute, Integer> mix,
+    int technologies,
+    int capabilities,
+    int technologiesPerCapability,
+    int bootcamps,
+    int pageSize,
+    long seed,
+    Path resultsFile
+) {
+
+  public enum Target {
+    H2,
+    MYSQL
+  }
+
+  public LoadTestSettings {
+    Assert.notNull(target, "Load test target must not be null");
+    Assert.isTrue(rate > 0, "Load test rate must be greater than 0");
+    Assert.isTrue(!duration.isNegative() && !duration.isZero(), "Load test duration must be positive");
+    Assert.isTrue(!warmup.isNegative(), "Load test warmup must not be negative");
+    Assert.isTrue(maxInFlight > 0, "Load test max in-flight requests must be greater than 0");
+    Assert.isTrue(mix.values().stream().mapToInt(Integer::intValue).sum() > 0, "Load test mix must contain at least one route");
+    Assert.isTrue(technologies > 0, "Load test technologies must be greater than 0");
+    Assert.isTrue(capabilities > 0, "Load test capabilities must be greater than 0");
+    Assert.isTrue(technologiesPerCapability > 0 && technologiesPerCapability <= technologies,
+        "Load test technologies per capability must be between 1 and the number of technologies");
+    Assert.isTrue(bootcamps >= 0, "Load test bootcamps must not be negative");
+    Assert.isTrue(pageSize > 0, "Load test page size must be greater than 0");
+    mix = Map.copyOf(mix);
+  }
+
+  public static LoadTestSettings fromSystemProperties() {
+    return new LoadTestSettings(
+        Target.valueOf(property("loadtest.target", "h2").toUpperCase(Locale.ROOT)),
+        Double.parseDouble(property("loadtest.rate", "200")),
+        DurationStyle.detectAndParse(property("loadtest.duration", "60s")),
+        DurationStyle.detectAndParse(property("loadtest.warmup", "10s")),
+        Integer.parseInt(property("loadtest.max-in-flight", "256")),
+        parseMix(property("loadtest.mix", "create=1,list=8,delete=1")),
+        Integer.parseInt(property("loadtest.catalog.technologies", "400")),
+        Integer.parseInt(property("loadtest.catalog.capabilities", "200")),
+        Integer.parseInt(property("loadtest.catalog.technologies-per-capability", "4")),
+        Integer.parseInt(property("loadtest.catalog.bootcamps", "1000")),
+        Integer.parseInt(property("loadtest.page-size", "10")),
+        Long.parseLong(property("loadtest.seed", "42")),
+        Path.of(property("loadtest.results-file", "build/reports/loadtest/results.json"))
+    );
+  }
+
+  static Map<LoadTestRoute, Integer> parseMix(String value) {
+    Map<LoadTestRoute, Integer> mix = new EnumMap<>(LoadTestRoute.class);
+    for (String entry : value.split(",")) {
+      String[] parts = entry.trim().split("=");
+      Assert.isTrue(parts.length == 2, () -> "Load test mix entry must look like route=weight: " + entry);
+      int weight = Integer.parseInt(parts[1].trim());
+      Assert.isTrue(weight >= 0, () -> "Load test mix weight must not be negative: " + entry);
+      mix.put(LoadTestRoute.valueOf(parts[0].trim().toUpperCase(Locale.ROOT)), weight);
+    }
+    return mix;
+  }
+
+  private static String property(String name, String defaultValue) {
+    String value = System.getProperty(name);
+    return value == null || value.isBlank() ? defaultValue : value;
+  }
+}
@@ -0,0 +1,218 @@
+package com.example.bootcamp.loadtest;
+
+import com.example.bootcamp.domain.model.BootcampPageRequest;
+import com.example.bootcamp.domain.model.BootcampSortField;
+import com.example.bootcamp.domain.model.BootcampTotalMode;
+import com.example.bootcamp.domain.model.SortDirection;
+import com.example.bootcamp.infrastructure.catalog.CapabilityCatalog;
+import com.example.bootcamp.infrastructure.repository.BootcampCountCache;
+import com.example.bootcamp.infrastructure.repository.SpringDataBootcampRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.SplittableRandom;
+import java.util.function.IntFunction;
+import java.util.stream.IntStream;
+
+public final class RepositoryBenchmark {
+
+  static final String DECODED_ROWS_METRIC = "bootcamp.db.query.rows";
+  static final String FIND_ALL = "findAll";
+  static final String FIND_SUMMARY_BY_ID = "findSummaryById";
+
+  private static final String ROW_FORMAT = "%9s %-16s %-22s %6s %8s %8s %10s %10s %10s %10s%n";
+  private static final double NANOS_PER_MILLI = 1_000_000d;
+
+  private final RepositoryBenchmarkSettings settings;
+  private final SpringDataBootcampRepository repository;
+  private final BootcampCountCache countCache;
+  private final MeterRegistry meterRegistry;
+
+  RepositoryBenchmark(
+      RepositoryBenchmarkSettings settings,
+      SpringDataBootcampRepository repository,
+      BootcampCountCache countCache,
+      MeterRegistry meterRegistry
+  ) {
+    this.settings = settings;
+    this.repository = repository;
+    this.countCache = countCache;
+    this.meterRegistry = meterRegistry;
+  }
+
+  public static void main(String[] args) throws IOException {
+    RepositoryBenchmarkSettings settings = RepositoryBenchmarkSettings.fromSystemProperties();
+    try (ConfigurableApplicationContext context = LoadTestApplication.boot(settings.target(), args)) {
+      SyntheticDataset dataset = new SyntheticDataset(
+          settings.technologies(),
+          settings.capabilities(),
+          settings.technologiesPerCapability(),
+          settings.seed()
+      );
+      CatalogSeeder seeder = new CatalogSeeder(
+          context.getBean(R2dbcEntityTemplate.class).getDatabaseClient(),
+          context.getBean(SpringDataBootcampRepository.class)
+      );
+      seeder.reset().then(seeder.seedCatalog(dataset)).block();
+      context.getBean(CapabilityCatalog.class).refresh().block();
+
+      RepositoryBenchmark benchmark = new RepositoryBenchmark(
+          settings,
+          context.getBean(SpringDataBootcampRepository.class),
+          context.getBean(BootcampCountCache.class),
+          context.getBean(MeterRegistry.class)
+      );
+      List<Result> results = new ArrayList<>();
+      int seeded = 0;
+      printHeader(System.out);
+      for (int scale : settings.scales()) {
+        long seedStart = System.nanoTime();
+        seeder.seedBootcamps(dataset, seeded, scale).block();
+        System.out.printf("seeded %d bootcamps in %.1f s%n", scale - seeded, (System.nanoTime() - seedStart) / 1_000_000_000d);
+        seeded = scale;
+        for (Result result : benchmark.runScale(scale, dataset)) {
+          print(System.out, result);
+          results.add(result);
+        }
+      }
+      write(settings.resultsFile(), context.getBean(ObjectMapper.class), results);
+      System.out.println("Results written to " + settings.resultsFile().toAbsolutePath());
+    }
+  }
+
+  List<Result> runScale(int scale, SyntheticDataset dataset) {
+    List<Result> results = new ArrayList<>();
+    for (int size : settings.pageSizes()) {
+      int lastPage = Math.max(0, (scale - 1) / size);
+      for (int page : IntStream.of(0, lastPage / 2, lastPage).distinct().toArray()) {
+        for (BootcampSortField sort : settings.sorts()) {
+          for (SortDirection direction : settings.directions()) {
+            for (BootcampTotalMode totalMode : settings.totalModes()) {
+              BootcampPageRequest request = new BootcampPageRequest(page, size, sort, direction, null, totalMode);
+              results.add(measure(
+                  scale,
+                  FIND_ALL,
+                  sort.name().toLowerCase(Locale.ROOT) + " " + direction.name().toLowerCase(Locale.ROOT),
+                  size,
+                  page,
+                  totalMode,
+                  iteration -> {
+                    if (totalMode == BootcampTotalMode.EXACT) {
+                      countCache.invalidate();
+                    }
+                    return repository.findAll(request).map(result -> result.content().size());
+                  }
+              ));
+            }
+          }
+        }
+      }
+    }
+    SplittableRandom random = new SplittableRandom(settings.seed() + scale);
+    results.add(measure(scale, FIND_SUMMARY_BY_ID, "-", 1, 0, BootcampTotalMode.NONE, iteration ->
+        repository.findSummaryById(dataset.bootcampId(random.nextInt(scale))).map(summary -> 1)));
+    return results;
+  }
+
+  private Result measure(
+      int scale,
+      String operation,
+      String sort,
+      int size,
+      int page,
+      BootcampTotalMode totalMode,
+      IntFunction<Mono<Integer>> call
+  ) {
+    for (int iteration = 0; iteration < settings.warmupIterations(); iteration++) {
+      call.apply(iteration).block();
+    }
+    long[] latencies = new long[settings.iterations()];
+    long returned = 0;
+    double rowsBefore = decodedRows();
+    for (int iteration = 0; iteration < latencies.length; iteration++) {
+      Mono<Integer> next = call.apply(iteration);
+      long start = System.nanoTime();
+      Integer bootcamps = next.block();
+      latencies[iteration] = System.nanoTime() - start;
+      returned += bootcamps == null ? 0 : bootcamps;
+    }
+    double rows = decodedRows() - rowsBefore;
+    Arrays.sort(latencies);
+    return new Result(
+        scale,
+        operation,
+        sort,
+        size,
+        page,
+        totalMode.name().toLowerCase(Locale.ROOT),
+        latencies.length,
+        LatencyRecorder.percentile(latencies, 0.50),
+        LatencyRecorder.percentile(latencies, 0.95),
+        LatencyRecorder.percentile(latencies, 0.99),
+        Arrays.stream(latencies).average().orElse(0) / NANOS_PER_MILLI,
+        rows / latencies.length,
+        (double) returned / latencies.length
+    );
+  }
+
+  private double decodedRows() {
+    return meterRegistry.find(DECODED_ROWS_METRIC).summaries().stream()
+        .mapToDouble(DistributionSummary::totalAmount)
+        .sum();
+  }
+
+  private static void printHeader(PrintStream out) {
+    out.printf(ROW_FORMAT, "scale", "operation", "sort", "size", "page", "total", "p50 ms", "p95 ms", "p99 ms", "rows/call");
+  }
+
+  private static void print(PrintStream out, Result result) {
+    out.printf(ROW_FORMAT,
+        result.scale(),
+        result.operation(),
+        result.sort(),
+        result.size(),
+        result.page(),
+        result.totalMode(),
+        String.format("%.2f", result.p50Millis()),
+        String.format("%.2f", result.p95Millis()),
+        String.format("%.2f", result.p99Millis()),
+        String.format("%.1f", result.decodedRowsPerCall()));
+  }
+
+  private static void write(Path file, ObjectMapper objectMapper, List<Result> results) throws IOException {
+    Path parent = file.toAbsolutePath().getParent();
+    if (parent != null) {
+      Files.createDirectories(parent);
+    }
+    objectMapper.writerWithDefaultPrettyPrinter().writeValue(file.toFile(), results);
+  }
+
+  public record Result(
+      int scale,
+      String operation,
+      String sort,
+      int size,
+      int page,
+      String totalMode,
+      int iterations,
+      double p50Millis,
+      double p95Millis,
+      double p99Millis,
+      double meanMillis,
+      double decodedRowsPerCall,
+      double bootcampsPerCall
+  ) {
+  }
+}
@@ -0,0 +1,78 @@
+package com.example.bootcamp.loadtest;
+
+import com.example.bootcamp.domain.model.BootcampSortField;
+import com.example.bootcamp.domain.model.BootcampTotalMode;
+import com.example.bootcamp.domain.model.SortDirection;
+import org.springframework.util.Assert;
+
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Function;
+
+public record RepositoryBenchmarkSettings(
+    LoadTestSettings.Target target,
+    List<Integer> scales,
+    List<Integer> pageSizes,
+    List<BootcampSortField> sorts,
+    List<SortDirection> directions,
+    List<BootcampTotalMode> totalModes,
+    int iterations,
+    int warmupIterations,
+    int technologies,
+    int capabilities,
+    int technologiesPerCapability,
+    long seed,
+    Path resultsFile
+) {
+
+  public RepositoryBenchmarkSettings {
+    Assert.notNull(target, "Benchmark target must not be null");
+    Assert.notEmpty(scales, "Benchmark scales must not be empty");
+    Assert.isTrue(scales.stream().allMatch(scale -> scale > 0), "Benchmark scales must be greater than 0");
+    Assert.notEmpty(pageSizes, "Benchmark page sizes must not be empty");
+    Assert.isTrue(pageSizes.stream().allMatch(size -> size > 0), "Benchmark page sizes must be greater than 0");
+    Assert.notEmpty(sorts, "Benchmark sorts must not be empty");
+    Assert.notEmpty(directions, "Benchmark directions must not be empty");
+    Assert.notEmpty(totalModes, "Benchmark total modes must not be empty");
+    Assert.isTrue(iterations > 0, "Benchmark iterations must be greater than 0");
+    Assert.isTrue(warmupIterations >= 0, "Benchmark warmup iterations must not be negative");
+    scales = scales.stream().sorted().distinct().toList();
+    pageSizes = List.copyOf(pageSizes);
+    sorts = List.copyOf(sorts);
+    directions = List.copyOf(directions);
+    totalModes = List.copyOf(totalModes);
+  }
+
+  public static RepositoryBenchmarkSettings fromSystemProperties() {
+    return new RepositoryBenchmarkSettings(
+        LoadTestSettings.Target.valueOf(property("benchmark.target", "h2").toUpperCase(Locale.ROOT)),
+        list(property("benchmark.scales", "1000,10000,100000"), Integer::parseInt),
+        list(property("benchmark.page-sizes", "10,50,100"), Integer::parseInt),
+        list(property("benchmark.sorts", "name,capability_count"), value -> BootcampSortField.valueOf(value.toUpperCase(Locale.ROOT))),
+        list(property("benchmark.directions", "asc,desc"), value -> SortDirection.valueOf(value.toUpperCase(Locale.ROOT))),
+        list(property("benchmark.total-modes", "none,exact"), value -> BootcampTotalMode.valueOf(value.toUpperCase(Locale.ROOT))),
+        Integer.parseInt(property("benchmark.iterations", "20")),
+        Integer.parseInt(property("benchmark.warmup-iterations", "5")),
+        Integer.parseInt(property("benchmark.catalog.technologies", "400")),
+        Integer.parseInt(property("benchmark.catalog.capabilities", "200")),
+        Integer.parseInt(property("benchmark.catalog.technologies-per-capability", "4")),
+        Long.parseLong(property("benchmark.seed", "42")),
+        Path.of(property("benchmark.results-file", "build/reports/repository-benchmark/results.json"))
+    );
+  }
+
+  private static <T> List<T> list(String value, Function<String, T> parser) {
+    return Arrays.stream(value.split(","))
+        .map(String::trim)
+        .filter(item -> !item.isEmpty())
+        .map(parser)
+        .toList();
+  }
+
+  private static String property(String name, String defaultValue) {
+    String value = System.getProperty(name);
+    return value == null || value.isBlank() ? defaultValue : value;
+  }
+}
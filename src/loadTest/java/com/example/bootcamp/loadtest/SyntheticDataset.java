@@ -0,0 +1,133 @@
+package com.example.bootcamp.loadtest;
+
+import com.example.bootcamp.domain.model.Bootcamp;
+import org.springframework.util.Assert;
+import reactor.core.publisher.Flux;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+public final class SyntheticDataset {
+
+  public static final String NAME_PREFIX = "loadtest-";
+
+  private static final int TECHNOLOGY = 1;
+  private static final int CAPABILITY = 2;
+  private static final int BOOTCAMP = 3;
+  private static final int MAX_CAPABILITIES_PER_BOOTCAMP = 4;
+  private static final int MAX_DURATION_WEEKS = 24;
+  private static final LocalDate FIRST_LAUNCH_DATE = LocalDate.of(2025, 1, 6);
+
+  private final int technologies;
+  private final int capabilities;
+  private final int technologiesPerCapability;
+  private final long seed;
+
+  public SyntheticDataset(int technologies, int capabilities, int technologiesPerCapability, long seed) {
+    Assert.isTrue(technologies > 0, "Dataset technologies must be greater than 0");
+    Assert.isTrue(capabilities > 0, "Dataset capabilities must be greater than 0");
+    Assert.isTrue(technologiesPerCapability > 0 && technologiesPerCapability <= technologies,
+        "Dataset technologies per capability must be between 1 and the number of technologies");
+    this.technologies = technologies;
+    this.capabilities = capabilities;
+    this.technologiesPerCapability = technologiesPerCapability;
+    this.seed = seed;
+  }
+
+  public NamedRow technology(int index) {
+    return new NamedRow(id(TECHNOLOGY, index), NAME_PREFIX + "tech-" + index, "Synthetic technology " + index);
+  }
+
+  public NamedRow capability(int index) {
+    return new NamedRow(id(CAPABILITY, index), NAME_PREFIX + "capability-" + index, "Synthetic capability " + index);
+  }
+
+  public List<Link> capabilityLinks(int index) {
+    SplittableRandom random = random(CAPABILITY, index);
+    String capabilityId = id(CAPABILITY, index);
+    return distinct(random, technologies, technologiesPerCapability).stream()
+        .map(technology -> new Link(capabilityId, id(TECHNOLOGY, technology)))
+        .toList();
+  }
+
+  public Bootcamp bootcamp(int index) {
+    SplittableRandom random = random(BOOTCAMP, index);
+    int capabilityCount = 1 + random.nextInt(Math.min(MAX_CAPABILITIES_PER_BOOTCAMP, capabilities));
+    List<String> capabilityIds = distinct(random, capabilities, capabilityCount).stream()
+        .map(capability -> id(CAPABILITY, capability))
+        .toList();
+    return new Bootcamp(
+        bootcampId(index),
+        String.format("%sseed-%07d", NAME_PREFIX, index),
+        "Synthetic bootcamp " + index,
+        FIRST_LAUNCH_DATE.plusDays(random.nextInt(365)),
+        1 + random.nextInt(MAX_DURATION_WEEKS),
+        capabilityIds
+    );
+  }
+
+  public String bootcampId(int index) {
+    return id(BOOTCAMP, index);
+  }
+
+  public List<NamedRow> technologies() {
+    return IntStream.range(0, technologies).mapToObj(this::technology).toList();
+  }
+
+  public List<NamedRow> capabilities() {
+    return IntStream.range(0, capabilities).mapToObj(this::capability).toList();
+  }
+
+  public List<String> capabilityIds() {
+    return IntStream.range(0, capabilities).mapToObj(index -> id(CAPABILITY, index)).toList();
+  }
+
+  public List<Link> links() {
+    return IntStream.range(0, capabilities).boxed().flatMap(index -> capabilityLinks(index).stream()).toList();
+  }
+
+  public List<String> bootcampIds(int fromInclusive, int toExclusive) {
+    return IntStream.range(fromInclusive, toExclusive).mapToObj(this::bootcampId).toList();
+  }
+
+  public Flux<List<Bootcamp>> bootcamps(int fromInclusive, int toExclusive, int chunkSize) {
+    return Flux.range(fromInclusive, Math.max(0, toExclusive - fromInclusive))
+        .map(this::bootcamp)
+        .buffer(chunkSize);
+  }
+
+  private String id(int kind, int index) {
+    return new UUID(mix(seed, kind), ((long) kind << 32) | index).toString();
+  }
+
+  private SplittableRandom random(int kind, int index) {
+    return new SplittableRandom(mix(seed, kind) + index);
+  }
+
+  private static long mix(long seed, int kind) {
+    long z = seed + kind * 0x9E3779B97F4A7C15L;
+    z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+    z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+    return z ^ (z >>> 31);
+  }
+
+  static List<Integer> distinct(SplittableRandom random, int bound, int count) {
+    Set<Integer> picked = new LinkedHashSet<>();
+    while (picked.size() < count) {
+      picked.add(random.nextInt(bound));
+    }
+    return new ArrayList<>(picked);
+  }
+
+  public record NamedRow(String id, String name, String description) {
+  }
+
+  public record Link(String capabilityId, String technologyId) {
+  }
+}
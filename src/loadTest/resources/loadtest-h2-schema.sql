@@ -0,0 +1,85 @@
+CREATE SCHEMA IF NOT EXISTS bootcamp;
+
+CREATE TABLE IF NOT EXISTS bootcamp.technologies (
+    id VARCHAR(36) PRIMARY KEY,
+    name VARCHAR(50) NOT NULL,
+    description VARCHAR(90) NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS bootcamp.capabilities (
+    id VARCHAR(36) PRIMARY KEY,
+    name VARCHAR(100) NOT NULL,
+    description VARCHAR(65535) NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS bootcamp.capability_technology (
+    capability_id VARCHAR(36) NOT NULL,
+    technology_id VARCHAR(36) NOT NULL,
+    PRIMARY KEY (capability_id, technology_id),
+    FOREIGN KEY (capability_id) REFERENCES bootcamp.capabilities(id) ON DELETE CASCADE,
+    FOREIGN KEY (technology_id) REFERENCES bootcamp.technologies(id) ON DELETE CASCADE
+);
+
+CREATE TABLE IF NOT EXISTS bootcamp.bootcamps (
+    id VARCHAR(36) PRIMARY KEY,
+    name VARCHAR(100) NOT NULL,
+    description VARCHAR(65535) NOT NULL,
+    launch_date DATE NOT NULL,
+    duration_weeks INT NOT NULL
+);
+
+CREATE UNIQUE INDEX IF NOT EXISTS ux_bootcamps_name ON bootcamp.bootcamps (name);
+
+CREATE TABLE IF NOT EXISTS bootcamp.bootcamp_capability (
+    bootcamp_id VARCHAR(36) NOT NULL,
+    capability_id VARCHAR(36) NOT NULL,
+    PRIMARY KEY (bootcamp_id, capability_id),
+    FOREIGN KEY (bootcamp_id) REFERENCES bootcamp.bootcamps(id) ON DELETE CASCADE,
+    FOREIGN KEY (capability_id) REFERENCES bootcamp.capabilities(id) ON DELETE CASCADE
+);
+
+CREATE TABLE IF NOT EXISTS bootcamp.bootcamp_read_model (
+    id VARCHAR(36) PRIMARY KEY,
+    name VARCHAR(100) NOT NULL,
+    description VARCHAR(65535) NOT NULL,
+    launch_date DATE NOT NULL,
+    duration_weeks INT NOT NULL,
+    capability_count INT NOT NULL,
+    technology_count INT NOT NULL,
+    FOREIGN KEY (id) REFERENCES bootcamp.bootcamps(id) ON DELETE CASCADE
+);
+
+CREATE INDEX IF NOT EXISTS idx_bootcamp_read_model_name ON bootcamp.bootcamp_read_model (name, id);
+CREATE INDEX IF NOT EXISTS idx_bootcamp_read_model_capability_count ON bootcamp.bootcamp_read_model (capability_count, id);
+CREATE INDEX IF NOT EXISTS idx_bootcamp_read_model_launch_date ON bootcamp.bootcamp_read_model (launch_date, id);
+
+CREATE TABLE IF NOT EXISTS bootcamp.report_outbox (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    bootcamp_id VARCHAR(36) NOT NULL,
+    payload VARCHAR(1000000) NOT NULL,
+    attempts INT NOT NULL DEFAULT 0,
+    created_at TIMESTAMP(3) NOT NULL,
+    next_attempt_at TIMESTAMP(3) NOT NULL,
+    locked_by VARCHAR(64) NULL,
+    locked_until TIMESTAMP(3) NULL,
+    failed_at TIMESTAMP(3) NULL,
+    last_error VARCHAR(500) NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_report_outbox_due ON bootcamp.report_outbox (failed_at, next_attempt_at, id);
+CREATE INDEX IF NOT EXISTS idx_report_outbox_lock ON bootcamp.report_outbox (locked_by, locked_until);
+
+CREATE TABLE IF NOT EXISTS bootcamp.bootcamp_data_version (
+    id TINYINT PRIMARY KEY,
+    version BIGINT NOT NULL
+);
+
+MERGE INTO bootcamp.bootcamp_data_version (id, version) KEY (id) VALUES (1, 0);
+
+CREATE ALIAS IF NOT EXISTS bootcamp.delete_bootcamp AS '
+int deleteBootcamp(java.sql.Connection connection, String bootcampId) throws java.sql.SQLException {
+    try (java.sql.PreparedStatement statement = connection.prepareStatement("DELETE FROM bootcamp.bootcamps WHERE id = ?")) {
+        statement.setString(1, bootcampId);
+        return statement.executeUpdate();
+    }
+}';
@@ -15,7 +15,11 @@ public class RouterConfig {
     return RouterFunctions.nest(RequestPredicates.path("/api/v1"),
       RouterFunctions.route()
         .POST("/bootcamp", h::createBootcamp)
+        .POST("/bootcamp/batch", h::createBootcampBatch)
+        .GET("/bootcamp/export", h::exportBootcamps)
         .GET("/bootcamp", h::getAllBootcamp)
+        .GET("/bootcamp/{id}", h::getBootcamp)
+        .DELETE("/bootcamp", h::deleteBootcamps)
         .DELETE("/bootcamp/{id}", h::deleteBootcamp)
         .build()
     );
@@ -1,10 +1,17 @@
 package com.example.bootcamp.application.config;
 
+import com.example.bootcamp.domain.usecase.CreateBootcampBatchUseCase;
 import com.example.bootcamp.domain.usecase.CreateBootcampUseCase;
 import com.example.bootcamp.domain.usecase.DeleteBootcampUseCase;
+import com.example.bootcamp.domain.usecase.ExportBootcampUseCase;
+import com.example.bootcamp.domain.usecase.GetBootcampUseCase;
 import com.example.bootcamp.domain.usecase.ListBootcampUseCase;
-import com.example.bootcamp.infrastructure.client.BootcampReportClient;
+import com.example.bootcamp.infrastructure.outbox.BootcampReportOutbox;
+import com.example.bootcamp.infrastructure.repository.BootcampDataVersion;
+import com.example.bootcamp.infrastructure.repository.BootcampPageCache;
+import com.example.bootcamp.infrastructure.repository.BootcampSummaryCache;
 import com.example.bootcamp.infrastructure.repository.SpringDataBootcampRepository;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -12,18 +19,51 @@ import org.springframework.context.annotation.Configuration;
 public class UseCasesConfig {
 
     @Bean
-    public CreateBootcampUseCase createBootcampUseCase(SpringDataBootcampRepository repo, BootcampReportClient client) {
-        return new CreateBootcampUseCase(repo, client);
+    public CreateBootcampUseCase createBootcampUseCase(
+            SpringDataBootcampRepository repo,
+            BootcampReportOutbox reportOutbox
+    ) {
+        return new CreateBootcampUseCase(repo, reportOutbox);
     }
 
     @Bean
-    public ListBootcampUseCase listBootcampUseCase(SpringDataBootcampRepository repo) {
-        return new ListBootcampUseCase(repo);
+    public CreateBootcampBatchUseCase createBootcampBatchUseCase(
+            SpringDataBootcampRepository repo,
+            BootcampReportOutbox reportOutbox,
+            @Value("${app.bootcamp.batch.max-size:100}") int maxBatchSize
+    ) {
+        return new CreateBootcampBatchUseCase(repo, reportOutbox, maxBatchSize);
     }
 
     @Bean
-    public DeleteBootcampUseCase deleteBootcampUseCase(SpringDataBootcampRepository repo) {
-        return new DeleteBootcampUseCase(repo);
+    public ListBootcampUseCase listBootcampUseCase(
+            SpringDataBootcampRepository repo,
+            BootcampPageCache pageCache,
+            BootcampDataVersion dataVersion
+    ) {
+        return new ListBootcampUseCase(repo, pageCache, dataVersion);
+    }
+
+    @Bean
+    public GetBootcampUseCase getBootcampUseCase(
+            SpringDataBootcampRepository repo,
+            BootcampSummaryCache summaryCache,
+            BootcampDataVersion dataVersion
+    ) {
+        return new GetBootcampUseCase(repo, summaryCache, dataVersion);
+    }
+
+    @Bean
+    public ExportBootcampUseCase exportBootcampUseCase(SpringDataBootcampRepository repo) {
+        return new ExportBootcampUseCase(repo);
+    }
+
+    @Bean
+    public DeleteBootcampUseCase deleteBootcampUseCase(
+            SpringDataBootcampRepository repo,
+            @Value("${app.bootcamp.batch.max-size:100}") int maxBatchSize
+    ) {
+        return new DeleteBootcampUseCase(repo, maxBatchSize);
     }
 }
 
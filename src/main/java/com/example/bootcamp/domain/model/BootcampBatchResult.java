@@ -0,0 +1,24 @@
+package com.example.bootcamp.domain.model;
+
+import com.example.bootcamp.domain.error.ErrorCodes;
+
+public record BootcampBatchResult(int index, String id, ErrorCodes error, String message) {
+
+    public BootcampBatchResult {
+        if (index < 0) {
+            throw new IllegalArgumentException("invalid.bootcamp.batch.index");
+        }
+    }
+
+    public static BootcampBatchResult created(int index, String id) {
+        return new BootcampBatchResult(index, id, null, null);
+    }
+
+    public static BootcampBatchResult failed(int index, ErrorCodes error, String message) {
+        return new BootcampBatchResult(index, null, error, message);
+    }
+
+    public boolean succeeded() {
+        return error == null;
+    }
+}
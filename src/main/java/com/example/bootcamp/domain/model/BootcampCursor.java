@@ -0,0 +1,51 @@
+package com.example.bootcamp.domain.model;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Objects;
+
+public record BootcampCursor(
+        BootcampSortField sortBy,
+        SortDirection direction,
+        String sortKey,
+        String id
+) {
+    private static final String INVALID_CURSOR = "invalid.pagination.cursor";
+    private static final String SEPARATOR = ":";
+
+    public BootcampCursor {
+        if (sortBy == null || direction == null || sortKey == null || id == null || id.isBlank() || id.contains(SEPARATOR)) {
+            throw new IllegalArgumentException(INVALID_CURSOR);
+        }
+        if (sortBy == BootcampSortField.CAPABILITY_COUNT && !sortKey.matches("\\d{1,9}")) {
+            throw new IllegalArgumentException(INVALID_CURSOR);
+        }
+    }
+
+    public static BootcampCursor after(BootcampSortField sortBy, SortDirection direction, BootcampSummary last) {
+        Objects.requireNonNull(last, "invalid.pagination.cursor.last");
+        String sortKey = switch (sortBy) {
+            case NAME -> last.name();
+            case CAPABILITY_COUNT -> String.valueOf(last.capabilityCount());
+        };
+        return new BootcampCursor(sortBy, direction, sortKey, last.id());
+    }
+
+    public static BootcampCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split(SEPARATOR, 4);
+            if (parts.length != 4) {
+                throw new IllegalArgumentException(INVALID_CURSOR);
+            }
+            return new BootcampCursor(BootcampSortField.valueOf(parts[0]), SortDirection.valueOf(parts[1]), parts[3], parts[2]);
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException(INVALID_CURSOR);
+        }
+    }
+
+    public String encode() {
+        String raw = sortBy.name() + SEPARATOR + direction.name() + SEPARATOR + id + SEPARATOR + sortKey;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
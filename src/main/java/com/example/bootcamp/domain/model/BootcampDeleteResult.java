@@ -0,0 +1,24 @@
+package com.example.bootcamp.domain.model;
+
+import com.example.bootcamp.domain.error.ErrorCodes;
+
+import java.util.Objects;
+
+public record BootcampDeleteResult(String id, ErrorCodes error, String message) {
+
+    public BootcampDeleteResult {
+        id = Objects.requireNonNull(id, "invalid.bootcamp.delete.id");
+    }
+
+    public static BootcampDeleteResult deleted(String id) {
+        return new BootcampDeleteResult(id, null, null);
+    }
+
+    public static BootcampDeleteResult notFound(String id) {
+        return new BootcampDeleteResult(id, ErrorCodes.BOOTCAMP_NOT_FOUND, "bootcamp.not.found");
+    }
+
+    public boolean succeeded() {
+        return error == null;
+    }
+}
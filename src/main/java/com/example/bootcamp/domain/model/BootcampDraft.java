@@ -0,0 +1,16 @@
+package com.example.bootcamp.domain.model;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public record BootcampDraft(
+        String name,
+        String description,
+        LocalDate launchDate,
+        int durationWeeks,
+        List<String> capabilities
+) {
+    public Bootcamp toBootcamp(String id) {
+        return new Bootcamp(id, name, description, launchDate, durationWeeks, capabilities);
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.bootcamp.domain.model;
+
+import java.time.LocalDate;
+
+public record BootcampExportFilter(
+        LocalDate launchedFrom,
+        LocalDate launchedTo
+) {
+    public BootcampExportFilter {
+        if (launchedFrom != null && launchedTo != null && launchedFrom.isAfter(launchedTo)) {
+            throw new IllegalArgumentException("invalid.export.launch.date.range");
+        }
+    }
+
+    public static BootcampExportFilter all() {
+        return new BootcampExportFilter(null, null);
+    }
+}
@@ -6,19 +6,57 @@ public record BootcampPageRequest(
         int page,
         int size,
         BootcampSortField sortBy,
-        SortDirection direction
+        SortDirection direction,
+        BootcampCursor cursor,
+        BootcampTotalMode totalMode,
+        BootcampView view
 ) {
+    public static final int MAX_SIZE = 100;
+
     private static final String INVALID_PAGE = "invalid.pagination.page";
     private static final String INVALID_SIZE = "invalid.pagination.size";
+    private static final String INVALID_CURSOR = "invalid.pagination.cursor";
 
     public BootcampPageRequest {
         if (page < 0) {
             throw new IllegalArgumentException(INVALID_PAGE);
         }
-        if (size <= 0) {
+        if (size <= 0 || size > MAX_SIZE) {
             throw new IllegalArgumentException(INVALID_SIZE);
         }
         sortBy = Objects.requireNonNull(sortBy, "invalid.pagination.sort.by");
         direction = Objects.requireNonNull(direction, "invalid.pagination.direction");
+        if (cursor != null && (cursor.sortBy() != sortBy || cursor.direction() != direction)) {
+            throw new IllegalArgumentException(INVALID_CURSOR);
+        }
+        totalMode = Objects.requireNonNull(totalMode, "invalid.pagination.total.mode");
+        view = Objects.requireNonNull(view, "invalid.pagination.view");
+    }
+
+    public BootcampPageRequest(int page, int size, BootcampSortField sortBy, SortDirection direction) {
+        this(page, size, sortBy, direction, null);
+    }
+
+    public BootcampPageRequest(int page, int size, BootcampSortField sortBy, SortDirection direction, BootcampCursor cursor) {
+        this(page, size, sortBy, direction, cursor, BootcampTotalMode.EXACT);
+    }
+
+    public BootcampPageRequest(
+            int page,
+            int size,
+            BootcampSortField sortBy,
+            SortDirection direction,
+            BootcampCursor cursor,
+            BootcampTotalMode totalMode
+    ) {
+        this(page, size, sortBy, direction, cursor, totalMode, BootcampView.FULL);
+    }
+
+    public boolean compact() {
+        return view == BootcampView.COMPACT;
+    }
+
+    public boolean keyset() {
+        return cursor != null;
     }
 }
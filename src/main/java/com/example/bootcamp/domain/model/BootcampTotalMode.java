@@ -0,0 +1,7 @@
+package com.example.bootcamp.domain.model;
+
+public enum BootcampTotalMode {
+    EXACT,
+    ESTIMATE,
+    NONE
+}
@@ -0,0 +1,6 @@
+package com.example.bootcamp.domain.model;
+
+public enum BootcampView {
+    FULL,
+    COMPACT
+}
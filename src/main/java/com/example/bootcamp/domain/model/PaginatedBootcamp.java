@@ -7,9 +7,21 @@ public record PaginatedBootcamp(
         int page,
         int size,
         long totalElements,
-        int totalPages
+        int totalPages,
+        boolean hasNext,
+        String nextCursor
 ) {
+    public static final long UNKNOWN_TOTAL = -1;
+
     public PaginatedBootcamp {
         content = List.copyOf(content);
     }
+
+    public PaginatedBootcamp(List<BootcampSummary> content, int page, int size, long totalElements, int totalPages) {
+        this(content, page, size, totalElements, totalPages, page + 1 < totalPages, null);
+    }
+
+    public boolean totalKnown() {
+        return totalElements != UNKNOWN_TOTAL;
+    }
 }
@@ -0,0 +1,139 @@
+package com.example.bootcamp.domain.usecase;
+
+import com.example.bootcamp.domain.error.DomainException;
+import com.example.bootcamp.domain.error.ErrorCodes;
+import com.example.bootcamp.domain.model.Bootcamp;
+import com.example.bootcamp.domain.model.BootcampBatchResult;
+import com.example.bootcamp.domain.model.BootcampDraft;
+import com.example.bootcamp.domain.model.BootcampSummary;
+import com.example.bootcamp.infrastructure.client.BootcampReportRequest;
+import com.example.bootcamp.infrastructure.outbox.BootcampReportOutbox;
+import com.example.bootcamp.infrastructure.repository.SpringDataBootcampRepository;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+public class CreateBootcampBatchUseCase {
+  private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+
+  private final SpringDataBootcampRepository repo;
+  private final BootcampReportOutbox reportOutbox;
+  private final int maxBatchSize;
+
+  public CreateBootcampBatchUseCase(
+      SpringDataBootcampRepository repo,
+      BootcampReportOutbox reportOutbox,
+      int maxBatchSize
+  ) {
+    if (maxBatchSize <= 0) {
+      throw new IllegalArgumentException("invalid.bootcamp.batch.max.size");
+    }
+    this.repo = repo;
+    this.reportOutbox = reportOutbox;
+    this.maxBatchSize = maxBatchSize;
+  }
+
+  public Mono<List<BootcampBatchResult>> execute(List<BootcampDraft> drafts) {
+    if (drafts == null || drafts.isEmpty()) {
+      return Mono.error(new DomainException(ErrorCodes.VALIDATION_ERROR, "invalid.bootcamp.batch.empty"));
+    }
+    if (drafts.size() > maxBatchSize) {
+      return Mono.error(new DomainException(ErrorCodes.VALIDATION_ERROR, "invalid.bootcamp.batch.size"));
+    }
+
+    List<BootcampBatchResult> invalid = new ArrayList<>();
+    Map<Integer, Bootcamp> candidates = new LinkedHashMap<>();
+    Set<String> names = new HashSet<>();
+    for (int index = 0; index < drafts.size(); index++) {
+      Bootcamp bootcamp;
+      try {
+        bootcamp = drafts.get(index).toBootcamp(UUID.randomUUID().toString());
+      } catch (IllegalArgumentException ex) {
+        invalid.add(BootcampBatchResult.failed(index, ErrorCodes.VALIDATION_ERROR, ex.getMessage()));
+        continue;
+      }
+      if (!names.add(normalize(bootcamp.name()))) {
+        invalid.add(BootcampBatchResult.failed(index, ErrorCodes.CONFLICT, "bootcamp.name.duplicated.in.batch"));
+        continue;
+      }
+      candidates.put(index, bootcamp);
+    }
+    List<BootcampBatchResult> rejected = List.copyOf(invalid);
+    if (candidates.isEmpty()) {
+      return Mono.just(rejected);
+    }
+
+    List<String> candidateNames = candidates.values().stream().map(Bootcamp::name).toList();
+    return repo.findExistingNames(candidateNames)
+        .map(CreateBootcampBatchUseCase::normalize)
+        .collect(Collectors.toSet())
+        .flatMap(existing -> {
+          Map<Integer, Bootcamp> accepted = new LinkedHashMap<>();
+          List<BootcampBatchResult> conflicts = new ArrayList<>();
+          candidates.forEach((index, bootcamp) -> {
+            if (existing.contains(normalize(bootcamp.name()))) {
+              conflicts.add(BootcampBatchResult.failed(index, ErrorCodes.CONFLICT, "bootcamp.name.already.exists"));
+            } else {
+              accepted.put(index, bootcamp);
+            }
+          });
+          return Flux.concat(Flux.fromIterable(rejected), Flux.fromIterable(conflicts), createAll(accepted))
+              .sort(Comparator.comparingInt(BootcampBatchResult::index))
+              .collectList();
+        });
+  }
+
+  private Flux<BootcampBatchResult> createAll(Map<Integer, Bootcamp> accepted) {
+    if (accepted.isEmpty()) {
+      return Flux.empty();
+    }
+    return repo.summarizeAll(List.copyOf(accepted.values()))
+        .collectList()
+        .flatMapMany(summaries -> {
+          Map<Integer, Bootcamp> resolved = new LinkedHashMap<>();
+          List<BootcampReportRequest> reports = new ArrayList<>(summaries.size());
+          List<BootcampBatchResult> unknown = new ArrayList<>();
+          int position = 0;
+          for (Map.Entry<Integer, Bootcamp> entry : accepted.entrySet()) {
+            BootcampSummary summary = summaries.get(position++);
+            if (CreateBootcampUseCase.resolvesAllCapabilities(entry.getValue(), summary)) {
+              resolved.put(entry.getKey(), entry.getValue());
+              reports.add(BootcampReportRequest.from(entry.getValue(), summary));
+            } else {
+              unknown.add(BootcampBatchResult.failed(entry.getKey(), ErrorCodes.VALIDATION_ERROR, CreateBootcampUseCase.UNKNOWN_CAPABILITIES));
+            }
+          }
+          return Flux.concat(Flux.fromIterable(unknown), saveAll(resolved, reports));
+        });
+  }
+
+  private Flux<BootcampBatchResult> saveAll(Map<Integer, Bootcamp> resolved, List<BootcampReportRequest> reports) {
+    if (resolved.isEmpty()) {
+      return Flux.empty();
+    }
+    return repo.saveAll(List.copyOf(resolved.values()), reportOutbox.enqueueAll(reports))
+        .onErrorMap(DuplicateKeyException.class, ex -> new DomainException(ErrorCodes.CONFLICT, "bootcamp.name.already.exists"))
+        .onErrorMap(DataIntegrityViolationException.class, ex ->
+            new DomainException(ErrorCodes.VALIDATION_ERROR, CreateBootcampUseCase.UNKNOWN_CAPABILITIES))
+        .flatMapMany(saved -> Flux.fromIterable(resolved.entrySet())
+            .map(entry -> BootcampBatchResult.created(entry.getKey(), entry.getValue().id())));
+  }
+
+  private static String normalize(String name) {
+    return COMBINING_MARKS.matcher(Normalizer.normalize(name, Normalizer.Form.NFD)).replaceAll("").toLowerCase(Locale.ROOT);
+  }
+}
@@ -3,8 +3,11 @@ package com.example.bootcamp.domain.usecase;
 import com.example.bootcamp.domain.error.DomainException;
 import com.example.bootcamp.domain.error.ErrorCodes;
 import com.example.bootcamp.domain.model.Bootcamp;
-import com.example.bootcamp.infrastructure.client.BootcampReportClient;
+import com.example.bootcamp.domain.model.BootcampSummary;
+import com.example.bootcamp.infrastructure.outbox.BootcampReportOutbox;
 import com.example.bootcamp.infrastructure.repository.SpringDataBootcampRepository;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
 import reactor.core.publisher.Mono;
 
 import java.time.LocalDate;
@@ -12,29 +15,33 @@ import java.util.List;
 import java.util.UUID;
 
 public class CreateBootcampUseCase {
+  static final String UNKNOWN_CAPABILITIES = "invalid.bootcamp.capabilities.unknown";
+
   private final SpringDataBootcampRepository repo;
-  private final BootcampReportClient reportClient;
+  private final BootcampReportOutbox reportOutbox;
 
-  public CreateBootcampUseCase(SpringDataBootcampRepository repo, BootcampReportClient reportClient) {
+  public CreateBootcampUseCase(SpringDataBootcampRepository repo, BootcampReportOutbox reportOutbox) {
     this.repo = repo;
-    this.reportClient = reportClient;
+    this.reportOutbox = reportOutbox;
   }
   public Mono<Bootcamp> execute(String name, String description, LocalDate launchDate, int durationWeeks, List<String> capabilities) {
-    return repo.findByName(name)
-        .flatMap(existing -> Mono.<Bootcamp>error(
-            new DomainException(ErrorCodes.CONFLICT, "bootcamp.name.already.exists")
-        ))
-        .switchIfEmpty(Mono.defer(() -> {
-          try {
-            Bootcamp bootcamp = new Bootcamp(UUID.randomUUID().toString(), name, description, launchDate, durationWeeks, capabilities);
-            return repo.save(bootcamp)
-                .flatMap(saved -> repo.findSummaryById(saved.id())
-                    .switchIfEmpty(Mono.error(new DomainException(ErrorCodes.INTERNAL, "bootcamp.summary.not.found")))
-                    .flatMap(summary -> reportClient.sendBootcampReport(saved, summary).thenReturn(saved))
-                );
-          } catch (IllegalArgumentException ex) {
-            return Mono.error(new DomainException(ErrorCodes.VALIDATION_ERROR, ex.getMessage()));
-          }
-        }));
+    return Mono.defer(() -> {
+      Bootcamp bootcamp;
+      try {
+        bootcamp = new Bootcamp(UUID.randomUUID().toString(), name, description, launchDate, durationWeeks, capabilities);
+      } catch (IllegalArgumentException ex) {
+        return Mono.error(new DomainException(ErrorCodes.VALIDATION_ERROR, ex.getMessage()));
+      }
+      return repo.summarize(bootcamp)
+          .flatMap(summary -> resolvesAllCapabilities(bootcamp, summary)
+              ? repo.save(bootcamp, reportOutbox.enqueue(bootcamp, summary))
+              : Mono.error(new DomainException(ErrorCodes.VALIDATION_ERROR, UNKNOWN_CAPABILITIES)))
+          .onErrorMap(DuplicateKeyException.class, ex -> new DomainException(ErrorCodes.CONFLICT, "bootcamp.name.already.exists"))
+          .onErrorMap(DataIntegrityViolationException.class, ex -> new DomainException(ErrorCodes.VALIDATION_ERROR, UNKNOWN_CAPABILITIES));
+    });
+  }
+
+  static boolean resolvesAllCapabilities(Bootcamp bootcamp, BootcampSummary summary) {
+    return summary.capabilities().size() == bootcamp.capabilities().size();
   }
 }
@@ -2,19 +2,50 @@ package com.example.bootcamp.domain.usecase;
 
 import com.example.bootcamp.domain.error.DomainException;
 import com.example.bootcamp.domain.error.ErrorCodes;
+import com.example.bootcamp.domain.model.BootcampDeleteResult;
 import com.example.bootcamp.infrastructure.repository.SpringDataBootcampRepository;
 import reactor.core.publisher.Mono;
 
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
 public class DeleteBootcampUseCase {
   private final SpringDataBootcampRepository repository;
+  private final int maxBatchSize;
 
-  public DeleteBootcampUseCase(SpringDataBootcampRepository repository) {
+  public DeleteBootcampUseCase(SpringDataBootcampRepository repository, int maxBatchSize) {
+    if (maxBatchSize <= 0) {
+      throw new IllegalArgumentException("invalid.bootcamp.batch.max.size");
+    }
     this.repository = repository;
+    this.maxBatchSize = maxBatchSize;
   }
 
   public Mono<Void> execute(String bootcampId) {
-    return repository.findById(bootcampId)
-        .switchIfEmpty(Mono.error(new DomainException(ErrorCodes.BOOTCAMP_NOT_FOUND, "bootcamp.not.found")))
-        .flatMap(bootcamp -> repository.deleteById(bootcamp.id()));
+    return repository.deleteById(bootcampId)
+        .flatMap(deleted -> deleted
+            ? Mono.<Void>empty()
+            : Mono.<Void>error(new DomainException(ErrorCodes.BOOTCAMP_NOT_FOUND, "bootcamp.not.found")));
+  }
+
+  public Mono<List<BootcampDeleteResult>> executeAll(List<String> bootcampIds) {
+    if (bootcampIds == null || bootcampIds.isEmpty()) {
+      return Mono.error(new DomainException(ErrorCodes.VALIDATION_ERROR, "invalid.bootcamp.delete.ids.empty"));
+    }
+    Set<String> ids = new LinkedHashSet<>();
+    for (String bootcampId : bootcampIds) {
+      if (bootcampId == null || bootcampId.isBlank()) {
+        return Mono.error(new DomainException(ErrorCodes.VALIDATION_ERROR, "invalid.bootcamp.delete.ids.blank"));
+      }
+      ids.add(bootcampId.trim());
+    }
+    if (ids.size() > maxBatchSize) {
+      return Mono.error(new DomainException(ErrorCodes.VALIDATION_ERROR, "invalid.bootcamp.delete.ids.size"));
+    }
+    return repository.deleteByIds(ids)
+        .map(deleted -> ids.stream()
+            .map(id -> deleted.contains(id) ? BootcampDeleteResult.deleted(id) : BootcampDeleteResult.notFound(id))
+            .toList());
   }
 }
@@ -0,0 +1,19 @@
+package com.example.bootcamp.domain.usecase;
+
+import com.example.bootcamp.domain.model.BootcampExportFilter;
+import com.example.bootcamp.domain.model.BootcampSummary;
+import com.example.bootcamp.infrastructure.repository.SpringDataBootcampRepository;
+import reactor.core.publisher.Flux;
+
+public class ExportBootcampUseCase {
+
+    private final SpringDataBootcampRepository repository;
+
+    public ExportBootcampUseCase(SpringDataBootcampRepository repository) {
+        this.repository = repository;
+    }
+
+    public Flux<BootcampSummary> execute(BootcampExportFilter filter) {
+        return repository.streamAll(filter);
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.bootcamp.domain.usecase;
+
+import com.example.bootcamp.domain.error.DomainException;
+import com.example.bootcamp.domain.error.ErrorCodes;
+import com.example.bootcamp.domain.model.BootcampSummary;
+import com.example.bootcamp.infrastructure.repository.BootcampDataVersion;
+import com.example.bootcamp.infrastructure.repository.BootcampSummaryCache;
+import com.example.bootcamp.infrastructure.repository.SpringDataBootcampRepository;
+import reactor.core.publisher.Mono;
+
+public class GetBootcampUseCase {
+  private final SpringDataBootcampRepository repository;
+  private final BootcampSummaryCache summaryCache;
+  private final BootcampDataVersion dataVersion;
+
+  public GetBootcampUseCase(SpringDataBootcampRepository repository, BootcampSummaryCache summaryCache, BootcampDataVersion dataVersion) {
+    this.repository = repository;
+    this.summaryCache = summaryCache;
+    this.dataVersion = dataVersion;
+  }
+
+  public Mono<BootcampSummary> execute(String bootcampId) {
+    return dataVersion.current().flatMap(version -> execute(version, bootcampId));
+  }
+
+  public Mono<BootcampSummary> execute(String dataVersion, String bootcampId) {
+    return summaryCache.get(dataVersion, bootcampId, repository::findSummaryById)
+        .switchIfEmpty(Mono.error(new DomainException(ErrorCodes.BOOTCAMP_NOT_FOUND, "bootcamp.not.found")));
+  }
+}
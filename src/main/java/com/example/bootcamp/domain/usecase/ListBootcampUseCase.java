@@ -2,18 +2,28 @@ package com.example.bootcamp.domain.usecase;
 
 import com.example.bootcamp.domain.model.BootcampPageRequest;
 import com.example.bootcamp.domain.model.PaginatedBootcamp;
+import com.example.bootcamp.infrastructure.repository.BootcampDataVersion;
+import com.example.bootcamp.infrastructure.repository.BootcampPageCache;
 import com.example.bootcamp.infrastructure.repository.SpringDataBootcampRepository;
 import reactor.core.publisher.Mono;
 
 public class ListBootcampUseCase {
 
     private final SpringDataBootcampRepository repository;
+    private final BootcampPageCache pageCache;
+    private final BootcampDataVersion dataVersion;
 
-    public ListBootcampUseCase(SpringDataBootcampRepository repository) {
+    public ListBootcampUseCase(SpringDataBootcampRepository repository, BootcampPageCache pageCache, BootcampDataVersion dataVersion) {
         this.repository = repository;
+        this.pageCache = pageCache;
+        this.dataVersion = dataVersion;
     }
 
     public Mono<PaginatedBootcamp> execute(BootcampPageRequest request) {
-        return repository.findAll(request);
+        return dataVersion.current().flatMap(version -> execute(version, request));
+    }
+
+    public Mono<PaginatedBootcamp> execute(String dataVersion, BootcampPageRequest request) {
+        return pageCache.get(dataVersion, request, repository::findAll);
     }
 }
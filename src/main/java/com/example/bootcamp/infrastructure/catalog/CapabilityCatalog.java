@@ -0,0 +1,197 @@
+package com.example.bootcamp.infrastructure.catalog;
+
+import com.example.bootcamp.domain.model.CapabilitySummary;
+import com.example.bootcamp.infrastructure.repository.support.BootcampRepositorySupport.CapabilityTechnologyRow;
+import com.example.bootcamp.infrastructure.repository.support.BootcampSummaryAssembler;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import static com.example.bootcamp.infrastructure.repository.support.BootcampRepositorySupport.*;
+
+@Component
+public class CapabilityCatalog {
+
+  private static final Logger log = LoggerFactory.getLogger(CapabilityCatalog.class);
+  private static final Duration MISS_RELOAD_MIN_INTERVAL = Duration.ofSeconds(1);
+  private static final byte FIELD_SEPARATOR = 0x1F;
+  private static final byte RECORD_SEPARATOR = 0x1E;
+
+  private final Supplier<Flux<CapabilitySummary>> loader;
+  private final Duration refreshInterval;
+  private final Clock clock;
+  private final AtomicReference<Snapshot> snapshot = new AtomicReference<>(Snapshot.EMPTY);
+  private final AtomicReference<Mono<Snapshot>> inFlight = new AtomicReference<>();
+  private volatile Disposable refreshTask;
+
+  @Autowired
+  public CapabilityCatalog(
+      R2dbcEntityTemplate template,
+      @Value("${app.catalog.refresh-interval:5m}") Duration refreshInterval
+  ) {
+    this(() -> BootcampSummaryAssembler.capabilities(template.getDatabaseClient()
+        .sql(SELECT_CAPABILITY_CATALOG)
+        .map((row, metadata) -> new CapabilityTechnologyRow(
+            row.get(COLUMN_CAPABILITY_ID, String.class),
+            row.get(COLUMN_CAPABILITY_NAME, String.class),
+            row.get(COLUMN_CAPABILITY_DESCRIPTION, String.class),
+            row.get(COLUMN_TECHNOLOGY_ID, String.class),
+            row.get(COLUMN_TECHNOLOGY_NAME, String.class)
+        ))
+        .all()), refreshInterval, Clock.systemUTC());
+  }
+
+  CapabilityCatalog(Supplier<Flux<CapabilitySummary>> loader, Duration refreshInterval, Clock clock) {
+    this.loader = loader;
+    this.refreshInterval = refreshInterval;
+    this.clock = clock;
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void start() {
+    refreshTask = Flux.interval(Duration.ZERO, refreshInterval)
+        .onBackpressureDrop()
+        .concatMap(tick -> refresh()
+            .onErrorResume(ex -> {
+              log.warn("capability catalog refresh failed", ex);
+              return Mono.empty();
+            }))
+        .subscribe();
+  }
+
+  @PreDestroy
+  public void stop() {
+    Disposable task = refreshTask;
+    if (task != null) {
+      task.dispose();
+    }
+  }
+
+  public Mono<Map<String, CapabilitySummary>> resolve(Collection<String> capabilityIds) {
+    if (capabilityIds.isEmpty()) {
+      return Mono.just(Map.of());
+    }
+    Snapshot current = snapshot.get();
+    boolean complete = current.capabilities().keySet().containsAll(capabilityIds);
+    if (complete) {
+      return Mono.just(current.select(capabilityIds));
+    }
+    Mono<Snapshot> pending = inFlight.get();
+    if (pending == null && current.loadedAt().plus(MISS_RELOAD_MIN_INTERVAL).isAfter(clock.instant())) {
+      return Mono.just(current.select(capabilityIds));
+    }
+    return reload().map(latest -> latest.select(capabilityIds));
+  }
+
+  public Mono<Map<String, CapabilitySummary>> refresh() {
+    return reload().map(Snapshot::capabilities);
+  }
+
+  public long version() {
+    return snapshot.get().version();
+  }
+
+  private Mono<Snapshot> reload() {
+    return Mono.defer(() -> {
+      Mono<Snapshot> load = loader.get()
+          .collectMap(CapabilitySummary::id, capability -> capability, LinkedHashMap::new)
+          .map(capabilities -> new Snapshot(Collections.unmodifiableMap(capabilities), clock.instant()))
+          .doOnNext(this::publish)
+          .doFinally(signal -> inFlight.set(null))
+          .cache();
+      Mono<Snapshot> pending = inFlight.compareAndExchange(null, load);
+      return pending != null ? pending : load;
+    });
+  }
+
+  private void publish(Snapshot loaded) {
+    Snapshot previous = snapshot.getAndSet(loaded);
+    if (previous.version() != loaded.version()) {
+      log.debug("capability catalog loaded ({} capabilities)", loaded.capabilities().size());
+    }
+  }
+
+  private record Snapshot(
+      Map<String, CapabilitySummary> capabilities,
+      Map<String, Integer> positions,
+      long version,
+      Instant loadedAt
+  ) {
+
+    private static final Snapshot EMPTY = new Snapshot(Map.of(), Instant.MIN);
+
+    private Snapshot(Map<String, CapabilitySummary> capabilities, Instant loadedAt) {
+      this(capabilities, positions(capabilities), contentVersion(capabilities.values()), loadedAt);
+    }
+
+    private Map<String, CapabilitySummary> select(Collection<String> capabilityIds) {
+      Map<String, CapabilitySummary> selected = new LinkedHashMap<>();
+      capabilityIds.stream()
+          .distinct()
+          .filter(positions::containsKey)
+          .sorted(Comparator.comparingInt(positions::get))
+          .forEach(id -> selected.put(id, capabilities.get(id)));
+      return Collections.unmodifiableMap(selected);
+    }
+
+    private static long contentVersion(Collection<CapabilitySummary> capabilities) {
+      MessageDigest digest = sha256();
+      capabilities.stream()
+          .sorted(Comparator.comparing(CapabilitySummary::id))
+          .forEach(capability -> {
+            update(digest, capability.id(), capability.name(), capability.description());
+            capability.technologies().forEach(technology -> update(digest, technology.id(), technology.name()));
+            digest.update(RECORD_SEPARATOR);
+          });
+      return ByteBuffer.wrap(digest.digest()).getLong();
+    }
+
+    private static void update(MessageDigest digest, String... values) {
+      for (String value : values) {
+        digest.update(String.valueOf(value).getBytes(StandardCharsets.UTF_8));
+        digest.update(FIELD_SEPARATOR);
+      }
+    }
+
+    private static MessageDigest sha256() {
+      try {
+        return MessageDigest.getInstance("SHA-256");
+      } catch (NoSuchAlgorithmException ex) {
+        throw new IllegalStateException("SHA-256 is not available", ex);
+      }
+    }
+
+    private static Map<String, Integer> positions(Map<String, CapabilitySummary> capabilities) {
+      Map<String, Integer> positions = new HashMap<>();
+      for (String id : capabilities.keySet()) {
+        positions.put(id, positions.size());
+      }
+      return Collections.unmodifiableMap(positions);
+    }
+  }
+}
@@ -1,87 +1,97 @@
 package com.example.bootcamp.infrastructure.client;
 
-import com.example.bootcamp.domain.model.Bootcamp;
-import com.example.bootcamp.domain.model.BootcampSummary;
-import com.example.bootcamp.domain.model.CapabilitySummary;
-import com.example.bootcamp.domain.model.TechnologySummary;
-import org.springframework.beans.factory.annotation.Value;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.reactor.bulkhead.operator.BulkheadOperator;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import io.netty.channel.ChannelOption;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 
-import java.util.LinkedHashMap;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
 @Component
 public class BootcampReportClient {
 
+  private static final ParameterizedTypeReference<List<BootcampReportResult>> RESULTS =
+      new ParameterizedTypeReference<>() {
+      };
+
   private final WebClient webClient;
-  private final String reportPath;
+  private final BootcampReportProperties properties;
+  private final CircuitBreaker circuitBreaker;
+  private final Bulkhead bulkhead;
 
   public BootcampReportClient(
       WebClient.Builder webClientBuilder,
-      @Value("${app.bootcamp-report.base-url:http://localhost:8085}") String baseUrl,
-      @Value("${app.bootcamp-report.path:/bootcamp-reports}") String reportPath
+      BootcampReportProperties properties,
+      ConnectionProvider connectionProvider,
+      CircuitBreaker circuitBreaker,
+      Bulkhead bulkhead
   ) {
-    this.webClient = webClientBuilder.baseUrl(baseUrl).build();
-    this.reportPath = reportPath;
+    BootcampReportProperties.Timeouts timeouts = properties.timeouts();
+    HttpClient httpClient = HttpClient.create(connectionProvider)
+        .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, Math.toIntExact(timeouts.connect().toMillis()))
+        .responseTimeout(timeouts.response());
+    this.webClient = webClientBuilder
+        .baseUrl(properties.baseUrl())
+        .clientConnector(new ReactorClientHttpConnector(httpClient))
+        .build();
+    this.properties = properties;
+    this.circuitBreaker = circuitBreaker;
+    this.bulkhead = bulkhead;
   }
 
-  public Mono<Void> sendBootcampReport(Bootcamp bootcamp, BootcampSummary summary) {
-    BootcampReportRequest request = BootcampReportRequest.from(bootcamp, summary);
+  public Mono<Void> send(BootcampReportRequest request) {
     return webClient.post()
-        .uri(reportPath)
+        .uri(properties.path())
         .bodyValue(request)
         .retrieve()
-        .bodyToMono(Void.class);
+        .bodyToMono(Void.class)
+        .transformDeferred(this::guard);
   }
 
-  private record BootcampReportRequest(
-      String bootcampId,
-      String name,
-      String description,
-      List<CapabilityPayload> capacities,
-      List<TechnologyPayload> technologies,
-      List<ParticipantPayload> participants
-  ) {
-    private static BootcampReportRequest from(Bootcamp bootcamp, BootcampSummary summary) {
-      List<CapabilityPayload> capabilityPayloads = summary.capabilities().stream()
-          .map(capability -> new CapabilityPayload(
-              capability.id(),
-              capability.name(),
-              capability.description()
-          ))
-          .toList();
-
-      Map<String, TechnologySummary> technologies = new LinkedHashMap<>();
-      for (CapabilitySummary capability : summary.capabilities()) {
-        for (TechnologySummary technology : capability.technologies()) {
-          technologies.putIfAbsent(technology.id(), technology);
-        }
-      }
-
-      List<TechnologyPayload> technologyPayloads = technologies.values().stream()
-          .map(technology -> new TechnologyPayload(technology.id(), technology.name()))
-          .toList();
-
-      return new BootcampReportRequest(
-          bootcamp.id(),
-          bootcamp.name(),
-          bootcamp.description(),
-          capabilityPayloads,
-          technologyPayloads,
-          List.of()
-      );
+  public Flux<BootcampReportResult> sendBatch(List<BootcampReportRequest> requests) {
+    if (requests.isEmpty()) {
+      return Flux.empty();
     }
+    return webClient.post()
+        .uri(properties.bulkPath())
+        .bodyValue(requests)
+        .retrieve()
+        .bodyToMono(RESULTS)
+        .transformDeferred(this::guard)
+        .defaultIfEmpty(List.of())
+        .flatMapMany(results -> Flux.fromIterable(matchResults(requests, results)));
   }
 
-  private record CapabilityPayload(String id, String name, String description) {
-  }
-
-  private record TechnologyPayload(String id, String name) {
+  private <T> Mono<T> guard(Mono<T> call) {
+    return call
+        .timeout(properties.timeouts().call())
+        .transformDeferred(CircuitBreakerOperator.of(circuitBreaker))
+        .transformDeferred(BulkheadOperator.of(bulkhead));
   }
 
-  private record ParticipantPayload(String id, String fullName, String email) {
+  private static List<BootcampReportResult> matchResults(
+      List<BootcampReportRequest> requests,
+      List<BootcampReportResult> results
+  ) {
+    Map<String, BootcampReportResult> byId = new HashMap<>();
+    for (BootcampReportResult result : results) {
+      if (result.bootcampId() != null) {
+        byId.putIfAbsent(result.bootcampId(), result);
+      }
+    }
+    return requests.stream()
+        .map(request -> byId.getOrDefault(request.bootcampId(), BootcampReportResult.missing(request.bootcampId())))
+        .toList();
   }
 }
@@ -0,0 +1,84 @@
+package com.example.bootcamp.infrastructure.client;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedBulkheadMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.Assert;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.netty.resources.ConnectionProvider;
+
+@Configuration
+@EnableConfigurationProperties(BootcampReportProperties.class)
+public class BootcampReportClientConfig {
+
+    static final String CLIENT_NAME = "bootcamp-report";
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider bootcampReportConnectionProvider(BootcampReportProperties properties) {
+        BootcampReportProperties.Pool pool = properties.pool();
+        return ConnectionProvider.builder(CLIENT_NAME)
+                .maxConnections(pool.maxConnections())
+                .pendingAcquireMaxCount(pool.pendingAcquireMaxCount())
+                .pendingAcquireTimeout(pool.pendingAcquireTimeout())
+                .maxIdleTime(pool.maxIdleTime())
+                .metrics(true)
+                .build();
+    }
+
+    @Bean
+    public CircuitBreaker bootcampReportCircuitBreaker(BootcampReportProperties properties, MeterRegistry meterRegistry) {
+        BootcampReportProperties.CircuitBreaker settings = properties.circuitBreaker();
+        CircuitBreakerRegistry registry = CircuitBreakerRegistry.of(CircuitBreakerConfig.custom()
+                .failureRateThreshold(settings.failureRateThreshold())
+                .slidingWindowSize(settings.slidingWindowSize())
+                .minimumNumberOfCalls(settings.minimumNumberOfCalls())
+                .waitDurationInOpenState(settings.waitInOpenState())
+                .permittedNumberOfCallsInHalfOpenState(settings.permittedCallsInHalfOpenState())
+                .slowCallDurationThreshold(settings.slowCallDuration())
+                .recordException(BootcampReportClientConfig::countsAsFailure)
+                .build());
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(registry).bindTo(meterRegistry);
+        return registry.circuitBreaker(CLIENT_NAME);
+    }
+
+    @Bean
+    public Bulkhead bootcampReportBulkhead(
+            BootcampReportProperties properties,
+            MeterRegistry meterRegistry,
+            @Value("${app.bootcamp-report.outbox.concurrency:4}") int outboxConcurrency
+    ) {
+        BootcampReportProperties.Bulkhead settings = properties.bulkhead();
+        int callers = concurrentCallers(properties.batch(), outboxConcurrency);
+        Assert.state(settings.maxConcurrentCalls() >= callers,
+                "Report bulkhead max concurrent calls must not be lower than the " + callers + " concurrent report calls");
+        BulkheadRegistry registry = BulkheadRegistry.of(BulkheadConfig.custom()
+                .maxConcurrentCalls(settings.maxConcurrentCalls())
+                .maxWaitDuration(settings.maxWait())
+                .build());
+        TaggedBulkheadMetrics.ofBulkheadRegistry(registry).bindTo(meterRegistry);
+        return registry.bulkhead(CLIENT_NAME);
+    }
+
+    static int concurrentCallers(BootcampReportProperties.Batch batch, int outboxConcurrency) {
+        return batch.enabled() ? batch.concurrency() : outboxConcurrency;
+    }
+
+    static boolean countsAsFailure(Throwable error) {
+        if (error instanceof BulkheadFullException || error instanceof CallNotPermittedException) {
+            return false;
+        }
+        return !(error instanceof WebClientResponseException response && response.getStatusCode().is4xxClientError());
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.bootcamp.infrastructure.client;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.Assert;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "app.bootcamp-report")
+public record BootcampReportProperties(
+        @DefaultValue("http://localhost:8085") String baseUrl,
+        @DefaultValue("/bootcamp-reports") String path,
+        @DefaultValue("/bootcamp-reports/bulk") String bulkPath,
+        @DefaultValue Batch batch,
+        @DefaultValue Pool pool,
+        @DefaultValue Timeouts timeouts,
+        @DefaultValue Bulkhead bulkhead,
+        @DefaultValue CircuitBreaker circuitBreaker
+) {
+
+    @ConstructorBinding
+    public BootcampReportProperties {
+        Assert.hasText(baseUrl, "Report base URL must not be empty");
+        Assert.hasText(path, "Report path must not be empty");
+        Assert.hasText(bulkPath, "Report bulk path must not be empty");
+        Assert.notNull(batch, "Report batch settings must not be null");
+        Assert.notNull(pool, "Report pool settings must not be null");
+        Assert.notNull(timeouts, "Report timeout settings must not be null");
+        Assert.notNull(bulkhead, "Report bulkhead settings must not be null");
+        Assert.notNull(circuitBreaker, "Report circuit breaker settings must not be null");
+    }
+
+    public record Batch(
+            @DefaultValue("false") boolean enabled,
+            @DefaultValue("100") int maxSize,
+            @DefaultValue("4") int concurrency
+    ) {
+
+        public Batch {
+            Assert.isTrue(maxSize > 0, "Report batch max size must be greater than 0");
+            Assert.isTrue(concurrency > 0, "Report batch concurrency must be greater than 0");
+        }
+    }
+
+    public record Pool(
+            @DefaultValue("50") int maxConnections,
+            @DefaultValue("200") int pendingAcquireMaxCount,
+            @DefaultValue("5s") Duration pendingAcquireTimeout,
+            @DefaultValue("30s") Duration maxIdleTime
+    ) {
+
+        public Pool {
+            Assert.isTrue(maxConnections > 0, "Report pool max connections must be greater than 0");
+            Assert.isTrue(pendingAcquireMaxCount > 0, "Report pool pending acquire max count must be greater than 0");
+            Assert.notNull(pendingAcquireTimeout, "Report pool pending acquire timeout must not be null");
+            Assert.notNull(maxIdleTime, "Report pool max idle time must not be null");
+        }
+    }
+
+    public record Timeouts(
+            @DefaultValue("2s") Duration connect,
+            @DefaultValue("5s") Duration response,
+            @DefaultValue("10s") Duration call
+    ) {
+
+        public Timeouts {
+            Assert.isTrue(connect != null && !connect.isNegative() && !connect.isZero(), "Report connect timeout must be positive");
+            Assert.isTrue(response != null && !response.isNegative() && !response.isZero(), "Report response timeout must be positive");
+            Assert.isTrue(call != null && call.compareTo(response) >= 0, "Report call timeout must not be shorter than the response timeout");
+        }
+    }
+
+    public record Bulkhead(
+            @DefaultValue("16") int maxConcurrentCalls,
+            @DefaultValue("0ms") Duration maxWait
+    ) {
+
+        public Bulkhead {
+            Assert.isTrue(maxConcurrentCalls > 0, "Report bulkhead max concurrent calls must be greater than 0");
+            Assert.isTrue(maxWait != null && !maxWait.isNegative(), "Report bulkhead max wait must not be negative");
+        }
+    }
+
+    public record CircuitBreaker(
+            @DefaultValue("50") float failureRateThreshold,
+            @DefaultValue("20") int slidingWindowSize,
+            @DefaultValue("10") int minimumNumberOfCalls,
+            @DefaultValue("30s") Duration waitInOpenState,
+            @DefaultValue("3") int permittedCallsInHalfOpenState,
+            @DefaultValue("3s") Duration slowCallDuration
+    ) {
+
+        public CircuitBreaker {
+            Assert.isTrue(failureRateThreshold > 0 && failureRateThreshold <= 100, "Report circuit breaker failure rate must be in (0, 100]");
+            Assert.isTrue(slidingWindowSize > 0, "Report circuit breaker sliding window must be greater than 0");
+            Assert.isTrue(minimumNumberOfCalls > 0, "Report circuit breaker minimum calls must be greater than 0");
+            Assert.notNull(waitInOpenState, "Report circuit breaker open wait must not be null");
+            Assert.isTrue(permittedCallsInHalfOpenState > 0, "Report circuit breaker half-open calls must be greater than 0");
+            Assert.notNull(slowCallDuration, "Report circuit breaker slow call duration must not be null");
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.bootcamp.infrastructure.client;
+
+public class BootcampReportRejectedException extends RuntimeException {
+  private final String bootcampId;
+  public BootcampReportRejectedException(String bootcampId, String message) { super(message); this.bootcampId = bootcampId; }
+  public String getBootcampId() { return bootcampId; }
+}
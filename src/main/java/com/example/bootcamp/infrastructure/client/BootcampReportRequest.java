@@ -0,0 +1,58 @@
+package com.example.bootcamp.infrastructure.client;
+
+import com.example.bootcamp.domain.model.Bootcamp;
+import com.example.bootcamp.domain.model.BootcampSummary;
+import com.example.bootcamp.domain.model.CapabilitySummary;
+import com.example.bootcamp.domain.model.TechnologySummary;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public record BootcampReportRequest(
+    String bootcampId,
+    String name,
+    String description,
+    List<CapabilityPayload> capacities,
+    List<TechnologyPayload> technologies,
+    List<ParticipantPayload> participants
+) {
+  public static BootcampReportRequest from(Bootcamp bootcamp, BootcampSummary summary) {
+    List<CapabilityPayload> capabilityPayloads = summary.capabilities().stream()
+        .map(capability -> new CapabilityPayload(
+            capability.id(),
+            capability.name(),
+            capability.description()
+        ))
+        .toList();
+
+    Map<String, TechnologySummary> technologies = new LinkedHashMap<>();
+    for (CapabilitySummary capability : summary.capabilities()) {
+      for (TechnologySummary technology : capability.technologies()) {
+        technologies.putIfAbsent(technology.id(), technology);
+      }
+    }
+
+    List<TechnologyPayload> technologyPayloads = technologies.values().stream()
+        .map(technology -> new TechnologyPayload(technology.id(), technology.name()))
+        .toList();
+
+    return new BootcampReportRequest(
+        bootcamp.id(),
+        bootcamp.name(),
+        bootcamp.description(),
+        capabilityPayloads,
+        technologyPayloads,
+        List.of()
+    );
+  }
+
+  public record CapabilityPayload(String id, String name, String description) {
+  }
+
+  public record TechnologyPayload(String id, String name) {
+  }
+
+  public record ParticipantPayload(String id, String fullName, String email) {
+  }
+}
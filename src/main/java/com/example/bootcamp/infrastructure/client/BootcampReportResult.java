@@ -0,0 +1,17 @@
+package com.example.bootcamp.infrastructure.client;
+
+public record BootcampReportResult(String bootcampId, boolean accepted, String error) {
+
+  static final String MISSING = "report.result.missing";
+
+  static BootcampReportResult missing(String bootcampId) {
+    return new BootcampReportResult(bootcampId, false, MISSING);
+  }
+
+  public RuntimeException failure() {
+    if (MISSING.equals(error)) {
+      return new IllegalStateException(MISSING);
+    }
+    return new BootcampReportRejectedException(bootcampId, error);
+  }
+}
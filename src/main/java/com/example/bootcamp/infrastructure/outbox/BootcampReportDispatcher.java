@@ -0,0 +1,220 @@
+package com.example.bootcamp.infrastructure.outbox;
+
+import com.example.bootcamp.infrastructure.client.BootcampReportClient;
+import com.example.bootcamp.infrastructure.client.BootcampReportProperties;
+import com.example.bootcamp.infrastructure.client.BootcampReportRejectedException;
+import com.example.bootcamp.infrastructure.client.BootcampReportRequest;
+import com.example.bootcamp.infrastructure.client.BootcampReportResult;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+public class BootcampReportDispatcher {
+
+  private static final Logger log = LoggerFactory.getLogger(BootcampReportDispatcher.class);
+  private static final String METRIC_PREFIX = "bootcamp.report.outbox";
+
+  private final BootcampReportOutbox outbox;
+  private final BootcampReportClient client;
+  private final ObjectMapper objectMapper;
+  private final BootcampReportProperties.Batch bulk;
+  private final Duration pollInterval;
+  private final int batchSize;
+  private final int concurrency;
+  private final Duration lease;
+  private final ReportRetryPolicy retryPolicy;
+  private final AtomicLong depth = new AtomicLong();
+  private final Timer deliveryLag;
+  private final Counter delivered;
+  private final Counter retried;
+  private final Counter deferred;
+  private final Counter failed;
+  private volatile Disposable pollTask;
+
+  public BootcampReportDispatcher(
+      BootcampReportOutbox outbox,
+      BootcampReportClient client,
+      BootcampReportProperties reportProperties,
+      ObjectMapper objectMapper,
+      MeterRegistry meterRegistry,
+      @Value("${app.bootcamp-report.outbox.poll-interval:1s}") Duration pollInterval,
+      @Value("${app.bootcamp-report.outbox.batch-size:50}") int batchSize,
+      @Value("${app.bootcamp-report.outbox.concurrency:4}") int concurrency,
+      @Value("${app.bootcamp-report.outbox.lease:30s}") Duration lease,
+      @Value("${app.bootcamp-report.outbox.max-attempts:10}") int maxAttempts,
+      @Value("${app.bootcamp-report.outbox.initial-backoff:1s}") Duration initialBackoff,
+      @Value("${app.bootcamp-report.outbox.max-backoff:10m}") Duration maxBackoff
+  ) {
+    if (batchSize <= 0) {
+      throw new IllegalArgumentException("invalid.report.outbox.batch.size");
+    }
+    if (concurrency <= 0) {
+      throw new IllegalArgumentException("invalid.report.outbox.concurrency");
+    }
+    this.outbox = outbox;
+    this.client = client;
+    this.objectMapper = objectMapper;
+    this.bulk = reportProperties.batch();
+    this.pollInterval = pollInterval;
+    this.batchSize = batchSize;
+    this.concurrency = concurrency;
+    this.lease = lease;
+    this.retryPolicy = new ReportRetryPolicy(maxAttempts, initialBackoff, maxBackoff);
+    Gauge.builder(METRIC_PREFIX + ".depth", depth, AtomicLong::get)
+        .description("Report events waiting for delivery")
+        .register(meterRegistry);
+    this.deliveryLag = Timer.builder(METRIC_PREFIX + ".delivery.lag")
+        .description("Time from bootcamp creation to successful report delivery")
+        .publishPercentileHistogram()
+        .register(meterRegistry);
+    this.delivered = Counter.builder(METRIC_PREFIX + ".delivered").register(meterRegistry);
+    this.retried = Counter.builder(METRIC_PREFIX + ".retried").register(meterRegistry);
+    this.deferred = Counter.builder(METRIC_PREFIX + ".deferred")
+        .description("Deliveries postponed without a call because the report client was saturated or open")
+        .register(meterRegistry);
+    this.failed = Counter.builder(METRIC_PREFIX + ".failed").register(meterRegistry);
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void start() {
+    pollTask = Flux.interval(pollInterval, pollInterval)
+        .onBackpressureDrop()
+        .concatMap(tick -> dispatchOnce()
+            .then(refreshDepth())
+            .onErrorResume(ex -> {
+              log.warn("report outbox dispatch failed", ex);
+              return Mono.empty();
+            }))
+        .subscribe();
+  }
+
+  @PreDestroy
+  public void stop() {
+    Disposable task = pollTask;
+    if (task != null) {
+      task.dispose();
+    }
+  }
+
+  public Mono<Long> dispatchOnce() {
+    Flux<ReportOutboxEntry> claimed = outbox.claim(UUID.randomUUID().toString(), batchSize, lease);
+    if (!bulk.enabled()) {
+      return claimed.flatMap(this::deliver, concurrency).count();
+    }
+    return claimed.buffer(bulk.maxSize())
+        .flatMap(entries -> deliverAll(entries).thenReturn((long) entries.size()), bulk.concurrency())
+        .reduce(0L, Long::sum);
+  }
+
+  private Mono<Void> deliver(ReportOutboxEntry entry) {
+    return Mono.fromCallable(() -> objectMapper.readValue(entry.payload(), BootcampReportRequest.class))
+        .flatMap(client::send)
+        .then(Mono.defer(() -> complete(entry)))
+        .onErrorResume(ex -> retryOrFail(entry, ex));
+  }
+
+  private Mono<Void> deliverAll(List<ReportOutboxEntry> entries) {
+    List<ReportOutboxEntry> readable = new ArrayList<>(entries.size());
+    List<BootcampReportRequest> requests = new ArrayList<>(entries.size());
+    List<Mono<Void>> outcomes = new ArrayList<>();
+    for (ReportOutboxEntry entry : entries) {
+      try {
+        requests.add(objectMapper.readValue(entry.payload(), BootcampReportRequest.class));
+        readable.add(entry);
+      } catch (IOException ex) {
+        outcomes.add(retryOrFail(entry, ex));
+      }
+    }
+    Flux<Mono<Void>> sent = client.sendBatch(requests)
+        .collectList()
+        .flatMapMany(results -> Flux.range(0, readable.size())
+            .map(index -> settle(readable.get(index), results.get(index))))
+        .onErrorResume(ex -> Flux.fromIterable(readable).map(entry -> retryOrFail(entry, ex)));
+    return Flux.concat(Flux.fromIterable(outcomes), sent)
+        .concatMap(outcome -> outcome)
+        .then();
+  }
+
+  private Mono<Void> settle(ReportOutboxEntry entry, BootcampReportResult result) {
+    if (!result.accepted()) {
+      return retryOrFail(entry, result.failure());
+    }
+    return complete(entry).onErrorResume(ex -> retryOrFail(entry, ex));
+  }
+
+  private Mono<Void> complete(ReportOutboxEntry entry) {
+    return outbox.complete(entry)
+        .doOnSuccess(ignored -> {
+          delivered.increment();
+          deliveryLag.record(Duration.between(entry.createdAt(), outbox.now()));
+        });
+  }
+
+  private Mono<Void> retryOrFail(ReportOutboxEntry entry, Throwable error) {
+    String message = error.getClass().getSimpleName() + ": " + error.getMessage();
+    if (notAttempted(error)) {
+      deferred.increment();
+      return outbox.reschedule(entry, entry.attempts(), retryPolicy.initialBackoff(), message);
+    }
+    int attempts = entry.attempts() + 1;
+    if (permanent(error)) {
+      log.warn("report for bootcamp {} was refused permanently", entry.bootcampId(), error);
+      failed.increment();
+      return outbox.fail(entry, attempts, message);
+    }
+    if (retryPolicy.exhausted(attempts)) {
+      log.warn("report for bootcamp {} failed after {} attempts", entry.bootcampId(), attempts, error);
+      failed.increment();
+      return outbox.fail(entry, attempts, message);
+    }
+    retried.increment();
+    return outbox.reschedule(entry, attempts, retryPolicy.delayAfter(attempts), message);
+  }
+
+  static boolean notAttempted(Throwable error) {
+    return error instanceof CallNotPermittedException || error instanceof BulkheadFullException;
+  }
+
+  static boolean permanent(Throwable error) {
+    if (error instanceof BootcampReportRejectedException) {
+      return true;
+    }
+    if (error instanceof WebClientResponseException response) {
+      int status = response.getStatusCode().value();
+      return response.getStatusCode().is4xxClientError()
+          && status != HttpStatus.REQUEST_TIMEOUT.value()
+          && status != HttpStatus.TOO_MANY_REQUESTS.value();
+    }
+    return false;
+  }
+
+  private Mono<Void> refreshDepth() {
+    return outbox.pendingCount()
+        .doOnNext(depth::set)
+        .then();
+  }
+}
@@ -0,0 +1,153 @@
+package com.example.bootcamp.infrastructure.outbox;
+
+import com.example.bootcamp.domain.model.Bootcamp;
+import com.example.bootcamp.domain.model.BootcampSummary;
+import com.example.bootcamp.infrastructure.client.BootcampReportRequest;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import static com.example.bootcamp.infrastructure.outbox.ReportOutboxSupport.*;
+
+@Component
+public class BootcampReportOutbox {
+
+  private final DatabaseClient databaseClient;
+  private final ObjectMapper objectMapper;
+  private final Clock clock;
+
+  @Autowired
+  public BootcampReportOutbox(R2dbcEntityTemplate template, ObjectMapper objectMapper) {
+    this(template.getDatabaseClient(), objectMapper, Clock.systemUTC());
+  }
+
+  BootcampReportOutbox(DatabaseClient databaseClient, ObjectMapper objectMapper, Clock clock) {
+    this.databaseClient = databaseClient;
+    this.objectMapper = objectMapper;
+    this.clock = clock;
+  }
+
+  public Mono<Void> enqueue(Bootcamp bootcamp, BootcampSummary summary) {
+    return enqueueAll(List.of(BootcampReportRequest.from(bootcamp, summary)));
+  }
+
+  public Mono<Void> enqueueAll(List<BootcampReportRequest> requests) {
+    return Mono.defer(() -> {
+      if (requests.isEmpty()) {
+        return Mono.empty();
+      }
+      LocalDateTime now = now();
+      List<Mono<Long>> inserts = new ArrayList<>();
+      for (int from = 0; from < requests.size(); from += MAX_ROWS_PER_INSERT) {
+        List<BootcampReportRequest> chunk = requests.subList(from, Math.min(requests.size(), from + MAX_ROWS_PER_INSERT));
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(insertOutboxEntries(chunk.size()));
+        for (int index = 0; index < chunk.size(); index++) {
+          spec = spec
+              .bind(PARAM_BOOTCAMP_ID + index, chunk.get(index).bootcampId())
+              .bind(PARAM_PAYLOAD + index, serialize(chunk.get(index)))
+              .bind(PARAM_CREATED_AT + index, now);
+        }
+        inserts.add(spec.fetch().rowsUpdated());
+      }
+      return Flux.concat(inserts).then();
+    });
+  }
+
+  public Flux<ReportOutboxEntry> claim(String claimToken, int limit, Duration lease) {
+    return Flux.defer(() -> {
+      LocalDateTime now = now();
+      return databaseClient.sql(CLAIM_DUE_ENTRIES)
+          .bind(PARAM_CLAIM_TOKEN, claimToken)
+          .bind(PARAM_LOCKED_UNTIL, now.plus(lease))
+          .bind(PARAM_NOW, now)
+          .bind(PARAM_LIMIT, limit)
+          .fetch()
+          .rowsUpdated()
+          .flatMapMany(claimed -> claimed == 0
+              ? Flux.empty()
+              : databaseClient.sql(SELECT_CLAIMED_ENTRIES)
+                  .bind(PARAM_CLAIM_TOKEN, claimToken)
+                  .map((row, metadata) -> new ReportOutboxEntry(
+                      Objects.requireNonNull(row.get(COLUMN_ID, Long.class)),
+                      row.get(COLUMN_BOOTCAMP_ID, String.class),
+                      row.get(COLUMN_PAYLOAD, String.class),
+                      Objects.requireNonNull(row.get(COLUMN_ATTEMPTS, Integer.class)),
+                      row.get(COLUMN_CREATED_AT, LocalDateTime.class),
+                      claimToken
+                  ))
+                  .all());
+    });
+  }
+
+  public Mono<Void> complete(ReportOutboxEntry entry) {
+    return databaseClient.sql(DELETE_DELIVERED_ENTRY)
+        .bind(PARAM_ID, entry.id())
+        .bind(PARAM_CLAIM_TOKEN, entry.claimToken())
+        .fetch()
+        .rowsUpdated()
+        .then();
+  }
+
+  public Mono<Void> reschedule(ReportOutboxEntry entry, int attempts, Duration delay, String error) {
+    return Mono.defer(() -> databaseClient.sql(RESCHEDULE_ENTRY)
+        .bind(PARAM_ATTEMPTS, attempts)
+        .bind(PARAM_NEXT_ATTEMPT_AT, now().plus(delay))
+        .bind(PARAM_LAST_ERROR, truncate(error))
+        .bind(PARAM_ID, entry.id())
+        .bind(PARAM_CLAIM_TOKEN, entry.claimToken())
+        .fetch()
+        .rowsUpdated()
+        .then());
+  }
+
+  public Mono<Void> fail(ReportOutboxEntry entry, int attempts, String error) {
+    return Mono.defer(() -> databaseClient.sql(FAIL_ENTRY)
+        .bind(PARAM_ATTEMPTS, attempts)
+        .bind(PARAM_NOW, now())
+        .bind(PARAM_LAST_ERROR, truncate(error))
+        .bind(PARAM_ID, entry.id())
+        .bind(PARAM_CLAIM_TOKEN, entry.claimToken())
+        .fetch()
+        .rowsUpdated()
+        .then());
+  }
+
+  public Mono<Long> pendingCount() {
+    return databaseClient.sql(COUNT_PENDING_ENTRIES)
+        .map((row, metadata) -> {
+          Number count = row.get(COUNT_TOTAL_ALIAS, Number.class);
+          return count == null ? 0L : count.longValue();
+        })
+        .one()
+        .defaultIfEmpty(0L);
+  }
+
+  public LocalDateTime now() {
+    return LocalDateTime.now(clock).truncatedTo(ChronoUnit.MILLIS);
+  }
+
+  private String serialize(BootcampReportRequest request) {
+    try {
+      return objectMapper.writeValueAsString(request);
+    } catch (JsonProcessingException ex) {
+      throw new IllegalStateException("report.payload.serialization", ex);
+    }
+  }
+
+  private static String truncate(String error) {
+    return error.length() <= MAX_ERROR_LENGTH ? error : error.substring(0, MAX_ERROR_LENGTH);
+  }
+}
@@ -0,0 +1,13 @@
+package com.example.bootcamp.infrastructure.outbox;
+
+import java.time.LocalDateTime;
+
+public record ReportOutboxEntry(
+    long id,
+    String bootcampId,
+    String payload,
+    int attempts,
+    LocalDateTime createdAt,
+    String claimToken
+) {
+}
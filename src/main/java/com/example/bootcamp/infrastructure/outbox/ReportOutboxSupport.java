@@ -0,0 +1,82 @@
+package com.example.bootcamp.infrastructure.outbox;
+
+import com.example.bootcamp.infrastructure.repository.support.BootcampRepositorySupport;
+
+public final class ReportOutboxSupport {
+
+  private ReportOutboxSupport() {
+  }
+
+  public static final String COLUMN_ID = "id";
+  public static final String COLUMN_BOOTCAMP_ID = "bootcamp_id";
+  public static final String COLUMN_PAYLOAD = "payload";
+  public static final String COLUMN_ATTEMPTS = "attempts";
+  public static final String COLUMN_CREATED_AT = "created_at";
+  public static final String COUNT_TOTAL_ALIAS = "total";
+  public static final String PARAM_ID = "id";
+  public static final String PARAM_BOOTCAMP_ID = "bootcampId";
+  public static final String PARAM_PAYLOAD = "payload";
+  public static final String PARAM_CREATED_AT = "createdAt";
+  public static final String PARAM_NOW = "now";
+  public static final String PARAM_CLAIM_TOKEN = "claimToken";
+  public static final String PARAM_LOCKED_UNTIL = "lockedUntil";
+  public static final String PARAM_LIMIT = "limit";
+  public static final String PARAM_ATTEMPTS = "attempts";
+  public static final String PARAM_NEXT_ATTEMPT_AT = "nextAttemptAt";
+  public static final String PARAM_LAST_ERROR = "lastError";
+  public static final int MAX_ROWS_PER_INSERT = 500;
+  public static final int MAX_ERROR_LENGTH = 500;
+
+  public static final String INSERT_OUTBOX_PREFIX =
+      "INSERT INTO bootcamp.report_outbox (bootcamp_id, payload, created_at, next_attempt_at) VALUES ";
+  public static final String OUTBOX_VALUES_TEMPLATE = "(:" + PARAM_BOOTCAMP_ID + "%1$d, :" + PARAM_PAYLOAD + "%1$d, :"
+      + PARAM_CREATED_AT + "%1$d, :" + PARAM_CREATED_AT + "%1$d)";
+
+  public static final String CLAIM_DUE_ENTRIES = """
+      UPDATE bootcamp.report_outbox
+      SET locked_by = :claimToken,
+          locked_until = :lockedUntil
+      WHERE failed_at IS NULL
+        AND next_attempt_at <= :now
+        AND (locked_until IS NULL OR locked_until < :now)
+      ORDER BY next_attempt_at ASC, id ASC
+      LIMIT :limit
+      """;
+
+  public static final String SELECT_CLAIMED_ENTRIES = """
+      SELECT id, bootcamp_id, payload, attempts, created_at
+      FROM bootcamp.report_outbox
+      WHERE locked_by = :claimToken
+      ORDER BY id ASC
+      """;
+
+  public static final String DELETE_DELIVERED_ENTRY =
+      "DELETE FROM bootcamp.report_outbox WHERE id = :" + PARAM_ID + " AND locked_by = :" + PARAM_CLAIM_TOKEN;
+
+  public static final String RESCHEDULE_ENTRY = """
+      UPDATE bootcamp.report_outbox
+      SET attempts = :attempts,
+          next_attempt_at = :nextAttemptAt,
+          last_error = :lastError,
+          locked_by = NULL,
+          locked_until = NULL
+      WHERE id = :id AND locked_by = :claimToken
+      """;
+
+  public static final String FAIL_ENTRY = """
+      UPDATE bootcamp.report_outbox
+      SET attempts = :attempts,
+          failed_at = :now,
+          last_error = :lastError,
+          locked_by = NULL,
+          locked_until = NULL
+      WHERE id = :id AND locked_by = :claimToken
+      """;
+
+  public static final String COUNT_PENDING_ENTRIES =
+      "SELECT COUNT(*) AS " + COUNT_TOTAL_ALIAS + " FROM bootcamp.report_outbox WHERE failed_at IS NULL";
+
+  public static String insertOutboxEntries(int rows) {
+    return BootcampRepositorySupport.multiRowInsert(INSERT_OUTBOX_PREFIX, OUTBOX_VALUES_TEMPLATE, rows);
+  }
+}
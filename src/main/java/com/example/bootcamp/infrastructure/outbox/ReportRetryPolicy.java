@@ -0,0 +1,30 @@
+package com.example.bootcamp.infrastructure.outbox;
+
+import java.time.Duration;
+
+public record ReportRetryPolicy(int maxAttempts, Duration initialBackoff, Duration maxBackoff) {
+
+  private static final int MAX_DOUBLINGS = 30;
+
+  public ReportRetryPolicy {
+    if (maxAttempts <= 0) {
+      throw new IllegalArgumentException("invalid.report.retry.max.attempts");
+    }
+    if (initialBackoff == null || initialBackoff.isNegative() || initialBackoff.isZero()) {
+      throw new IllegalArgumentException("invalid.report.retry.initial.backoff");
+    }
+    if (maxBackoff == null || maxBackoff.compareTo(initialBackoff) < 0) {
+      throw new IllegalArgumentException("invalid.report.retry.max.backoff");
+    }
+  }
+
+  public boolean exhausted(int attempts) {
+    return attempts >= maxAttempts;
+  }
+
+  public Duration delayAfter(int attempts) {
+    int doublings = Math.min(Math.max(attempts - 1, 0), MAX_DOUBLINGS);
+    Duration delay = initialBackoff.multipliedBy(1L << doublings);
+    return delay.compareTo(maxBackoff) > 0 ? maxBackoff : delay;
+  }
+}
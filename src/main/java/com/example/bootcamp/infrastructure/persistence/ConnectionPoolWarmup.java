@@ -0,0 +1,84 @@
+package com.example.bootcamp.infrastructure.persistence;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.Wrapped;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+import static com.example.bootcamp.infrastructure.repository.support.BootcampRepositorySupport.*;
+
+@Component
+public class ConnectionPoolWarmup implements ApplicationRunner {
+
+    static final String WARMUP_BOOTCAMP_ID = "00000000-0000-0000-0000-000000000000";
+
+    private static final Logger log = LoggerFactory.getLogger(ConnectionPoolWarmup.class);
+
+    private final ConnectionFactory connectionFactory;
+    private final DatabaseClient databaseClient;
+    private final MySqlProperties properties;
+
+    public ConnectionPoolWarmup(ConnectionFactory connectionFactory, R2dbcEntityTemplate template, MySqlProperties properties) {
+        this.connectionFactory = connectionFactory;
+        this.databaseClient = template.getDatabaseClient();
+        this.properties = properties;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!properties.warmup().enabled()) {
+            return;
+        }
+        long start = System.nanoTime();
+        warmup()
+                .timeout(properties.warmup().timeout())
+                .doOnNext(opened -> log.info("warmed up {} pooled connections in {} ms",
+                        opened, (System.nanoTime() - start) / 1_000_000))
+                .onErrorResume(ex -> {
+                    log.warn("connection pool warm-up failed", ex);
+                    return Mono.empty();
+                })
+                .block();
+    }
+
+    Mono<Integer> warmup() {
+        int parallelism = Math.max(1, properties.pool().initialSize());
+        ConnectionPool pool = pool(connectionFactory);
+        Mono<Integer> opened = pool == null ? Mono.just(0) : pool.warmup();
+        return opened.flatMap(count -> Flux.range(0, parallelism)
+                .flatMap(index -> Flux.fromIterable(hotStatements()).concatMap(DatabaseClient.GenericExecuteSpec::then), parallelism)
+                .then(Mono.just(count)));
+    }
+
+    List<DatabaseClient.GenericExecuteSpec> hotStatements() {
+        return List.of(
+                databaseClient.sql(String.format(PAGINATED_SELECT_TEMPLATE, NO_SEEK_PREDICATE, BOOTCAMP_COLUMN_NAME, "ASC"))
+                        .bind(PARAM_LIMIT, 1)
+                        .bind(PARAM_OFFSET, 0),
+                databaseClient.sql(COUNT_BOOTCAMPS_QUERY),
+                databaseClient.sql(SELECT_DATA_VERSION),
+                databaseClient.sql(SELECT_BOOTCAMP_BY_ID)
+                        .bind(PARAM_BOOTCAMP_ID, WARMUP_BOOTCAMP_ID),
+                databaseClient.sql(SELECT_CAPABILITY_LINKS_BY_BOOTCAMP_IDS)
+                        .bind(PARAM_BOOTCAMP_IDS, List.of(WARMUP_BOOTCAMP_ID))
+        );
+    }
+
+    static ConnectionPool pool(Object connectionFactory) {
+        Object candidate = connectionFactory;
+        while (!(candidate instanceof ConnectionPool) && candidate instanceof Wrapped<?> wrapped) {
+            candidate = wrapped.unwrap();
+        }
+        return candidate instanceof ConnectionPool pool ? pool : null;
+    }
+}
@@ -1,5 +1,7 @@
 package com.example.bootcamp.infrastructure.persistence;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.r2dbc.proxy.ProxyConnectionFactory;
 import io.r2dbc.spi.ConnectionFactories;
 import io.r2dbc.spi.ConnectionFactory;
 import io.r2dbc.spi.ConnectionFactoryOptions;
@@ -7,8 +9,18 @@ import org.springframework.boot.context.properties.EnableConfigurationProperties
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.r2dbc.connection.R2dbcTransactionManager;
+import org.springframework.transaction.ReactiveTransactionManager;
+import org.springframework.transaction.reactive.TransactionalOperator;
 
+import static io.r2dbc.pool.PoolingConnectionFactoryProvider.INITIAL_SIZE;
+import static io.r2dbc.pool.PoolingConnectionFactoryProvider.MAX_ACQUIRE_TIME;
+import static io.r2dbc.pool.PoolingConnectionFactoryProvider.MAX_CREATE_CONNECTION_TIME;
+import static io.r2dbc.pool.PoolingConnectionFactoryProvider.MAX_IDLE_TIME;
+import static io.r2dbc.pool.PoolingConnectionFactoryProvider.MAX_LIFE_TIME;
 import static io.r2dbc.pool.PoolingConnectionFactoryProvider.MAX_SIZE;
+import static io.r2dbc.pool.PoolingConnectionFactoryProvider.MIN_IDLE;
+import static io.r2dbc.pool.PoolingConnectionFactoryProvider.VALIDATION_QUERY;
 import static io.r2dbc.spi.ConnectionFactoryOptions.*;
 
 @Configuration
@@ -16,7 +28,15 @@ import static io.r2dbc.spi.ConnectionFactoryOptions.*;
 public class MySqlConfig {
 
     @Bean
-    public ConnectionFactory connectionFactory(MySqlProperties properties) {
+    public ConnectionFactory connectionFactory(MySqlProperties properties, MeterRegistry meterRegistry, SlowQueryLog slowQueryLog) {
+        ConnectionFactory pooled = pooledConnectionFactory(properties);
+        return ProxyConnectionFactory.builder(new TimedConnectionFactory(pooled, meterRegistry))
+                .listener(new SlowQueryListener(slowQueryLog, pooled))
+                .build();
+    }
+
+    ConnectionFactory pooledConnectionFactory(MySqlProperties properties) {
+        MySqlProperties.Pool pool = properties.pool();
         ConnectionFactoryOptions options = ConnectionFactoryOptions.builder()
                 .option(DRIVER, "pool")
                 .option(PROTOCOL, "mysql")
@@ -25,7 +45,14 @@ public class MySqlConfig {
                 .option(USER, properties.username())
                 .option(PASSWORD, properties.password())
                 .option(DATABASE, properties.database())
-                .option(MAX_SIZE, 20)
+                .option(INITIAL_SIZE, pool.initialSize())
+                .option(MAX_SIZE, pool.maxSize())
+                .option(MIN_IDLE, pool.minIdle())
+                .option(MAX_IDLE_TIME, pool.maxIdleTime())
+                .option(MAX_ACQUIRE_TIME, pool.maxAcquireTime())
+                .option(MAX_CREATE_CONNECTION_TIME, pool.maxCreateConnectionTime())
+                .option(MAX_LIFE_TIME, pool.maxLifeTime())
+                .option(VALIDATION_QUERY, pool.validationQuery())
                 .build();
         return ConnectionFactories.get(options);
     }
@@ -34,4 +61,14 @@ public class MySqlConfig {
     public R2dbcEntityTemplate r2dbcEntityTemplate(ConnectionFactory connectionFactory) {
         return new R2dbcEntityTemplate(connectionFactory);
     }
+
+    @Bean
+    public ReactiveTransactionManager transactionManager(ConnectionFactory connectionFactory) {
+        return new R2dbcTransactionManager(connectionFactory);
+    }
+
+    @Bean
+    public TransactionalOperator transactionalOperator(ReactiveTransactionManager transactionManager) {
+        return TransactionalOperator.create(transactionManager);
+    }
 }
@@ -1,22 +1,65 @@
 package com.example.bootcamp.infrastructure.persistence;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
 import org.springframework.util.Assert;
 
+import java.time.Duration;
+
 @ConfigurationProperties(prefix = "app.datasource")
 public record MySqlProperties(
         String host,
         int port,
         String database,
         String username,
-        String password
+        String password,
+        @DefaultValue Pool pool,
+        @DefaultValue Warmup warmup
 ) {
 
+    @ConstructorBinding
     public MySqlProperties {
         Assert.hasText(host, "MySQL host must not be empty");
         Assert.isTrue(port > 0, "MySQL port must be greater than 0");
         Assert.hasText(database, "MySQL database must not be empty");
         Assert.hasText(username, "MySQL username must not be empty");
         Assert.hasText(password, "MySQL password must not be empty");
+        Assert.notNull(pool, "MySQL pool settings must not be null");
+        Assert.notNull(warmup, "MySQL warm-up settings must not be null");
+    }
+
+    public record Pool(
+            @DefaultValue("10") int initialSize,
+            @DefaultValue("20") int maxSize,
+            @DefaultValue("0") int minIdle,
+            @DefaultValue("30m") Duration maxIdleTime,
+            @DefaultValue("5s") Duration maxAcquireTime,
+            @DefaultValue("5s") Duration maxCreateConnectionTime,
+            @DefaultValue("30m") Duration maxLifeTime,
+            @DefaultValue("SELECT 1") String validationQuery
+    ) {
+
+        public Pool {
+            Assert.isTrue(maxSize > 0, "MySQL pool max size must be greater than 0");
+            Assert.isTrue(initialSize >= 0 && initialSize <= maxSize, "MySQL pool initial size must be between 0 and the max size");
+            Assert.isTrue(minIdle >= 0 && minIdle <= maxSize, "MySQL pool min idle must be between 0 and the max size");
+            Assert.isTrue(maxIdleTime != null && !maxIdleTime.isNegative(), "MySQL pool max idle time must not be negative");
+            Assert.isTrue(maxAcquireTime != null && !maxAcquireTime.isNegative(), "MySQL pool max acquire time must not be negative");
+            Assert.isTrue(maxCreateConnectionTime != null && !maxCreateConnectionTime.isNegative(),
+                    "MySQL pool max create connection time must not be negative");
+            Assert.isTrue(maxLifeTime != null && !maxLifeTime.isNegative(), "MySQL pool max life time must not be negative");
+            Assert.hasText(validationQuery, "MySQL pool validation query must not be empty");
+        }
+    }
+
+    public record Warmup(
+            @DefaultValue("true") boolean enabled,
+            @DefaultValue("30s") Duration timeout
+    ) {
+
+        public Warmup {
+            Assert.isTrue(timeout != null && !timeout.isNegative() && !timeout.isZero(), "MySQL warm-up timeout must be positive");
+        }
     }
 }
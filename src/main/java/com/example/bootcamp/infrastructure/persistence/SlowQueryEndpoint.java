@@ -0,0 +1,21 @@
+package com.example.bootcamp.infrastructure.persistence;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+@Component
+@Endpoint(id = "slowqueries")
+public class SlowQueryEndpoint {
+
+    private final SlowQueryLog slowQueryLog;
+
+    public SlowQueryEndpoint(SlowQueryLog slowQueryLog) {
+        this.slowQueryLog = slowQueryLog;
+    }
+
+    @ReadOperation
+    public SlowQueryLog.Report slowQueries() {
+        return slowQueryLog.report();
+    }
+}
@@ -0,0 +1,120 @@
+package com.example.bootcamp.infrastructure.persistence;
+
+import io.r2dbc.proxy.core.Binding;
+import io.r2dbc.proxy.core.Bindings;
+import io.r2dbc.proxy.core.BoundValue;
+import io.r2dbc.proxy.core.QueryExecutionInfo;
+import io.r2dbc.proxy.core.QueryInfo;
+import io.r2dbc.proxy.listener.ProxyExecutionListener;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.Statement;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.context.ContextView;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+public class SlowQueryListener implements ProxyExecutionListener {
+
+    static final String EXPLAIN_PREFIX = "EXPLAIN FORMAT=JSON ";
+
+    private static final Logger log = LoggerFactory.getLogger(SlowQueryListener.class);
+    private static final Pattern SHAPE = Pattern.compile("^\\s*(\\w+)\\b(?:.*?\\b(?:FROM|INTO)\\s+|\\s+)([\\w.]+)",
+            Pattern.CASE_INSENSITIVE | Pattern.DOTALL);
+
+    private final SlowQueryLog slowQueryLog;
+    private final ConnectionFactory explainConnectionFactory;
+
+    public SlowQueryListener(SlowQueryLog slowQueryLog, ConnectionFactory explainConnectionFactory) {
+        this.slowQueryLog = slowQueryLog;
+        this.explainConnectionFactory = explainConnectionFactory;
+    }
+
+    @Override
+    public void afterQuery(QueryExecutionInfo execution) {
+        if (!slowQueryLog.isSlow(execution.getExecuteDuration())) {
+            return;
+        }
+        String contextName = templateName(execution);
+        for (QueryInfo query : execution.getQueries()) {
+            String name = contextName != null ? contextName : shape(query.getQuery());
+            Bindings bindings = query.getBindingsList().isEmpty() ? null : query.getBindingsList().get(0);
+            slowQueryLog.record(name, query.getQuery(), parameters(bindings), execution.getExecuteDuration());
+            if (slowQueryLog.explainDue(name, query.getQuery())) {
+                explain(query.getQuery(), bindings)
+                        .subscribe(
+                                plan -> slowQueryLog.recordPlan(name, plan),
+                                error -> log.warn("explain for slow query {} failed", name, error)
+                        );
+            }
+        }
+    }
+
+    Mono<String> explain(String sql, Bindings bindings) {
+        return Mono.usingWhen(
+                Mono.from(explainConnectionFactory.create()),
+                connection -> Flux.from(bind(connection.createStatement(EXPLAIN_PREFIX + sql), bindings).execute())
+                        .concatMap(result -> result.map((row, metadata) -> String.valueOf(row.get(0))))
+                        .next(),
+                Connection::close
+        );
+    }
+
+    private static Statement bind(Statement statement, Bindings bindings) {
+        if (bindings == null) {
+            return statement;
+        }
+        for (Binding binding : bindings.getIndexBindings()) {
+            BoundValue value = binding.getBoundValue();
+            int index = (Integer) binding.getKey();
+            if (value.isNull()) {
+                statement.bindNull(index, value.getNullType());
+            } else {
+                statement.bind(index, value.getValue());
+            }
+        }
+        for (Binding binding : bindings.getNamedBindings()) {
+            BoundValue value = binding.getBoundValue();
+            String name = (String) binding.getKey();
+            if (value.isNull()) {
+                statement.bindNull(name, value.getNullType());
+            } else {
+                statement.bind(name, value.getValue());
+            }
+        }
+        return statement;
+    }
+
+    private static List<Object> parameters(Bindings bindings) {
+        List<Object> parameters = new ArrayList<>();
+        if (bindings == null) {
+            return parameters;
+        }
+        for (Binding binding : bindings.getIndexBindings()) {
+            parameters.add(binding.getBoundValue().isNull() ? null : binding.getBoundValue().getValue());
+        }
+        for (Binding binding : bindings.getNamedBindings()) {
+            parameters.add(binding.getBoundValue().isNull() ? null : binding.getBoundValue().getValue());
+        }
+        return parameters;
+    }
+
+    private static String templateName(QueryExecutionInfo execution) {
+        ContextView context = execution.getValueStore().get(ContextView.class, ContextView.class);
+        return context == null ? null : context.getOrDefault(SlowQueryLog.QUERY_NAME_KEY, null);
+    }
+
+    static String shape(String sql) {
+        Matcher matcher = SHAPE.matcher(sql);
+        return matcher.find()
+                ? matcher.group(1).toLowerCase(Locale.ROOT) + " " + matcher.group(2).toLowerCase(Locale.ROOT)
+                : SlowQueryLog.UNNAMED;
+    }
+}
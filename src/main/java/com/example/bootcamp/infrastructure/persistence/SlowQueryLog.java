@@ -0,0 +1,143 @@
+package com.example.bootcamp.infrastructure.persistence;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+public class SlowQueryLog {
+
+    public static final String QUERY_NAME_KEY = "bootcamp.query.name";
+    public static final String REDACTED = "?";
+
+    static final String UNNAMED = "unnamed";
+    static final int MAX_PARAMETER_LENGTH = 64;
+
+    private static final Logger log = LoggerFactory.getLogger(SlowQueryLog.class);
+    private static final Comparator<SlowQuery> BY_DURATION = Comparator.comparingLong(SlowQuery::durationMillis);
+
+    private final Duration threshold;
+    private final boolean redactParameters;
+    private final int topSize;
+    private final boolean explainEnabled;
+    private final Duration explainInterval;
+    private final Clock clock;
+    private final PriorityQueue<SlowQuery> slowest = new PriorityQueue<>(BY_DURATION);
+    private final Map<String, Instant> lastExplained = new ConcurrentHashMap<>();
+    private final Map<String, String> plans = new ConcurrentHashMap<>();
+    private final AtomicLong recorded = new AtomicLong();
+
+    @Autowired
+    public SlowQueryLog(
+            @Value("${app.slow-query.threshold:500ms}") Duration threshold,
+            @Value("${app.slow-query.redact-parameters:true}") boolean redactParameters,
+            @Value("${app.slow-query.top-size:20}") int topSize,
+            @Value("${app.slow-query.explain.enabled:false}") boolean explainEnabled,
+            @Value("${app.slow-query.explain.interval:10m}") Duration explainInterval
+    ) {
+        this(threshold, redactParameters, topSize, explainEnabled, explainInterval, Clock.systemUTC());
+    }
+
+    SlowQueryLog(
+            Duration threshold,
+            boolean redactParameters,
+            int topSize,
+            boolean explainEnabled,
+            Duration explainInterval,
+            Clock clock
+    ) {
+        this.threshold = threshold;
+        this.redactParameters = redactParameters;
+        this.topSize = topSize;
+        this.explainEnabled = explainEnabled;
+        this.explainInterval = explainInterval;
+        this.clock = clock;
+    }
+
+    public boolean isSlow(Duration elapsed) {
+        return elapsed.compareTo(threshold) >= 0;
+    }
+
+    public SlowQuery record(String name, String sql, List<Object> parameters, Duration elapsed) {
+        SlowQuery query = new SlowQuery(
+                name == null ? UNNAMED : name,
+                sql,
+                parameters.stream().map(this::render).toList(),
+                elapsed.toMillis(),
+                clock.instant()
+        );
+        recorded.incrementAndGet();
+        log.warn("slow query {} took {} ms: {} parameters={}", query.name(), query.durationMillis(), query.sql(), query.parameters());
+        synchronized (slowest) {
+            slowest.add(query);
+            if (slowest.size() > topSize) {
+                slowest.poll();
+            }
+        }
+        return query;
+    }
+
+    public boolean explainDue(String name, String sql) {
+        if (!explainEnabled || !isSelect(sql)) {
+            return false;
+        }
+        Instant now = clock.instant();
+        String key = name == null ? UNNAMED : name;
+        Instant previous = lastExplained.get(key);
+        if (previous != null && previous.plus(explainInterval).isAfter(now)) {
+            return false;
+        }
+        return previous == null
+                ? lastExplained.putIfAbsent(key, now) == null
+                : lastExplained.replace(key, previous, now);
+    }
+
+    public void recordPlan(String name, String plan) {
+        String key = name == null ? UNNAMED : name;
+        plans.put(key, plan);
+        log.warn("plan for slow query {}: {}", key, plan);
+    }
+
+    public Report report() {
+        List<SlowQuery> top;
+        synchronized (slowest) {
+            top = new ArrayList<>(slowest);
+        }
+        top.sort(BY_DURATION.reversed());
+        return new Report(threshold.toMillis(), recorded.get(), top, Map.copyOf(plans));
+    }
+
+    private String render(Object parameter) {
+        if (parameter == null) {
+            return "null";
+        }
+        if (redactParameters) {
+            return REDACTED;
+        }
+        String value = String.valueOf(parameter);
+        return value.length() > MAX_PARAMETER_LENGTH ? value.substring(0, MAX_PARAMETER_LENGTH) + "..." : value;
+    }
+
+    static boolean isSelect(String sql) {
+        return sql != null && sql.stripLeading().regionMatches(true, 0, "SELECT", 0, 6);
+    }
+
+    public record SlowQuery(String name, String sql, List<String> parameters, long durationMillis, Instant occurredAt) {
+    }
+
+    public record Report(long thresholdMillis, long recorded, List<SlowQuery> slowest, Map<String, String> plans) {
+    }
+}
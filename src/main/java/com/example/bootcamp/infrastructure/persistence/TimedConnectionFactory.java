@@ -0,0 +1,54 @@
+package com.example.bootcamp.infrastructure.persistence;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryMetadata;
+import io.r2dbc.spi.Wrapped;
+import reactor.core.publisher.Mono;
+
+public class TimedConnectionFactory implements ConnectionFactory, Wrapped<ConnectionFactory> {
+
+    static final String ACQUIRE_METRIC = "r2dbc.pool.acquire";
+
+    private final ConnectionFactory delegate;
+    private final MeterRegistry meterRegistry;
+    private final Timer acquired;
+    private final Timer failed;
+
+    public TimedConnectionFactory(ConnectionFactory delegate, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.meterRegistry = meterRegistry;
+        this.acquired = acquireTimer("success");
+        this.failed = acquireTimer("error");
+    }
+
+    @Override
+    public Mono<Connection> create() {
+        return Mono.defer(() -> {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            return Mono.<Connection>from(delegate.create())
+                    .doOnSuccess(connection -> sample.stop(acquired))
+                    .doOnError(error -> sample.stop(failed));
+        });
+    }
+
+    @Override
+    public ConnectionFactoryMetadata getMetadata() {
+        return delegate.getMetadata();
+    }
+
+    @Override
+    public ConnectionFactory unwrap() {
+        return delegate;
+    }
+
+    private Timer acquireTimer(String outcome) {
+        return Timer.builder(ACQUIRE_METRIC)
+                .description("Time spent waiting for a pooled R2DBC connection")
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+}
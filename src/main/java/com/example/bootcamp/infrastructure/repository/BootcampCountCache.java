@@ -0,0 +1,68 @@
+package com.example.bootcamp.infrastructure.repository;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+@Component
+public class BootcampCountCache {
+
+  private static final long UNKNOWN = -1;
+
+  private final Duration ttl;
+  private final Clock clock;
+  private final AtomicReference<Snapshot> snapshot = new AtomicReference<>(new Snapshot(UNKNOWN, Instant.MIN));
+  private final AtomicLong generation = new AtomicLong();
+
+  @Autowired
+  public BootcampCountCache(@Value("${app.bootcamp.count-ttl:60s}") Duration ttl) {
+    this(ttl, Clock.systemUTC());
+  }
+
+  BootcampCountCache(Duration ttl, Clock clock) {
+    this.ttl = ttl;
+    this.clock = clock;
+  }
+
+  public Mono<Long> get(Mono<Long> loader) {
+    Snapshot current = snapshot.get();
+    if (current.count() != UNKNOWN && current.loadedAt().plus(ttl).isAfter(clock.instant())) {
+      return Mono.just(current.count());
+    }
+    return Mono.defer(() -> {
+      long loadGeneration = generation.get();
+      return loader.doOnNext(count -> {
+        if (generation.get() == loadGeneration) {
+          snapshot.set(new Snapshot(count, clock.instant()));
+        }
+      });
+    });
+  }
+
+  public Long peek() {
+    Snapshot current = snapshot.get();
+    return current.count() == UNKNOWN ? null : current.count();
+  }
+
+  public void adjust(long delta) {
+    generation.incrementAndGet();
+    snapshot.updateAndGet(current -> current.count() == UNKNOWN
+        ? current
+        : new Snapshot(Math.max(0, current.count() + delta), current.loadedAt()));
+  }
+
+  public void invalidate() {
+    generation.incrementAndGet();
+    snapshot.set(new Snapshot(UNKNOWN, Instant.MIN));
+  }
+
+  private record Snapshot(long count, Instant loadedAt) {
+  }
+}
@@ -0,0 +1,39 @@
+package com.example.bootcamp.infrastructure.repository;
+
+import com.example.bootcamp.infrastructure.catalog.CapabilityCatalog;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import static com.example.bootcamp.infrastructure.repository.BootcampQueryMetrics.*;
+import static com.example.bootcamp.infrastructure.repository.support.BootcampRepositorySupport.*;
+
+@Component
+public class BootcampDataVersion {
+
+  private final DatabaseClient databaseClient;
+  private final CapabilityCatalog capabilityCatalog;
+  private final BootcampQueryMetrics queryMetrics;
+
+  public BootcampDataVersion(R2dbcEntityTemplate template, CapabilityCatalog capabilityCatalog, BootcampQueryMetrics queryMetrics) {
+    this.databaseClient = template.getDatabaseClient();
+    this.capabilityCatalog = capabilityCatalog;
+    this.queryMetrics = queryMetrics;
+  }
+
+  public Mono<String> current() {
+    return queryMetrics.timed(QUERY_DATA_VERSION, databaseClient.sql(SELECT_DATA_VERSION)
+            .map((row, metadata) -> row.get(COLUMN_DATA_VERSION, Long.class))
+            .one())
+        .defaultIfEmpty(0L)
+        .map(version -> version + "." + capabilityCatalog.version());
+  }
+
+  public Mono<Void> bump() {
+    return queryMetrics.timed(QUERY_BUMP_DATA_VERSION, databaseClient.sql(BUMP_DATA_VERSION)
+            .fetch()
+            .rowsUpdated())
+        .then();
+  }
+}
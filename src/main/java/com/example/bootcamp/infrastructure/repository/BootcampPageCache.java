@@ -0,0 +1,59 @@
+package com.example.bootcamp.infrastructure.repository;
+
+import com.example.bootcamp.domain.model.BootcampPageRequest;
+import com.example.bootcamp.domain.model.PaginatedBootcamp;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+@Component
+public class BootcampPageCache {
+
+  private static final String CACHE_NAME = "bootcamp.page";
+
+  private final AsyncCache<PageKey, PaginatedBootcamp> cache;
+  private final Counter coalesced;
+
+  public BootcampPageCache(
+      @Value("${app.bootcamp.page-cache.max-size:1000}") long maxSize,
+      @Value("${app.bootcamp.page-cache.ttl:10s}") Duration ttl,
+      MeterRegistry meterRegistry
+  ) {
+    this.cache = Caffeine.newBuilder()
+        .maximumSize(maxSize)
+        .expireAfterWrite(ttl)
+        .recordStats()
+        .buildAsync();
+    this.coalesced = Counter.builder(CACHE_NAME + ".coalesced")
+        .description("List requests that joined an in-flight load of the same page")
+        .register(meterRegistry);
+    CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+  }
+
+  public Mono<PaginatedBootcamp> get(
+      String version,
+      BootcampPageRequest request,
+      Function<BootcampPageRequest, Mono<PaginatedBootcamp>> loader
+  ) {
+    return Mono.fromFuture(() -> {
+      PageKey key = new PageKey(version, request);
+      CompletableFuture<PaginatedBootcamp> pending = cache.getIfPresent(key);
+      if (pending != null && !pending.isDone()) {
+        coalesced.increment();
+      }
+      return cache.get(key, (ignored, executor) -> loader.apply(request).toFuture());
+    }, true);
+  }
+
+  private record PageKey(String version, BootcampPageRequest request) {
+  }
+}
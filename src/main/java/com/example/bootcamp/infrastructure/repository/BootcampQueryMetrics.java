@@ -0,0 +1,108 @@
+package com.example.bootcamp.infrastructure.repository;
+
+import com.example.bootcamp.infrastructure.persistence.SlowQueryLog;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+import reactor.util.context.Context;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+public class BootcampQueryMetrics {
+
+  public static final String QUERY_PAGE = "page";
+  public static final String QUERY_PAGE_COMPACT = "page.compact";
+  public static final String QUERY_COUNT_EXACT = "count.exact";
+  public static final String QUERY_COUNT_ESTIMATE = "count.estimate";
+  public static final String QUERY_LINKS = "links";
+  public static final String QUERY_SUMMARY_BY_ID = "summary.by.id";
+  public static final String QUERY_SUMMARIES_BY_IDS = "summaries.by.ids";
+  public static final String QUERY_EXISTING_NAMES = "existing.names";
+  public static final String QUERY_EXPORT = "export";
+  public static final String QUERY_INSERT_BOOTCAMP = "insert.bootcamp";
+  public static final String QUERY_INSERT_BOOTCAMPS = "insert.bootcamps";
+  public static final String QUERY_INSERT_LINKS = "insert.links";
+  public static final String QUERY_REFRESH_READ_MODEL = "refresh.read.model";
+  public static final String QUERY_REBUILD_READ_MODEL = "rebuild.read.model";
+  public static final String QUERY_DELETE = "delete";
+  public static final String QUERY_DELETE_LOCK = "delete.lock";
+  public static final String QUERY_DATA_VERSION = "data.version";
+  public static final String QUERY_BUMP_DATA_VERSION = "data.version.bump";
+
+  private static final String METRIC_PREFIX = "bootcamp.db.query";
+  private static final String TAG_QUERY = "query";
+  private static final String TAG_OUTCOME = "outcome";
+
+  private final MeterRegistry meterRegistry;
+  private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+  private final Map<String, DistributionSummary> rows = new ConcurrentHashMap<>();
+  private final Map<String, DistributionSummary> fanOut = new ConcurrentHashMap<>();
+
+  public BootcampQueryMetrics(MeterRegistry meterRegistry) {
+    this.meterRegistry = meterRegistry;
+  }
+
+  public <T> Mono<T> timed(String query, Mono<T> call) {
+    return Mono.defer(() -> {
+      Timer.Sample sample = Timer.start(meterRegistry);
+      return call.doFinally(signal -> stop(sample, query, signal))
+          .contextWrite(Context.of(SlowQueryLog.QUERY_NAME_KEY, query));
+    });
+  }
+
+  public <T> Flux<T> timedRows(String query, Flux<T> rowsDecoded) {
+    return Flux.defer(() -> {
+      Timer.Sample sample = Timer.start(meterRegistry);
+      AtomicLong count = new AtomicLong();
+      return rowsDecoded
+          .doOnNext(row -> count.incrementAndGet())
+          .doFinally(signal -> {
+            stop(sample, query, signal);
+            if (signal == SignalType.ON_COMPLETE) {
+              rowsSummary(query).record(count.get());
+            }
+          })
+          .contextWrite(Context.of(SlowQueryLog.QUERY_NAME_KEY, query));
+    });
+  }
+
+  public void recordFanOut(String query, long rowCount, long bootcampCount) {
+    if (bootcampCount > 0) {
+      fanOut.computeIfAbsent(query, name -> DistributionSummary.builder(METRIC_PREFIX + ".fanout")
+              .description("Rows decoded per bootcamp")
+              .tag(TAG_QUERY, name)
+              .publishPercentileHistogram()
+              .register(meterRegistry))
+          .record(rowCount / (double) bootcampCount);
+    }
+  }
+
+  private void stop(Timer.Sample sample, String query, SignalType signal) {
+    String outcome = switch (signal) {
+      case ON_ERROR -> "error";
+      case CANCEL -> "cancelled";
+      default -> "success";
+    };
+    sample.stop(timers.computeIfAbsent(query + '|' + outcome, key -> Timer.builder(METRIC_PREFIX)
+        .description("Latency of named bootcamp repository queries")
+        .tag(TAG_QUERY, query)
+        .tag(TAG_OUTCOME, outcome)
+        .publishPercentileHistogram()
+        .register(meterRegistry)));
+  }
+
+  private DistributionSummary rowsSummary(String query) {
+    return rows.computeIfAbsent(query, name -> DistributionSummary.builder(METRIC_PREFIX + ".rows")
+        .description("Rows decoded per query execution")
+        .tag(TAG_QUERY, name)
+        .publishPercentileHistogram()
+        .register(meterRegistry));
+  }
+}
@@ -0,0 +1,27 @@
+package com.example.bootcamp.infrastructure.repository;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(prefix = "app.read-model", name = "rebuild", havingValue = "true")
+public class BootcampReadModelRebuilder implements ApplicationRunner {
+
+  private static final Logger log = LoggerFactory.getLogger(BootcampReadModelRebuilder.class);
+
+  private final SpringDataBootcampRepository repository;
+
+  public BootcampReadModelRebuilder(SpringDataBootcampRepository repository) {
+    this.repository = repository;
+  }
+
+  @Override
+  public void run(ApplicationArguments args) {
+    Long rows = repository.rebuildReadModel().block();
+    log.info("bootcamp read model rebuilt ({} rows written)", rows);
+  }
+}
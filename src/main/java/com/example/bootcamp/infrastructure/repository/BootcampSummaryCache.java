@@ -0,0 +1,48 @@
+package com.example.bootcamp.infrastructure.repository;
+
+import com.example.bootcamp.domain.model.BootcampSummary;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+@Component
+public class BootcampSummaryCache {
+
+  private static final String CACHE_NAME = "bootcamp.summary";
+
+  private final AsyncCache<SummaryKey, BootcampSummary> cache;
+
+  @Autowired
+  public BootcampSummaryCache(
+      @Value("${app.bootcamp.summary-cache.max-size:10000}") long maxSize,
+      @Value("${app.bootcamp.summary-cache.ttl:5m}") Duration ttl,
+      MeterRegistry meterRegistry
+  ) {
+    this(maxSize, ttl);
+    CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+  }
+
+  BootcampSummaryCache(long maxSize, Duration ttl) {
+    this.cache = Caffeine.newBuilder()
+        .maximumSize(maxSize)
+        .expireAfterWrite(ttl)
+        .recordStats()
+        .buildAsync();
+  }
+
+  public Mono<BootcampSummary> get(String version, String bootcampId, Function<String, Mono<BootcampSummary>> loader) {
+    return Mono.fromFuture(() -> cache.get(new SummaryKey(version, bootcampId),
+        (key, executor) -> loader.apply(key.bootcampId()).toFuture()), true);
+  }
+
+  private record SummaryKey(String version, String bootcampId) {
+  }
+}
@@ -1,77 +1,209 @@
 package com.example.bootcamp.infrastructure.repository;
 
 import com.example.bootcamp.domain.model.Bootcamp;
+import com.example.bootcamp.domain.model.BootcampCursor;
+import com.example.bootcamp.domain.model.BootcampExportFilter;
 import com.example.bootcamp.domain.model.BootcampPageRequest;
 import com.example.bootcamp.domain.model.BootcampSummary;
+import com.example.bootcamp.domain.model.BootcampTotalMode;
 import com.example.bootcamp.domain.model.CapabilitySummary;
 import com.example.bootcamp.domain.model.PaginatedBootcamp;
-import com.example.bootcamp.domain.model.TechnologySummary;
+import com.example.bootcamp.domain.model.SortDirection;
+import com.example.bootcamp.infrastructure.catalog.CapabilityCatalog;
 import com.example.bootcamp.infrastructure.mapper.BootcampMapper;
 import com.example.bootcamp.infrastructure.repository.documents.BootcampEntity;
+import com.example.bootcamp.infrastructure.repository.support.BootcampRepositorySupport;
+import com.example.bootcamp.infrastructure.repository.support.BootcampSummaryAssembler;
+import com.example.bootcamp.infrastructure.repository.support.BootcampSummaryAssembler.BootcampCapabilities;
 import io.r2dbc.spi.Row;
 import io.r2dbc.spi.RowMetadata;
 import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.r2dbc.core.DatabaseClient;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.reactive.TransactionalOperator;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.time.LocalDate;
-import java.util.LinkedHashMap;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
+import static com.example.bootcamp.infrastructure.repository.BootcampQueryMetrics.*;
 import static com.example.bootcamp.infrastructure.repository.support.BootcampRepositorySupport.*;
 
 @Repository
 public class SpringDataBootcampRepository {
 
   private final R2dbcEntityTemplate template;
+  private final TransactionalOperator transactionalOperator;
+  private final BootcampCountCache countCache;
+  private final CapabilityCatalog capabilityCatalog;
+  private final BootcampDataVersion dataVersion;
+  private final BootcampQueryMetrics queryMetrics;
 
-  public SpringDataBootcampRepository(R2dbcEntityTemplate template) {
+  public SpringDataBootcampRepository(
+      R2dbcEntityTemplate template,
+      TransactionalOperator transactionalOperator,
+      BootcampCountCache countCache,
+      CapabilityCatalog capabilityCatalog,
+      BootcampDataVersion dataVersion,
+      BootcampQueryMetrics queryMetrics
+  ) {
     this.template = template;
+    this.transactionalOperator = transactionalOperator;
+    this.countCache = countCache;
+    this.capabilityCatalog = capabilityCatalog;
+    this.dataVersion = dataVersion;
+    this.queryMetrics = queryMetrics;
   }
 
-  public Mono<Bootcamp> findById(String id) {
-    return findOneBy(BOOTCAMP_COLUMN_ID, id);
-  }
-
-  public Mono<Bootcamp> findByName(String name) {
-    return findOneBy(BOOTCAMP_COLUMN_NAME, name);
+  public Mono<Bootcamp> save(Bootcamp bootcamp) {
+    return save(bootcamp, Mono.empty());
   }
 
-  public Mono<Bootcamp> save(Bootcamp bootcamp) {
+  public Mono<Bootcamp> save(Bootcamp bootcamp, Mono<Void> inTransaction) {
     var entity = BootcampMapper.toEntity(bootcamp);
-    return template.insert(BootcampEntity.class)
-        .using(entity)
-        .then(insertBootcampCapabilities(bootcamp.id(), bootcamp.capabilities()))
+    List<BootcampCapabilityLinkRow> links = bootcamp.capabilities().stream()
+        .map(capabilityId -> new BootcampCapabilityLinkRow(bootcamp.id(), capabilityId))
+        .toList();
+    return queryMetrics.timed(QUERY_INSERT_BOOTCAMP, template.insert(BootcampEntity.class).using(entity))
+        .then(insertBootcampCapabilities(links))
+        .then(refreshReadModel(bootcamp.id()))
+        .then(inTransaction)
+        .then(dataVersion.bump())
+        .as(transactionalOperator::transactional)
+        .doOnSuccess(ignored -> countCache.adjust(1))
         .thenReturn(bootcamp);
   }
 
-  public Mono<BootcampSummary> findSummaryById(String bootcampId) {
-    return template.getDatabaseClient()
-        .sql(SELECT_BOOTCAMP_DETAILS_BY_ID)
-        .bind(PARAM_BOOTCAMP_ID, bootcampId)
-        .map(this::mapDetailRow)
-        .all()
+  public Mono<List<Bootcamp>> saveAll(List<Bootcamp> bootcamps) {
+    return saveAll(bootcamps, Mono.empty());
+  }
+
+  public Mono<List<Bootcamp>> saveAll(List<Bootcamp> bootcamps, Mono<Void> inTransaction) {
+    if (bootcamps.isEmpty()) {
+      return Mono.just(List.of());
+    }
+    List<BootcampCapabilityLinkRow> links = bootcamps.stream()
+        .flatMap(bootcamp -> bootcamp.capabilities().stream()
+            .map(capabilityId -> new BootcampCapabilityLinkRow(bootcamp.id(), capabilityId)))
+        .toList();
+    return Flux.fromIterable(chunks(bootcamps))
+        .concatMap(this::insertBootcamps)
+        .thenMany(Flux.fromIterable(chunks(links)).concatMap(this::insertBootcampCapabilities))
+        .then(refreshReadModel(bootcamps.stream().map(Bootcamp::id).toList()))
+        .then(inTransaction)
+        .then(dataVersion.bump())
+        .as(transactionalOperator::transactional)
+        .doOnSuccess(ignored -> countCache.adjust(bootcamps.size()))
+        .thenReturn(List.copyOf(bootcamps));
+  }
+
+  public Flux<String> findExistingNames(Collection<String> names) {
+    if (names.isEmpty()) {
+      return Flux.empty();
+    }
+    return queryMetrics.timedRows(QUERY_EXISTING_NAMES, template.getDatabaseClient()
+        .sql(SELECT_EXISTING_NAMES)
+        .bind(PARAM_NAMES, names)
+        .map((row, metadata) -> row.get(COLUMN_BOOTCAMP_NAME, String.class))
+        .all());
+  }
+
+  public Flux<BootcampSummary> findSummariesByIds(Collection<String> bootcampIds) {
+    if (bootcampIds.isEmpty()) {
+      return Flux.empty();
+    }
+    return queryMetrics.timedRows(QUERY_SUMMARIES_BY_IDS, template.getDatabaseClient()
+            .sql(SELECT_READ_MODEL_BY_IDS)
+            .bind(PARAM_BOOTCAMP_IDS, bootcampIds)
+            .map(this::mapPageRow)
+            .all())
         .collectList()
-        .flatMap(rows -> {
-          if (rows.isEmpty()) {
-            return Mono.empty();
-          }
-          return Mono.fromCallable(() -> mapToBootcampSummary(rows));
-        });
+        .flatMapMany(this::loadSummaries);
   }
 
-  public Mono<Void> deleteById(String bootcampId) {
-    return template.getDatabaseClient()
-        .sql(DELETE_BOOTCAMP_PROCEDURE)
-        .bind(PARAM_BOOTCAMP_ID, bootcampId)
-        .fetch()
-        .rowsUpdated()
-        .then();
+  public Mono<BootcampSummary> summarize(Bootcamp bootcamp) {
+    return findCapabilities(new LinkedHashSet<>(bootcamp.capabilities()))
+        .map(capabilities -> BootcampSummaryAssembler.bootcamp(summaryRow(bootcamp), bootcamp.capabilities(), capabilities));
+  }
+
+  public Flux<BootcampSummary> summarizeAll(List<Bootcamp> bootcamps) {
+    if (bootcamps.isEmpty()) {
+      return Flux.empty();
+    }
+    return findCapabilities(bootcamps.stream()
+            .flatMap(bootcamp -> bootcamp.capabilities().stream())
+            .collect(Collectors.toCollection(LinkedHashSet::new)))
+        .flatMapMany(capabilities -> Flux.fromIterable(bootcamps)
+            .map(bootcamp -> BootcampSummaryAssembler.bootcamp(summaryRow(bootcamp), bootcamp.capabilities(), capabilities)));
+  }
+
+  private static BootcampRow summaryRow(Bootcamp bootcamp) {
+    return new BootcampRow(
+        bootcamp.id(),
+        bootcamp.name(),
+        bootcamp.description(),
+        bootcamp.launchDate(),
+        bootcamp.durationWeeks(),
+        bootcamp.capabilities().size()
+    );
+  }
+
+  public Mono<BootcampSummary> findSummaryById(String bootcampId) {
+    return queryMetrics.timed(QUERY_SUMMARY_BY_ID, template.getDatabaseClient()
+            .sql(SELECT_BOOTCAMP_BY_ID)
+            .bind(PARAM_BOOTCAMP_ID, bootcampId)
+            .map(this::mapBootcampRow)
+            .one())
+        .flatMap(bootcamp -> loadSummaries(List.of(bootcamp)).next());
+  }
+
+  public Mono<Boolean> deleteById(String bootcampId) {
+    return deleteByIds(List.of(bootcampId)).map(deleted -> !deleted.isEmpty());
+  }
+
+  public Mono<Set<String>> deleteByIds(Collection<String> bootcampIds) {
+    if (bootcampIds.isEmpty()) {
+      return Mono.just(Set.of());
+    }
+    DatabaseClient databaseClient = template.getDatabaseClient();
+    return queryMetrics.timedRows(QUERY_DELETE_LOCK, databaseClient.sql(SELECT_BOOTCAMP_IDS_FOR_UPDATE)
+            .bind(PARAM_BOOTCAMP_IDS, bootcampIds)
+            .map((row, metadata) -> row.get(COLUMN_BOOTCAMP_ID, String.class))
+            .all())
+        .collect(Collectors.toCollection(LinkedHashSet::new))
+        .flatMap(existing -> existing.isEmpty()
+            ? Mono.just(Set.<String>copyOf(existing))
+            : Flux.fromIterable(existing)
+                .concatMap(bootcampId -> queryMetrics.timed(QUERY_DELETE, databaseClient.sql(DELETE_BOOTCAMP_PROCEDURE)
+                    .bind(PARAM_BOOTCAMP_ID, bootcampId)
+                    .then()))
+                .then(dataVersion.bump())
+                .thenReturn(Set.<String>copyOf(existing)))
+        .as(transactionalOperator::transactional)
+        .doOnNext(deleted -> countCache.adjust(-deleted.size()))
+        .doOnError(ignored -> countCache.invalidate());
+  }
+
+  public Mono<Long> rebuildReadModel() {
+    return queryMetrics.timed(QUERY_REBUILD_READ_MODEL, template.getDatabaseClient()
+            .sql(REPLACE_ALL_READ_MODEL)
+            .fetch()
+            .rowsUpdated()
+            .flatMap(replaced -> template.getDatabaseClient()
+                .sql(DELETE_ORPHAN_READ_MODEL_ROWS)
+                .fetch()
+                .rowsUpdated()
+                .thenReturn(replaced)))
+        .flatMap(replaced -> dataVersion.bump().thenReturn(replaced))
+        .as(transactionalOperator::transactional)
+        .doFinally(signal -> countCache.invalidate());
   }
 
   public Mono<PaginatedBootcamp> findAll(BootcampPageRequest request) {
@@ -80,191 +212,232 @@ public class SpringDataBootcampRepository {
       case CAPABILITY_COUNT -> COLUMN_CAPABILITY_COUNT;
     };
     String orderDirection = request.direction().name();
+    String seekPredicate = request.keyset()
+        ? String.format(SEEK_PREDICATE_TEMPLATE, orderColumn, request.direction() == SortDirection.ASC ? ">" : "<")
+        : NO_SEEK_PREDICATE;
     String sql = String.format(
-        PAGINATED_SELECT_TEMPLATE,
+        request.compact() ? PAGINATED_COMPACT_SELECT_TEMPLATE : PAGINATED_SELECT_TEMPLATE,
+        seekPredicate,
         orderColumn,
-        orderDirection,
-        PAGED_BOOTCAMP_ALIAS_PREFIX + orderColumn,
         orderDirection
     );
 
-    Mono<List<BootcampSummary>> bootcamps = template.getDatabaseClient()
+    DatabaseClient.GenericExecuteSpec spec = template.getDatabaseClient()
         .sql(sql)
-        .bind(PARAM_LIMIT, request.size())
-        .bind(PARAM_OFFSET, request.page() * request.size())
-        .map(this::mapPagedRow)
-        .all()
-        .transform(this::groupRowsByBootcamp)
-        .collectList();
-
-    return Mono.zip(bootcamps, countBootcamps())
+        .bind(PARAM_LIMIT, request.size() + 1)
+        .bind(PARAM_OFFSET, request.keyset() ? 0L : (long) request.page() * request.size());
+    if (request.keyset()) {
+      spec = spec
+          .bind(PARAM_CURSOR_KEY, cursorKey(request.cursor()))
+          .bind(PARAM_CURSOR_ID, request.cursor().id());
+    }
+
+    Mono<PageSlice> slice = queryMetrics.timedRows(
+            request.compact() ? QUERY_PAGE_COMPACT : QUERY_PAGE,
+            spec.map(request.compact() ? this::mapCompactRow : this::mapPageRow).all()
+        )
+        .collectList()
+        .flatMap(rows -> {
+          boolean hasNext = rows.size() > request.size();
+          List<BootcampRow> pageRows = hasNext ? rows.subList(0, request.size()) : rows;
+          Flux<BootcampSummary> summaries = request.compact()
+              ? Flux.fromIterable(pageRows).map(BootcampSummaryAssembler::compact)
+              : loadSummaries(pageRows);
+          return summaries.collectList().map(content -> new PageSlice(content, hasNext));
+        });
+
+    return Mono.zip(slice, countBootcamps(request.totalMode()))
         .map(tuple -> {
-          List<BootcampSummary> content = tuple.getT1();
+          List<BootcampSummary> content = tuple.getT1().content();
+          boolean hasNext = tuple.getT1().hasNext();
           long totalElements = tuple.getT2();
-          int totalPages = (int) Math.ceil(totalElements / (double) request.size());
-          return new PaginatedBootcamp(content, request.page(), request.size(), totalElements, totalPages);
+          int totalPages = totalElements == PaginatedBootcamp.UNKNOWN_TOTAL
+              ? (int) PaginatedBootcamp.UNKNOWN_TOTAL
+              : (int) Math.ceil(totalElements / (double) request.size());
+          String nextCursor = hasNext && !content.isEmpty()
+              ? BootcampCursor.after(request.sortBy(), request.direction(), content.get(content.size() - 1)).encode()
+              : null;
+          return new PaginatedBootcamp(content, request.page(), request.size(), totalElements, totalPages, hasNext, nextCursor);
         });
   }
 
-  private Mono<Void> insertBootcampCapabilities(String bootcampId, List<String> capabilities) {
-    return Flux.fromIterable(capabilities)
-        .concatMap(capabilityId -> template.getDatabaseClient()
-            .sql(INSERT_BOOTCAMP_CAPABILITY)
+  public Flux<BootcampSummary> streamAll(BootcampExportFilter filter) {
+    List<String> predicates = new ArrayList<>();
+    if (filter.launchedFrom() != null) {
+      predicates.add(LAUNCHED_FROM_PREDICATE);
+    }
+    if (filter.launchedTo() != null) {
+      predicates.add(LAUNCHED_TO_PREDICATE);
+    }
+    String where = predicates.isEmpty() ? "" : "WHERE " + String.join(" AND ", predicates);
+
+    DatabaseClient.GenericExecuteSpec spec = template.getDatabaseClient()
+        .sql(String.format(EXPORT_SELECT_TEMPLATE, where));
+    if (filter.launchedFrom() != null) {
+      spec = spec.bind(PARAM_LAUNCHED_FROM, filter.launchedFrom());
+    }
+    if (filter.launchedTo() != null) {
+      spec = spec.bind(PARAM_LAUNCHED_TO, filter.launchedTo());
+    }
+    return queryMetrics.timedRows(QUERY_EXPORT, spec.map(this::mapPageRow).all())
+        .buffer(EXPORT_CHUNK_SIZE)
+        .concatMap(this::loadSummaries, 1);
+  }
+
+  private Object cursorKey(BootcampCursor cursor) {
+    return switch (cursor.sortBy()) {
+      case NAME -> cursor.sortKey();
+      case CAPABILITY_COUNT -> Long.parseLong(cursor.sortKey());
+    };
+  }
+
+  private Mono<Void> refreshReadModel(String bootcampId) {
+    return queryMetrics.timed(QUERY_REFRESH_READ_MODEL, template.getDatabaseClient()
+            .sql(REPLACE_READ_MODEL_BY_ID)
             .bind(PARAM_BOOTCAMP_ID, bootcampId)
-            .bind(PARAM_CAPABILITY_ID, capabilityId)
             .fetch()
             .rowsUpdated())
         .then();
   }
 
-  private Mono<Bootcamp> mapSingleResult(List<BootcampCapabilityRow> rows) {
-    if (rows.isEmpty()) {
-      return Mono.empty();
+  private Mono<Void> refreshReadModel(Collection<String> bootcampIds) {
+    return queryMetrics.timed(QUERY_REFRESH_READ_MODEL, template.getDatabaseClient()
+            .sql(REPLACE_READ_MODEL_BY_IDS)
+            .bind(PARAM_BOOTCAMP_IDS, bootcampIds)
+            .fetch()
+            .rowsUpdated())
+        .then();
+  }
+
+  private Mono<Void> insertBootcamps(List<Bootcamp> bootcamps) {
+    DatabaseClient.GenericExecuteSpec spec = template.getDatabaseClient()
+        .sql(BootcampRepositorySupport.insertBootcamps(bootcamps.size()));
+    for (int index = 0; index < bootcamps.size(); index++) {
+      Bootcamp bootcamp = bootcamps.get(index);
+      spec = spec
+          .bind(PARAM_BOOTCAMP_ID + index, bootcamp.id())
+          .bind(PARAM_NAME + index, bootcamp.name())
+          .bind(PARAM_DESCRIPTION + index, bootcamp.description())
+          .bind(PARAM_LAUNCH_DATE + index, bootcamp.launchDate())
+          .bind(PARAM_DURATION_WEEKS + index, bootcamp.durationWeeks());
     }
-    return Mono.fromCallable(() -> {
-      var first = rows.get(0);
-      var capabilities = rows.stream()
-          .map(BootcampCapabilityRow::capabilityId)
-          .filter(Objects::nonNull)
-          .collect(Collectors.toCollection(LinkedHashSet::new));
-      return BootcampMapper.toDomain(
-          first.bootcampId(),
-          first.bootcampName(),
-          first.bootcampDescription(),
-          first.launchDate(),
-          first.durationWeeks(),
-          List.copyOf(capabilities)
-      );
-    });
+    return queryMetrics.timed(QUERY_INSERT_BOOTCAMPS, spec.fetch().rowsUpdated()).then();
   }
 
-  private Mono<Bootcamp> findOneBy(String column, String value) {
-    return template.getDatabaseClient()
-        .sql(BASE_SELECT + " WHERE " + BOOTCAMP_ALIAS_PREFIX + column + " = :" + PARAM_VALUE)
-        .bind(PARAM_VALUE, value)
-        .map(this::mapRow)
-        .all()
-        .collectList()
-        .flatMap(this::mapSingleResult);
+  private Mono<Void> insertBootcampCapabilities(List<BootcampCapabilityLinkRow> links) {
+    if (links.isEmpty()) {
+      return Mono.empty();
+    }
+    DatabaseClient.GenericExecuteSpec spec = template.getDatabaseClient()
+        .sql(BootcampRepositorySupport.insertBootcampCapabilities(links.size()));
+    for (int index = 0; index < links.size(); index++) {
+      BootcampCapabilityLinkRow link = links.get(index);
+      spec = spec
+          .bind(PARAM_BOOTCAMP_ID + index, link.bootcampId())
+          .bind(PARAM_CAPABILITY_ID + index, link.capabilityId());
+    }
+    return queryMetrics.timed(QUERY_INSERT_LINKS, spec.fetch().rowsUpdated()).then();
   }
 
-  private BootcampCapabilityRow mapRow(Row row, RowMetadata metadata) {
-    return new BootcampCapabilityRow(
+  private BootcampRow mapPageRow(Row row, RowMetadata metadata) {
+    Number capabilityCount = row.get(COLUMN_CAPABILITY_COUNT, Number.class);
+    return new BootcampRow(
         row.get(COLUMN_BOOTCAMP_ID, String.class),
         row.get(COLUMN_BOOTCAMP_NAME, String.class),
         row.get(COLUMN_BOOTCAMP_DESCRIPTION, String.class),
         row.get(COLUMN_BOOTCAMP_LAUNCH_DATE, LocalDate.class),
         row.get(COLUMN_BOOTCAMP_DURATION_WEEKS, Integer.class),
-        row.get(COLUMN_CAPABILITY_ID, String.class)
+        capabilityCount == null ? null : capabilityCount.intValue()
     );
   }
 
-  private BootcampCapabilityTechnologyDetailRow mapPagedRow(Row row, RowMetadata metadata) {
+  private BootcampRow mapCompactRow(Row row, RowMetadata metadata) {
     Number capabilityCount = row.get(COLUMN_CAPABILITY_COUNT, Number.class);
-    return new BootcampCapabilityTechnologyDetailRow(
+    return new BootcampRow(
         row.get(COLUMN_BOOTCAMP_ID, String.class),
         row.get(COLUMN_BOOTCAMP_NAME, String.class),
-        row.get(COLUMN_BOOTCAMP_DESCRIPTION, String.class),
+        null,
         row.get(COLUMN_BOOTCAMP_LAUNCH_DATE, LocalDate.class),
         row.get(COLUMN_BOOTCAMP_DURATION_WEEKS, Integer.class),
-        capabilityCount == null ? 0 : capabilityCount.intValue(),
-        row.get(COLUMN_CAPABILITY_ID, String.class),
-        row.get(COLUMN_CAPABILITY_NAME, String.class),
-        row.get(COLUMN_CAPABILITY_DESCRIPTION, String.class),
-        row.get(COLUMN_TECHNOLOGY_ID, String.class),
-        row.get(COLUMN_TECHNOLOGY_NAME, String.class)
+        capabilityCount == null ? null : capabilityCount.intValue()
     );
   }
 
-  private BootcampCapabilityTechnologyDetailRow mapDetailRow(Row row, RowMetadata metadata) {
-    return new BootcampCapabilityTechnologyDetailRow(
+  private BootcampRow mapBootcampRow(Row row, RowMetadata metadata) {
+    return new BootcampRow(
         row.get(COLUMN_BOOTCAMP_ID, String.class),
         row.get(COLUMN_BOOTCAMP_NAME, String.class),
         row.get(COLUMN_BOOTCAMP_DESCRIPTION, String.class),
         row.get(COLUMN_BOOTCAMP_LAUNCH_DATE, LocalDate.class),
         row.get(COLUMN_BOOTCAMP_DURATION_WEEKS, Integer.class),
-        0,
-        row.get(COLUMN_CAPABILITY_ID, String.class),
-        row.get(COLUMN_CAPABILITY_NAME, String.class),
-        row.get(COLUMN_CAPABILITY_DESCRIPTION, String.class),
-        row.get(COLUMN_TECHNOLOGY_ID, String.class),
-        row.get(COLUMN_TECHNOLOGY_NAME, String.class)
+        null
     );
   }
 
-  private Flux<BootcampSummary> groupRowsByBootcamp(Flux<BootcampCapabilityTechnologyDetailRow> rows) {
-    return rows.groupBy(BootcampCapabilityTechnologyDetailRow::bootcampId)
-        .concatMap(group -> group.collectList().map(this::mapToBootcampSummary));
+  private Flux<BootcampSummary> loadSummaries(List<BootcampRow> bootcamps) {
+    if (bootcamps.isEmpty()) {
+      return Flux.empty();
+    }
+    List<String> bootcampIds = bootcamps.stream().map(BootcampRow::bootcampId).toList();
+    return findCapabilityLinks(bootcampIds)
+        .flatMapMany(links -> findCapabilities(links.values().stream()
+                .flatMap(List::stream)
+                .collect(Collectors.toCollection(LinkedHashSet::new)))
+            .flatMapMany(capabilities -> BootcampSummaryAssembler.summaries(Flux.fromIterable(bootcamps), links, capabilities)));
   }
 
-  private BootcampSummary mapToBootcampSummary(List<BootcampCapabilityTechnologyDetailRow> rows) {
-    if (rows.isEmpty()) {
-      throw new IllegalStateException("bootcamp.rows.empty");
-    }
-    var first = rows.get(0);
-    Map<String, List<BootcampCapabilityTechnologyDetailRow>> capabilities = rows.stream()
-        .filter(row -> row.capabilityId() != null)
-        .collect(Collectors.groupingBy(
-            BootcampCapabilityTechnologyDetailRow::capabilityId,
-            LinkedHashMap::new,
-            Collectors.toList()
+  private Mono<Map<String, List<String>>> findCapabilityLinks(List<String> bootcampIds) {
+    Flux<BootcampCapabilityLinkRow> rows = queryMetrics.timedRows(QUERY_LINKS, template.getDatabaseClient()
+        .sql(SELECT_CAPABILITY_LINKS_BY_BOOTCAMP_IDS)
+        .bind(PARAM_BOOTCAMP_IDS, bootcampIds)
+        .map((row, metadata) -> new BootcampCapabilityLinkRow(
+            row.get(COLUMN_BOOTCAMP_ID, String.class),
+            row.get(COLUMN_CAPABILITY_ID, String.class)
+        ))
+        .all());
+    return BootcampSummaryAssembler.links(rows)
+        .collectMap(BootcampCapabilities::bootcampId, BootcampCapabilities::capabilityIds)
+        .doOnNext(links -> queryMetrics.recordFanOut(
+            QUERY_LINKS,
+            links.values().stream().mapToLong(List::size).sum(),
+            bootcampIds.size()
         ));
+  }
 
-    List<CapabilitySummary> capabilitySummaries = capabilities.values().stream()
-        .map(this::mapToCapabilitySummary)
-        .toList();
-
-    Integer durationWeeks = first.durationWeeks();
-    if (durationWeeks == null) {
-      throw new IllegalStateException("bootcamp.duration.null");
-    }
+  private Mono<Map<String, CapabilitySummary>> findCapabilities(Set<String> capabilityIds) {
+    return capabilityCatalog.resolve(capabilityIds);
+  }
 
-    int capabilityCount = first.capabilityCount();
-    if (capabilityCount == 0) {
-      capabilityCount = capabilitySummaries.size();
-    }
+  private Mono<Long> countBootcamps(BootcampTotalMode mode) {
+    return switch (mode) {
+      case NONE -> Mono.just(PaginatedBootcamp.UNKNOWN_TOTAL);
+      case EXACT -> countCache.get(runCountQuery(QUERY_COUNT_EXACT, COUNT_BOOTCAMPS_QUERY));
+      case ESTIMATE -> {
+        Long cached = countCache.peek();
+        yield cached != null ? Mono.just(cached) : runCountQuery(QUERY_COUNT_ESTIMATE, ESTIMATE_BOOTCAMPS_QUERY);
+      }
+    };
+  }
 
-    return new BootcampSummary(
-        first.bootcampId(),
-        first.bootcampName(),
-        first.bootcampDescription(),
-        first.launchDate(),
-        durationWeeks,
-        capabilitySummaries,
-        capabilityCount
-    );
+  private Mono<Long> runCountQuery(String name, String query) {
+    return queryMetrics.timed(name, template.getDatabaseClient()
+            .sql(query)
+            .map((row, metadata) -> {
+              Number count = row.get(COUNT_TOTAL_ALIAS, Number.class);
+              return count == null ? 0L : count.longValue();
+            })
+            .one())
+        .defaultIfEmpty(0L);
   }
 
-  private CapabilitySummary mapToCapabilitySummary(List<BootcampCapabilityTechnologyDetailRow> rows) {
-    if (rows.isEmpty()) {
-      throw new IllegalStateException("capability.rows.empty");
+  private static <T> List<List<T>> chunks(List<T> items) {
+    List<List<T>> chunks = new ArrayList<>();
+    for (int from = 0; from < items.size(); from += MAX_ROWS_PER_INSERT) {
+      chunks.add(items.subList(from, Math.min(items.size(), from + MAX_ROWS_PER_INSERT)));
     }
-    var first = rows.get(0);
-    Map<String, TechnologySummary> technologies = rows.stream()
-        .filter(row -> row.technologyId() != null && row.technologyName() != null)
-        .collect(Collectors.toMap(
-            BootcampCapabilityTechnologyDetailRow::technologyId,
-            row -> new TechnologySummary(row.technologyId(), row.technologyName()),
-            (existing, replacement) -> existing,
-            LinkedHashMap::new
-        ));
-    return new CapabilitySummary(
-        first.capabilityId(),
-        first.capabilityName(),
-        first.capabilityDescription(),
-        List.copyOf(technologies.values()),
-        technologies.size()
-    );
+    return chunks;
   }
 
-  private Mono<Long> countBootcamps() {
-    return template.getDatabaseClient()
-        .sql(COUNT_BOOTCAMPS_QUERY)
-        .map((row, metadata) -> {
-          Number count = row.get(COUNT_TOTAL_ALIAS, Number.class);
-          return count == null ? 0L : count.longValue();
-        })
-        .one()
-        .defaultIfEmpty(0L);
+  private record PageSlice(List<BootcampSummary> content, boolean hasNext) {
   }
 }
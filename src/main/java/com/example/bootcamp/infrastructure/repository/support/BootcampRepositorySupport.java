@@ -1,6 +1,8 @@
 package com.example.bootcamp.infrastructure.repository.support;
 
 import java.time.LocalDate;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 public final class BootcampRepositorySupport {
 
@@ -18,113 +20,196 @@ public final class BootcampRepositorySupport {
   public static final String COLUMN_CAPABILITY_DESCRIPTION = "capability_description";
   public static final String COLUMN_TECHNOLOGY_ID = "technology_id";
   public static final String COLUMN_TECHNOLOGY_NAME = "technology_name";
-  public static final String BOOTCAMP_COLUMN_ID = "id";
   public static final String BOOTCAMP_COLUMN_NAME = "name";
-  public static final String BOOTCAMP_ALIAS = "b";
-  public static final String BOOTCAMP_ALIAS_PREFIX = BOOTCAMP_ALIAS + ".";
-  public static final String PAGED_BOOTCAMP_ALIAS = "pb";
-  public static final String PAGED_BOOTCAMP_ALIAS_PREFIX = PAGED_BOOTCAMP_ALIAS + ".";
   public static final String PARAM_LIMIT = "limit";
   public static final String PARAM_OFFSET = "offset";
-  public static final String PARAM_VALUE = "value";
   public static final String PARAM_BOOTCAMP_ID = "bootcampId";
   public static final String PARAM_CAPABILITY_ID = "capabilityId";
+  public static final String PARAM_BOOTCAMP_IDS = "bootcampIds";
+  public static final String PARAM_LAUNCHED_FROM = "launchedFrom";
+  public static final String PARAM_LAUNCHED_TO = "launchedTo";
+  public static final String PARAM_CURSOR_KEY = "cursorKey";
+  public static final String PARAM_CURSOR_ID = "cursorId";
+  public static final String PARAM_NAME = "name";
+  public static final String PARAM_NAMES = "names";
+  public static final String PARAM_DESCRIPTION = "description";
+  public static final String PARAM_LAUNCH_DATE = "launchDate";
+  public static final String PARAM_DURATION_WEEKS = "durationWeeks";
+  public static final int MAX_ROWS_PER_INSERT = 500;
   public static final String COUNT_TOTAL_ALIAS = "total";
-  public static final String COUNT_BOOTCAMPS_QUERY = "SELECT COUNT(*) AS " + COUNT_TOTAL_ALIAS + " FROM bootcamp.bootcamps";
+  public static final String COUNT_BOOTCAMPS_QUERY = "SELECT COUNT(*) AS " + COUNT_TOTAL_ALIAS + " FROM bootcamp.bootcamp_read_model";
+  public static final String ESTIMATE_BOOTCAMPS_QUERY = "SELECT TABLE_ROWS AS " + COUNT_TOTAL_ALIAS
+      + " FROM information_schema.TABLES WHERE TABLE_SCHEMA = 'bootcamp' AND TABLE_NAME = 'bootcamp_read_model'";
   public static final String DELETE_BOOTCAMP_PROCEDURE = "CALL bootcamp.delete_bootcamp(:" + PARAM_BOOTCAMP_ID + ")";
-  public static final String INSERT_BOOTCAMP_CAPABILITY =
-      "INSERT INTO bootcamp.bootcamp_capability (bootcamp_id, capability_id) VALUES (:" + PARAM_BOOTCAMP_ID + ", :" + PARAM_CAPABILITY_ID + ")";
+  public static final String DELETE_ORPHAN_READ_MODEL_ROWS = """
+      DELETE rm FROM bootcamp.bootcamp_read_model rm
+      LEFT JOIN bootcamp.bootcamps b ON b.id = rm.id
+      WHERE b.id IS NULL
+      """;
+  public static final String INSERT_BOOTCAMPS_PREFIX =
+      "INSERT INTO bootcamp.bootcamps (id, name, description, launch_date, duration_weeks) VALUES ";
+  public static final String BOOTCAMP_VALUES_TEMPLATE = "(:" + PARAM_BOOTCAMP_ID + "%1$d, :" + PARAM_NAME + "%1$d, :"
+      + PARAM_DESCRIPTION + "%1$d, :" + PARAM_LAUNCH_DATE + "%1$d, :" + PARAM_DURATION_WEEKS + "%1$d)";
+  public static final String INSERT_BOOTCAMP_CAPABILITIES_PREFIX =
+      "INSERT INTO bootcamp.bootcamp_capability (bootcamp_id, capability_id) VALUES ";
+  public static final String BOOTCAMP_CAPABILITY_VALUES_TEMPLATE = "(:" + PARAM_BOOTCAMP_ID + "%1$d, :" + PARAM_CAPABILITY_ID + "%1$d)";
 
-  public static final String BASE_SELECT = """
-      SELECT b.id AS bootcamp_id,
-             b.name AS bootcamp_name,
-             b.description AS bootcamp_description,
-             b.launch_date AS bootcamp_launch_date,
-             b.duration_weeks AS bootcamp_duration_weeks,
-             bc.capability_id AS capability_id
+  public static final String NO_SEEK_PREDICATE = "";
+  public static final String SEEK_PREDICATE_TEMPLATE =
+      "WHERE (%1$s %2$s :" + PARAM_CURSOR_KEY + " OR (%1$s = :" + PARAM_CURSOR_KEY + " AND id > :" + PARAM_CURSOR_ID + "))";
+
+  public static final String REPLACE_READ_MODEL_TEMPLATE = """
+      REPLACE INTO bootcamp.bootcamp_read_model (id, name, description, launch_date, duration_weeks, capability_count, technology_count)
+      SELECT b.id,
+             b.name,
+             b.description,
+             b.launch_date,
+             b.duration_weeks,
+             COUNT(DISTINCT bc.capability_id),
+             COUNT(DISTINCT ct.technology_id)
       FROM bootcamp.bootcamps b
       LEFT JOIN bootcamp.bootcamp_capability bc ON bc.bootcamp_id = b.id
+      LEFT JOIN bootcamp.capability_technology ct ON ct.capability_id = bc.capability_id
+      %s
+      GROUP BY b.id, b.name, b.description, b.launch_date, b.duration_weeks
       """;
+  public static final String REPLACE_READ_MODEL_BY_ID =
+      String.format(REPLACE_READ_MODEL_TEMPLATE, "WHERE b.id = :" + PARAM_BOOTCAMP_ID);
+  public static final String REPLACE_READ_MODEL_BY_IDS =
+      String.format(REPLACE_READ_MODEL_TEMPLATE, "WHERE b.id IN (:" + PARAM_BOOTCAMP_IDS + ")");
+  public static final String REPLACE_ALL_READ_MODEL = String.format(REPLACE_READ_MODEL_TEMPLATE, "");
 
   public static final String PAGINATED_SELECT_TEMPLATE = """
-      WITH bootcamp_counts AS (
-          SELECT b.id,
-                 b.name,
-                 b.description,
-                 b.launch_date,
-                 b.duration_weeks,
-                 COUNT(DISTINCT bc.capability_id) AS capability_count
-          FROM bootcamp.bootcamps b
-          LEFT JOIN bootcamp.bootcamp_capability bc ON bc.bootcamp_id = b.id
-          GROUP BY b.id, b.name, b.description, b.launch_date, b.duration_weeks
-      ),
-      paged_bootcamps AS (
-          SELECT id,
-                 name,
-                 description,
-                 launch_date,
-                 duration_weeks,
-                 capability_count
-          FROM bootcamp_counts
-          ORDER BY %s %s, id ASC
-          LIMIT :limit OFFSET :offset
-      )
-      SELECT pb.id AS bootcamp_id,
-             pb.name AS bootcamp_name,
-             pb.description AS bootcamp_description,
-             pb.launch_date AS bootcamp_launch_date,
-             pb.duration_weeks AS bootcamp_duration_weeks,
-             pb.capability_count AS capability_count,
-             c.id AS capability_id,
-             c.name AS capability_name,
-             c.description AS capability_description,
-             t.id AS technology_id,
-             t.name AS technology_name
-      FROM paged_bootcamps pb
-      LEFT JOIN bootcamp.bootcamp_capability bc ON bc.bootcamp_id = pb.id
-      LEFT JOIN bootcamp.capabilities c ON c.id = bc.capability_id
-      LEFT JOIN bootcamp.capability_technology ct ON ct.capability_id = c.id
-      LEFT JOIN bootcamp.technologies t ON t.id = ct.technology_id
-      ORDER BY %s %s, pb.id ASC, c.name ASC, c.id ASC, t.name ASC, t.id ASC
+      SELECT id AS bootcamp_id,
+             name AS bootcamp_name,
+             description AS bootcamp_description,
+             launch_date AS bootcamp_launch_date,
+             duration_weeks AS bootcamp_duration_weeks,
+             capability_count AS capability_count
+      FROM bootcamp.bootcamp_read_model
+      %s
+      ORDER BY %s %s, id ASC
+      LIMIT :limit OFFSET :offset
       """;
 
-  public static final String SELECT_BOOTCAMP_DETAILS_BY_ID = String.format("""
+  public static final String SELECT_BOOTCAMP_BY_ID = String.format("""
       SELECT b.id AS bootcamp_id,
              b.name AS bootcamp_name,
              b.description AS bootcamp_description,
              b.launch_date AS bootcamp_launch_date,
-             b.duration_weeks AS bootcamp_duration_weeks,
-             c.id AS capability_id,
+             b.duration_weeks AS bootcamp_duration_weeks
+      FROM bootcamp.bootcamps b
+      WHERE b.id = :%s
+      """, PARAM_BOOTCAMP_ID);
+
+  public static final String PAGINATED_COMPACT_SELECT_TEMPLATE = """
+      SELECT id AS bootcamp_id,
+             name AS bootcamp_name,
+             launch_date AS bootcamp_launch_date,
+             duration_weeks AS bootcamp_duration_weeks,
+             capability_count AS capability_count
+      FROM bootcamp.bootcamp_read_model
+      %s
+      ORDER BY %s %s, id ASC
+      LIMIT :limit OFFSET :offset
+      """;
+
+  public static final String SELECT_READ_MODEL_BY_IDS = String.format("""
+      SELECT id AS bootcamp_id,
+             name AS bootcamp_name,
+             description AS bootcamp_description,
+             launch_date AS bootcamp_launch_date,
+             duration_weeks AS bootcamp_duration_weeks,
+             capability_count AS capability_count
+      FROM bootcamp.bootcamp_read_model
+      WHERE id IN (:%s)
+      """, PARAM_BOOTCAMP_IDS);
+
+  public static final String SELECT_BOOTCAMP_IDS_FOR_UPDATE = String.format("""
+      SELECT b.id AS bootcamp_id
+      FROM bootcamp.bootcamps b
+      WHERE b.id IN (:%s)
+      FOR UPDATE
+      """, PARAM_BOOTCAMP_IDS);
+
+  public static final String COLUMN_DATA_VERSION = "version";
+  public static final String SELECT_DATA_VERSION = "SELECT version FROM bootcamp.bootcamp_data_version WHERE id = 1";
+  public static final String BUMP_DATA_VERSION = "UPDATE bootcamp.bootcamp_data_version SET version = version + 1 WHERE id = 1";
+
+  public static final String SELECT_EXISTING_NAMES = String.format("""
+      SELECT b.name AS bootcamp_name
+      FROM bootcamp.bootcamps b
+      WHERE b.name IN (:%s)
+      """, PARAM_NAMES);
+
+  public static final String SELECT_CAPABILITY_LINKS_BY_BOOTCAMP_IDS = String.format("""
+      SELECT bc.bootcamp_id AS bootcamp_id,
+             bc.capability_id AS capability_id
+      FROM bootcamp.bootcamp_capability bc
+      WHERE bc.bootcamp_id IN (:%s)
+      ORDER BY bc.bootcamp_id ASC
+      """, PARAM_BOOTCAMP_IDS);
+
+  public static final String SELECT_CAPABILITY_CATALOG = """
+      SELECT c.id AS capability_id,
              c.name AS capability_name,
              c.description AS capability_description,
              t.id AS technology_id,
              t.name AS technology_name
-      FROM bootcamp.bootcamps b
-      LEFT JOIN bootcamp.bootcamp_capability bc ON bc.bootcamp_id = b.id
-      LEFT JOIN bootcamp.capabilities c ON c.id = bc.capability_id
+      FROM bootcamp.capabilities c
       LEFT JOIN bootcamp.capability_technology ct ON ct.capability_id = c.id
       LEFT JOIN bootcamp.technologies t ON t.id = ct.technology_id
-      WHERE b.id = :%s
-      ORDER BY b.id ASC, c.name ASC, c.id ASC, t.name ASC, t.id ASC
-      """, PARAM_BOOTCAMP_ID);
+      ORDER BY c.name ASC, c.id ASC, t.name ASC, t.id ASC
+      """;
+
+  public static String insertBootcamps(int rows) {
+    return multiRowInsert(INSERT_BOOTCAMPS_PREFIX, BOOTCAMP_VALUES_TEMPLATE, rows);
+  }
+
+  public static String insertBootcampCapabilities(int rows) {
+    return multiRowInsert(INSERT_BOOTCAMP_CAPABILITIES_PREFIX, BOOTCAMP_CAPABILITY_VALUES_TEMPLATE, rows);
+  }
+
+  public static String multiRowInsert(String prefix, String valuesTemplate, int rows) {
+    return prefix + IntStream.range(0, rows)
+        .mapToObj(index -> String.format(valuesTemplate, index))
+        .collect(Collectors.joining(", "));
+  }
+
+  public static final String LAUNCHED_FROM_PREDICATE = "rm.launch_date >= :" + PARAM_LAUNCHED_FROM;
+  public static final String LAUNCHED_TO_PREDICATE = "rm.launch_date <= :" + PARAM_LAUNCHED_TO;
 
-  public static record BootcampCapabilityRow(
+  public static final int EXPORT_CHUNK_SIZE = 100;
+
+  public static final String EXPORT_SELECT_TEMPLATE = """
+      SELECT rm.id AS bootcamp_id,
+             rm.name AS bootcamp_name,
+             rm.description AS bootcamp_description,
+             rm.launch_date AS bootcamp_launch_date,
+             rm.duration_weeks AS bootcamp_duration_weeks,
+             rm.capability_count AS capability_count
+      FROM bootcamp.bootcamp_read_model rm
+      %s
+      ORDER BY rm.launch_date ASC, rm.id ASC
+      """;
+
+  public static record BootcampRow(
       String bootcampId,
       String bootcampName,
       String bootcampDescription,
       LocalDate launchDate,
       Integer durationWeeks,
-      String capabilityId
+      Integer capabilityCount
   ) {
   }
 
-  public static record BootcampCapabilityTechnologyDetailRow(
+  public static record BootcampCapabilityLinkRow(
       String bootcampId,
-      String bootcampName,
-      String bootcampDescription,
-      LocalDate launchDate,
-      Integer durationWeeks,
-      int capabilityCount,
+      String capabilityId
+  ) {
+  }
+
+  public static record CapabilityTechnologyRow(
       String capabilityId,
       String capabilityName,
       String capabilityDescription,
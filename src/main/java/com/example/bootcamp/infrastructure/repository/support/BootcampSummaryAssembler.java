@@ -0,0 +1,119 @@
+package com.example.bootcamp.infrastructure.repository.support;
+
+import com.example.bootcamp.domain.model.BootcampSummary;
+import com.example.bootcamp.domain.model.CapabilitySummary;
+import com.example.bootcamp.domain.model.TechnologySummary;
+import com.example.bootcamp.infrastructure.repository.support.BootcampRepositorySupport.BootcampCapabilityLinkRow;
+import com.example.bootcamp.infrastructure.repository.support.BootcampRepositorySupport.BootcampRow;
+import com.example.bootcamp.infrastructure.repository.support.BootcampRepositorySupport.CapabilityTechnologyRow;
+import reactor.core.publisher.Flux;
+
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+public final class BootcampSummaryAssembler {
+
+  private static final Comparator<CapabilitySummary> CAPABILITY_ORDER = Comparator
+      .comparing(CapabilitySummary::name, Comparator.nullsLast(String.CASE_INSENSITIVE_ORDER))
+      .thenComparing(CapabilitySummary::id);
+
+  private BootcampSummaryAssembler() {
+  }
+
+  public static Flux<CapabilitySummary> capabilities(Flux<CapabilityTechnologyRow> rowsOrderedByCapability) {
+    return rowsOrderedByCapability
+        .bufferUntilChanged(CapabilityTechnologyRow::capabilityId)
+        .map(BootcampSummaryAssembler::capability);
+  }
+
+  public static Flux<BootcampCapabilities> links(Flux<BootcampCapabilityLinkRow> rowsOrderedByBootcamp) {
+    return rowsOrderedByBootcamp
+        .bufferUntilChanged(BootcampCapabilityLinkRow::bootcampId)
+        .map(rows -> new BootcampCapabilities(
+            rows.get(0).bootcampId(),
+            rows.stream().map(BootcampCapabilityLinkRow::capabilityId).toList()
+        ));
+  }
+
+  public static Flux<BootcampSummary> summaries(
+      Flux<BootcampRow> bootcamps,
+      Map<String, List<String>> links,
+      Map<String, CapabilitySummary> capabilities
+  ) {
+    return bootcamps.map(bootcamp -> bootcamp(bootcamp, links.getOrDefault(bootcamp.bootcampId(), List.of()), capabilities));
+  }
+
+  public static BootcampSummary bootcamp(
+      BootcampRow bootcamp,
+      List<String> capabilityIds,
+      Map<String, CapabilitySummary> capabilities
+  ) {
+    Integer durationWeeks = bootcamp.durationWeeks();
+    if (durationWeeks == null) {
+      throw new IllegalStateException("bootcamp.duration.null");
+    }
+
+    List<CapabilitySummary> capabilitySummaries = capabilityIds.stream()
+        .distinct()
+        .map(capabilities::get)
+        .filter(Objects::nonNull)
+        .sorted(CAPABILITY_ORDER)
+        .toList();
+
+    int capabilityCount = bootcamp.capabilityCount() == null
+        ? capabilitySummaries.size()
+        : bootcamp.capabilityCount();
+
+    return new BootcampSummary(
+        bootcamp.bootcampId(),
+        bootcamp.bootcampName(),
+        bootcamp.bootcampDescription(),
+        bootcamp.launchDate(),
+        durationWeeks,
+        capabilitySummaries,
+        capabilityCount
+    );
+  }
+
+  public static BootcampSummary compact(BootcampRow bootcamp) {
+    Integer durationWeeks = bootcamp.durationWeeks();
+    if (durationWeeks == null) {
+      throw new IllegalStateException("bootcamp.duration.null");
+    }
+    return new BootcampSummary(
+        bootcamp.bootcampId(),
+        bootcamp.bootcampName(),
+        bootcamp.bootcampDescription(),
+        bootcamp.launchDate(),
+        durationWeeks,
+        List.of(),
+        bootcamp.capabilityCount() == null ? 0 : bootcamp.capabilityCount()
+    );
+  }
+
+  public static CapabilitySummary capability(List<CapabilityTechnologyRow> rows) {
+    if (rows.isEmpty()) {
+      throw new IllegalStateException("capability.rows.empty");
+    }
+    var first = rows.get(0);
+    Map<String, TechnologySummary> technologies = new LinkedHashMap<>();
+    for (CapabilityTechnologyRow row : rows) {
+      if (row.technologyId() != null && row.technologyName() != null) {
+        technologies.putIfAbsent(row.technologyId(), new TechnologySummary(row.technologyId(), row.technologyName()));
+      }
+    }
+    return new CapabilitySummary(
+        first.capabilityId(),
+        first.capabilityName(),
+        first.capabilityDescription(),
+        List.copyOf(technologies.values()),
+        technologies.size()
+    );
+  }
+
+  public record BootcampCapabilities(String bootcampId, List<String> capabilityIds) {
+  }
+}
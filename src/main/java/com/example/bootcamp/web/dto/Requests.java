@@ -16,4 +16,8 @@ public class Requests {
       @Min(1) int durationWeeks,
       @NotNull @Size(min = 1, max = 4) List<@NotBlank String> capabilities
   ) {}
+
+  public record CreateBootcampBatchRequest(
+      @NotNull @Size(min = 1) List<@NotNull CreateBootcampRequest> bootcamps
+  ) {}
 }
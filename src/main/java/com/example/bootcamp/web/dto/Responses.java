@@ -2,8 +2,13 @@ package com.example.bootcamp.web.dto;
 
 public class Responses {
   public record IdResponse(String id) {}
+  public record BootcampCompactResponse(String id, String name, java.time.LocalDate launchDate, int durationWeeks, int capabilityCount) {}
+  public record BootcampCompactPageResponse(java.util.List<BootcampCompactResponse> content, int page, int size, Long totalElements, Integer totalPages, boolean hasNext, String nextCursor) {}
+  public record BootcampBatchItemResponse(int index, String id, String error, String message) {}
+  public record BootcampBatchResponse(java.util.List<BootcampBatchItemResponse> results, int created, int failed) {}
+  public record BootcampDeleteItemResponse(String id, boolean deleted, String error, String message) {}
+  public record BootcampDeleteResponse(java.util.List<BootcampDeleteItemResponse> results, int deleted, int notFound) {}
   public record TechnologyResponse(String id, String name) {}
   public record CapabilityResponse(String id, String name, String description, java.util.List<TechnologyResponse> technologies, int technologyCount) {}
   public record BootcampResponse(String id, String name, String description, java.time.LocalDate launchDate, int durationWeeks, java.util.List<CapabilityResponse> capabilities, int capabilityCount) {}
-  public record BootcampPageResponse(java.util.List<BootcampResponse> content, int page, int size, long totalElements, int totalPages) {}
 }
@@ -0,0 +1,48 @@
+package com.example.bootcamp.web.handler;
+
+import com.example.bootcamp.domain.model.BootcampSummary;
+import com.example.bootcamp.domain.model.CapabilitySummary;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+final class BootcampCsvFormatter {
+  private static final String HEADER = "id,name,description,launchDate,durationWeeks,capabilityCount,capabilities,technologies\n";
+
+  private BootcampCsvFormatter() {
+  }
+
+  static String header() {
+    return HEADER;
+  }
+
+  static String row(BootcampSummary summary) {
+    String capabilities = summary.capabilities().stream()
+        .map(CapabilitySummary::name)
+        .collect(Collectors.joining(";"));
+    Set<String> technologies = new LinkedHashSet<>();
+    summary.capabilities().forEach(capability ->
+        capability.technologies().forEach(technology -> technologies.add(technology.name())));
+    return String.join(",",
+        escape(summary.id()),
+        escape(summary.name()),
+        escape(summary.description()),
+        summary.launchDate().toString(),
+        String.valueOf(summary.durationWeeks()),
+        String.valueOf(summary.capabilityCount()),
+        escape(capabilities),
+        escape(String.join(";", technologies))
+    ) + "\n";
+  }
+
+  private static String escape(String value) {
+    if (value == null) {
+      return "";
+    }
+    if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+      return value;
+    }
+    return '"' + value.replace("\"", "\"\"") + '"';
+  }
+}
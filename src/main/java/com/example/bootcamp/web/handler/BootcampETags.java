@@ -0,0 +1,32 @@
+package com.example.bootcamp.web.handler;
+
+import com.example.bootcamp.domain.model.BootcampPageRequest;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+
+final class BootcampETags {
+  private BootcampETags() {
+  }
+
+  static String page(String version, BootcampPageRequest request) {
+    return weak(String.join("-",
+        version,
+        "p" + request.page(),
+        "s" + request.size(),
+        request.sortBy().name(),
+        request.direction().name(),
+        request.totalMode().name(),
+        request.view().name(),
+        request.cursor() == null ? "" : request.cursor().encode()
+    ));
+  }
+
+  static String bootcamp(String version, String bootcampId) {
+    return weak(version + "-" + URLEncoder.encode(bootcampId, StandardCharsets.UTF_8));
+  }
+
+  private static String weak(String value) {
+    return "W/\"" + value + "\"";
+  }
+}
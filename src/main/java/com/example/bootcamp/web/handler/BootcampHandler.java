@@ -2,46 +2,87 @@ package com.example.bootcamp.web.handler;
 
 import com.example.bootcamp.domain.error.DomainException;
 import com.example.bootcamp.domain.error.ErrorCodes;
+import com.example.bootcamp.domain.model.BootcampCursor;
+import com.example.bootcamp.domain.model.BootcampDeleteResult;
+import com.example.bootcamp.domain.model.BootcampDraft;
+import com.example.bootcamp.domain.model.BootcampExportFilter;
 import com.example.bootcamp.domain.model.BootcampPageRequest;
 import com.example.bootcamp.domain.model.BootcampSortField;
+import com.example.bootcamp.domain.model.BootcampSummary;
+import com.example.bootcamp.domain.model.BootcampTotalMode;
+import com.example.bootcamp.domain.model.BootcampView;
+import com.example.bootcamp.domain.model.PaginatedBootcamp;
 import com.example.bootcamp.domain.model.SortDirection;
+import com.example.bootcamp.domain.usecase.CreateBootcampBatchUseCase;
 import com.example.bootcamp.domain.usecase.CreateBootcampUseCase;
 import com.example.bootcamp.domain.usecase.DeleteBootcampUseCase;
+import com.example.bootcamp.domain.usecase.ExportBootcampUseCase;
+import com.example.bootcamp.domain.usecase.GetBootcampUseCase;
 import com.example.bootcamp.domain.usecase.ListBootcampUseCase;
+import com.example.bootcamp.infrastructure.repository.BootcampDataVersion;
 import com.example.bootcamp.web.dto.Requests.*;
 import com.example.bootcamp.web.dto.Responses.*;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
 import org.springframework.stereotype.Component;
 import org.springframework.validation.BeanPropertyBindingResult;
 import org.springframework.validation.Validator;
+import org.springframework.web.reactive.function.BodyInserter;
 import org.springframework.web.reactive.function.server.ServerRequest;
 import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import static org.springframework.web.reactive.function.BodyInserters.fromValue;
 
 @Component
 public class BootcampHandler {
+  private static final MediaType TEXT_CSV = new MediaType("text", "csv");
+  private static final Set<String> COMPACT_FIELDS = Set.of("id", "name", "launchDate", "durationWeeks", "capabilityCount");
+  private static final Set<String> FULL_FIELDS = Set.of("description", "capabilities");
+
   private final Validator validator;
   private final CreateBootcampUseCase createBootcamp;
+  private final CreateBootcampBatchUseCase createBootcampBatch;
   private final ListBootcampUseCase listBootcamp;
+  private final GetBootcampUseCase getBootcamp;
   private final DeleteBootcampUseCase deleteBootcampUseCase;
+  private final ExportBootcampUseCase exportBootcamp;
+  private final BootcampDataVersion dataVersion;
+  private final BootcampJsonWriter jsonWriter;
 
   public BootcampHandler(
       Validator validator,
       CreateBootcampUseCase createBootcamp,
+      CreateBootcampBatchUseCase createBootcampBatch,
       ListBootcampUseCase listBootcamp,
-      DeleteBootcampUseCase deleteBootcamp
+      GetBootcampUseCase getBootcamp,
+      DeleteBootcampUseCase deleteBootcamp,
+      ExportBootcampUseCase exportBootcamp,
+      BootcampDataVersion dataVersion,
+      BootcampJsonWriter jsonWriter
   ) {
     this.validator = validator;
     this.createBootcamp = createBootcamp;
+    this.createBootcampBatch = createBootcampBatch;
     this.listBootcamp = listBootcamp;
+    this.getBootcamp = getBootcamp;
     this.deleteBootcampUseCase = deleteBootcamp;
+    this.exportBootcamp = exportBootcamp;
+    this.dataVersion = dataVersion;
+    this.jsonWriter = jsonWriter;
   }
 
   public Mono<ServerResponse> createBootcamp(ServerRequest req){
@@ -51,20 +92,94 @@ public class BootcampHandler {
     );
   }
 
+  public Mono<ServerResponse> createBootcampBatch(ServerRequest req) {
+    return validatedBody(req, CreateBootcampBatchRequest.class, body ->
+      createBootcampBatch.execute(body.bootcamps().stream()
+              .map(item -> new BootcampDraft(item.name(), item.description(), item.launchDate(), item.durationWeeks(), item.capabilities()))
+              .toList())
+          .flatMap(results -> okJson(BootcampResponseMapper.batch(results)))
+    );
+  }
+
   public Mono<ServerResponse> getAllBootcamp(ServerRequest req) {
     return parsePageRequest(req)
-        .flatMap(listBootcamp::execute)
-        .flatMap(page -> okJson(BootcampResponseMapper.page(page)))
+        .flatMap(request -> dataVersion.current().flatMap(version -> conditionalJson(req, BootcampETags.page(version, request), () ->
+            listBootcamp.execute(version, request).map(page -> pageBody(request, page)))))
+        .onErrorResume(DomainException.class, ex -> problem(mapHttp(ex.getCode()), ex.getMessage()));
+  }
+
+  public Mono<ServerResponse> getBootcamp(ServerRequest req) {
+    String bootcampId = req.pathVariable("id");
+    return dataVersion.current()
+        .flatMap(version -> conditionalJson(req, BootcampETags.bootcamp(version, bootcampId), () ->
+            getBootcamp.execute(version, bootcampId).map(jsonWriter::bootcampBody)))
         .onErrorResume(DomainException.class, ex -> problem(mapHttp(ex.getCode()), ex.getMessage()));
   }
 
   public Mono<ServerResponse> deleteBootcamp(ServerRequest req) {
     String bootcampId = req.pathVariable("id");
     return deleteBootcampUseCase.execute(bootcampId)
+        .doFinally(signal -> jsonWriter.evict(bootcampId))
         .then(ServerResponse.noContent().build())
         .onErrorResume(DomainException.class, ex -> problem(mapHttp(ex.getCode()), ex.getMessage()));
   }
 
+  public Mono<ServerResponse> deleteBootcamps(ServerRequest req) {
+    List<String> bootcampIds = req.queryParams().getOrDefault("ids", List.of()).stream()
+        .flatMap(value -> Arrays.stream(value.split(",", -1)))
+        .toList();
+    return deleteBootcampUseCase.executeAll(bootcampIds)
+        .doOnNext(results -> results.stream()
+            .filter(BootcampDeleteResult::succeeded)
+            .forEach(result -> jsonWriter.evict(result.id())))
+        .flatMap(results -> okJson(BootcampResponseMapper.delete(results)))
+        .onErrorResume(DomainException.class, ex -> problem(mapHttp(ex.getCode()), ex.getMessage()));
+  }
+
+  public Mono<ServerResponse> exportBootcamps(ServerRequest req) {
+    return Mono.fromCallable(() -> new ExportRequest(
+            new BootcampExportFilter(parseDateQueryParam(req, "launchedFrom"), parseDateQueryParam(req, "launchedTo")),
+            wantsCsv(req)
+        ))
+        .onErrorMap(IllegalArgumentException.class, ex ->
+            new DomainException(ErrorCodes.VALIDATION_ERROR, Objects.requireNonNullElse(ex.getMessage(), "invalid.export.parameters"))
+        )
+        .flatMap(export -> {
+          Flux<BootcampSummary> bootcamps = exportBootcamp.execute(export.filter());
+          if (export.csv()) {
+            return ServerResponse.ok()
+                .contentType(TEXT_CSV)
+                .body(Flux.concat(Mono.just(BootcampCsvFormatter.header()), bootcamps.map(BootcampCsvFormatter::row)), String.class);
+          }
+          return ServerResponse.ok()
+              .contentType(MediaType.APPLICATION_NDJSON)
+              .body(bootcamps.map(BootcampResponseMapper::bootcamp), BootcampResponse.class);
+        })
+        .onErrorResume(DomainException.class, ex -> problem(mapHttp(ex.getCode()), ex.getMessage()));
+  }
+
+  private boolean wantsCsv(ServerRequest req) {
+    return req.queryParam("format")
+        .map(format -> switch (format.toLowerCase()) {
+          case "csv" -> true;
+          case "ndjson" -> false;
+          default -> throw new IllegalArgumentException("invalid.export.format");
+        })
+        .orElseGet(() -> req.headers().accept().stream().anyMatch(TEXT_CSV::equalsTypeAndSubtype));
+  }
+
+  private LocalDate parseDateQueryParam(ServerRequest req, String name) {
+    return req.queryParam(name)
+        .map(value -> {
+          try {
+            return LocalDate.parse(value);
+          } catch (DateTimeParseException ex) {
+            throw new IllegalArgumentException("invalid.export.launch.date");
+          }
+        })
+        .orElse(null);
+  }
+
   private Mono<BootcampPageRequest> parsePageRequest(ServerRequest req) {
     return Mono.fromCallable(() -> {
           int page = parseIntQueryParam(req, "page", 0, "invalid.pagination.page");
@@ -77,7 +192,26 @@ public class BootcampHandler {
               .map(String::toUpperCase)
               .map(this::parseDirection)
               .orElse(SortDirection.ASC);
-          return new BootcampPageRequest(page, size, sortField, direction);
+          BootcampCursor cursor = req.queryParam("cursor")
+              .filter(value -> !value.isBlank())
+              .map(BootcampCursor::decode)
+              .orElse(null);
+          boolean includeTotal = req.queryParam("includeTotal")
+              .map(this::parseIncludeTotal)
+              .orElse(true);
+          BootcampTotalMode totalMode = includeTotal
+              ? req.queryParam("totalMode")
+                  .map(String::toUpperCase)
+                  .map(this::parseTotalMode)
+                  .orElse(BootcampTotalMode.EXACT)
+              : BootcampTotalMode.NONE;
+          BootcampView view = req.queryParam("view")
+              .map(String::toUpperCase)
+              .map(this::parseView)
+              .orElseGet(() -> req.queryParam("fields")
+                  .map(this::viewForFields)
+                  .orElse(BootcampView.FULL));
+          return new BootcampPageRequest(page, size, sortField, direction, cursor, totalMode, view);
         })
         .onErrorMap(IllegalArgumentException.class, ex ->
             new DomainException(ErrorCodes.VALIDATION_ERROR, Objects.requireNonNullElse(ex.getMessage(), "invalid.pagination.parameters"))
@@ -112,6 +246,45 @@ public class BootcampHandler {
     }
   }
 
+  private boolean parseIncludeTotal(String value) {
+    return switch (value.toLowerCase()) {
+      case "true" -> true;
+      case "false" -> false;
+      default -> throw new IllegalArgumentException("invalid.pagination.include.total");
+    };
+  }
+
+  private BootcampTotalMode parseTotalMode(String value) {
+    try {
+      return BootcampTotalMode.valueOf(value);
+    } catch (IllegalArgumentException ex) {
+      throw new IllegalArgumentException("invalid.pagination.total.mode");
+    }
+  }
+
+  private BootcampView parseView(String value) {
+    try {
+      return BootcampView.valueOf(value);
+    } catch (IllegalArgumentException ex) {
+      throw new IllegalArgumentException("invalid.pagination.view");
+    }
+  }
+
+  private BootcampView viewForFields(String value) {
+    BootcampView view = BootcampView.COMPACT;
+    for (String field : value.split(",")) {
+      String name = field.trim();
+      if (COMPACT_FIELDS.contains(name)) {
+        continue;
+      }
+      if (!FULL_FIELDS.contains(name)) {
+        throw new IllegalArgumentException("invalid.pagination.fields");
+      }
+      view = BootcampView.FULL;
+    }
+    return view;
+  }
+
   private <T> Mono<ServerResponse> validatedBody(ServerRequest req, Class<T> clazz, Function<T, Mono<ServerResponse>> fn){
     return req.bodyToMono(clazz).flatMap(body -> {
       var errors = new BeanPropertyBindingResult(body, clazz.getSimpleName());
@@ -127,6 +300,27 @@ public class BootcampHandler {
         .onErrorResume(IllegalArgumentException.class, ex -> problem(400, ex.getMessage()));
   }
 
+  private BodyInserter<?, ? super ServerHttpResponse> pageBody(BootcampPageRequest request, PaginatedBootcamp page) {
+    if (request.compact()) {
+      return fromValue(BootcampResponseMapper.compactPage(page));
+    }
+    return jsonWriter.page(page);
+  }
+
+  private Mono<ServerResponse> conditionalJson(
+      ServerRequest req,
+      String etag,
+      Supplier<Mono<? extends BodyInserter<?, ? super ServerHttpResponse>>> body
+  ) {
+    if (req.exchange().checkNotModified(etag)) {
+      return ServerResponse.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+    }
+    return body.get().flatMap(inserter -> ServerResponse.ok()
+        .eTag(etag)
+        .contentType(MediaType.APPLICATION_JSON)
+        .body(inserter));
+  }
+
   private Mono<ServerResponse> okJson(Object any){
     return ServerResponse.ok().contentType(MediaType.APPLICATION_JSON).body(fromValue(any));
   }
@@ -142,4 +336,7 @@ public class BootcampHandler {
       default -> 500;
     };
   }
+
+  private record ExportRequest(BootcampExportFilter filter, boolean csv) {
+  }
 }
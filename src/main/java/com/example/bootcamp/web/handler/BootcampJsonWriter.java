@@ -0,0 +1,159 @@
+package com.example.bootcamp.web.handler;
+
+import com.example.bootcamp.domain.model.BootcampSummary;
+import com.example.bootcamp.domain.model.CapabilitySummary;
+import com.example.bootcamp.domain.model.PaginatedBootcamp;
+import com.example.bootcamp.infrastructure.catalog.CapabilityCatalog;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.ReactiveHttpOutputMessage;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.BodyInserter;
+import reactor.core.publisher.Mono;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+@Component
+public class BootcampJsonWriter {
+
+  private static final int ESTIMATED_BOOTCAMP_BYTES = 512;
+
+  private final ObjectMapper objectMapper;
+  private final CapabilityCatalog capabilityCatalog;
+  private final Cache<String, BootcampFragment> bootcamps;
+  private final Cache<CapabilityKey, SerializableString> capabilities;
+
+  public BootcampJsonWriter(
+      ObjectMapper objectMapper,
+      CapabilityCatalog capabilityCatalog,
+      @Value("${app.bootcamp.fragment-cache.max-size:10000}") long maxSize
+  ) {
+    this.objectMapper = objectMapper;
+    this.capabilityCatalog = capabilityCatalog;
+    this.bootcamps = Caffeine.newBuilder().maximumSize(maxSize).build();
+    this.capabilities = Caffeine.newBuilder().maximumSize(maxSize).build();
+  }
+
+  public BodyInserter<DataBuffer, ReactiveHttpOutputMessage> page(PaginatedBootcamp page) {
+    return (message, context) -> message.writeWith(Mono.fromCallable(() ->
+        write(message.bufferFactory(), ESTIMATED_BOOTCAMP_BYTES * (page.content().size() + 1), generator -> {
+          generator.writeStartObject();
+          generator.writeArrayFieldStart("content");
+          for (BootcampSummary summary : page.content()) {
+            generator.writeRawValue(bootcamp(summary));
+          }
+          generator.writeEndArray();
+          generator.writeNumberField("page", page.page());
+          generator.writeNumberField("size", page.size());
+          if (page.totalKnown()) {
+            generator.writeNumberField("totalElements", page.totalElements());
+            generator.writeNumberField("totalPages", page.totalPages());
+          } else {
+            generator.writeNullField("totalElements");
+            generator.writeNullField("totalPages");
+          }
+          generator.writeBooleanField("hasNext", page.hasNext());
+          generator.writeStringField("nextCursor", page.nextCursor());
+          generator.writeEndObject();
+        })));
+  }
+
+  public BodyInserter<DataBuffer, ReactiveHttpOutputMessage> bootcampBody(BootcampSummary summary) {
+    return (message, context) -> message.writeWith(Mono.fromCallable(() ->
+        write(message.bufferFactory(), ESTIMATED_BOOTCAMP_BYTES, generator -> generator.writeRawValue(bootcamp(summary)))));
+  }
+
+  public void evict(String bootcampId) {
+    bootcamps.invalidate(bootcampId);
+  }
+
+  SerializableString bootcamp(BootcampSummary summary) {
+    long catalogVersion = capabilityCatalog.version();
+    BootcampFragment cached = bootcamps.getIfPresent(summary.id());
+    if (cached != null && cached.catalogVersion() == catalogVersion) {
+      return cached.json();
+    }
+    SerializableString json = serialize(generator -> {
+      generator.writeStartObject();
+      generator.writeStringField("id", summary.id());
+      generator.writeStringField("name", summary.name());
+      generator.writeStringField("description", summary.description());
+      generator.writeObjectField("launchDate", summary.launchDate());
+      generator.writeNumberField("durationWeeks", summary.durationWeeks());
+      generator.writeArrayFieldStart("capabilities");
+      for (CapabilitySummary capability : summary.capabilities()) {
+        generator.writeRawValue(capability(capability));
+      }
+      generator.writeEndArray();
+      generator.writeNumberField("capabilityCount", summary.capabilityCount());
+      generator.writeEndObject();
+    });
+    bootcamps.put(summary.id(), new BootcampFragment(catalogVersion, json));
+    return json;
+  }
+
+  SerializableString capability(CapabilitySummary capability) {
+    return fragment(capabilities, new CapabilityKey(capability.id(), capabilityCatalog.version()), generator ->
+        generator.writeObject(BootcampResponseMapper.capability(capability)));
+  }
+
+  private SerializableString fragment(Cache<CapabilityKey, SerializableString> cache, CapabilityKey key, JsonWriter writer) {
+    SerializableString cached = cache.getIfPresent(key);
+    if (cached != null) {
+      return cached;
+    }
+    SerializableString json = serialize(writer);
+    cache.put(key, json);
+    return json;
+  }
+
+  private SerializableString serialize(JsonWriter writer) {
+    ByteArrayOutputStream out = new ByteArrayOutputStream(ESTIMATED_BOOTCAMP_BYTES);
+    writeTo(out, writer);
+    SerializedString fragment = new SerializedString(out.toString(StandardCharsets.UTF_8));
+    fragment.asUnquotedUTF8();
+    return fragment;
+  }
+
+  private DataBuffer write(DataBufferFactory bufferFactory, int initialCapacity, JsonWriter writer) {
+    DataBuffer buffer = bufferFactory.allocateBuffer(initialCapacity);
+    try {
+      writeTo(buffer.asOutputStream(), writer);
+      return buffer;
+    } catch (RuntimeException ex) {
+      DataBufferUtils.release(buffer);
+      throw ex;
+    }
+  }
+
+  private void writeTo(OutputStream out, JsonWriter writer) {
+    try (JsonGenerator generator = objectMapper.createGenerator(out)) {
+      writer.write(generator);
+    } catch (IOException ex) {
+      throw new UncheckedIOException(ex);
+    }
+  }
+
+  @FunctionalInterface
+  private interface JsonWriter {
+    void write(JsonGenerator generator) throws IOException;
+  }
+
+  private record BootcampFragment(long catalogVersion, SerializableString json) {
+  }
+
+  private record CapabilityKey(String id, long catalogVersion) {
+  }
+}
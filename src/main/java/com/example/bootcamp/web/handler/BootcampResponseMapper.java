@@ -1,25 +1,82 @@
 package com.example.bootcamp.web.handler;
 
+import com.example.bootcamp.domain.model.BootcampBatchResult;
+import com.example.bootcamp.domain.model.BootcampDeleteResult;
 import com.example.bootcamp.domain.model.BootcampSummary;
 import com.example.bootcamp.domain.model.CapabilitySummary;
 import com.example.bootcamp.domain.model.PaginatedBootcamp;
 import com.example.bootcamp.domain.model.TechnologySummary;
-import com.example.bootcamp.web.dto.Responses.BootcampPageResponse;
+import com.example.bootcamp.web.dto.Responses.BootcampBatchItemResponse;
+import com.example.bootcamp.web.dto.Responses.BootcampBatchResponse;
+import com.example.bootcamp.web.dto.Responses.BootcampCompactPageResponse;
+import com.example.bootcamp.web.dto.Responses.BootcampCompactResponse;
+import com.example.bootcamp.web.dto.Responses.BootcampDeleteItemResponse;
+import com.example.bootcamp.web.dto.Responses.BootcampDeleteResponse;
 import com.example.bootcamp.web.dto.Responses.BootcampResponse;
 import com.example.bootcamp.web.dto.Responses.CapabilityResponse;
 import com.example.bootcamp.web.dto.Responses.TechnologyResponse;
 
+import java.util.List;
+
 final class BootcampResponseMapper {
   private BootcampResponseMapper() {
   }
 
-  static BootcampPageResponse page(PaginatedBootcamp page) {
-    return new BootcampPageResponse(
-        page.content().stream().map(BootcampResponseMapper::bootcamp).toList(),
+  static BootcampCompactPageResponse compactPage(PaginatedBootcamp page) {
+    return new BootcampCompactPageResponse(
+        page.content().stream().map(BootcampResponseMapper::compact).toList(),
         page.page(),
         page.size(),
-        page.totalElements(),
-        page.totalPages()
+        page.totalKnown() ? page.totalElements() : null,
+        page.totalKnown() ? page.totalPages() : null,
+        page.hasNext(),
+        page.nextCursor()
+    );
+  }
+
+  static BootcampCompactResponse compact(BootcampSummary summary) {
+    return new BootcampCompactResponse(
+        summary.id(),
+        summary.name(),
+        summary.launchDate(),
+        summary.durationWeeks(),
+        summary.capabilityCount()
+    );
+  }
+
+  static BootcampBatchResponse batch(List<BootcampBatchResult> results) {
+    int created = (int) results.stream().filter(BootcampBatchResult::succeeded).count();
+    return new BootcampBatchResponse(
+        results.stream().map(BootcampResponseMapper::batchItem).toList(),
+        created,
+        results.size() - created
+    );
+  }
+
+  static BootcampBatchItemResponse batchItem(BootcampBatchResult result) {
+    return new BootcampBatchItemResponse(
+        result.index(),
+        result.id(),
+        result.error() == null ? null : result.error().name(),
+        result.message()
+    );
+  }
+
+  static BootcampDeleteResponse delete(List<BootcampDeleteResult> results) {
+    int deleted = (int) results.stream().filter(BootcampDeleteResult::succeeded).count();
+    return new BootcampDeleteResponse(
+        results.stream().map(BootcampResponseMapper::deleteItem).toList(),
+        deleted,
+        results.size() - deleted
+    );
+  }
+
+  static BootcampDeleteItemResponse deleteItem(BootcampDeleteResult result) {
+    return new BootcampDeleteItemResponse(
+        result.id(),
+        result.succeeded(),
+        result.error() == null ? null : result.error().name(),
+        result.message()
     );
   }
 
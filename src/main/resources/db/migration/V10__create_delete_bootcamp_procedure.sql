@@ -0,0 +1,2 @@
+CREATE PROCEDURE IF NOT EXISTS bootcamp.delete_bootcamp(IN p_bootcamp_id VARCHAR(36))
+DELETE FROM bootcamp.bootcamps WHERE id = p_bootcamp_id;
@@ -0,0 +1,25 @@
+CREATE TABLE IF NOT EXISTS bootcamp.bootcamp_read_model (
+    id VARCHAR(36) PRIMARY KEY,
+    name VARCHAR(100) NOT NULL,
+    description TEXT NOT NULL,
+    launch_date DATE NOT NULL,
+    duration_weeks INT NOT NULL,
+    capability_count INT NOT NULL,
+    technology_count INT NOT NULL,
+    FOREIGN KEY (id) REFERENCES bootcamp.bootcamps(id) ON DELETE CASCADE,
+    INDEX idx_bootcamp_read_model_name (name, id),
+    INDEX idx_bootcamp_read_model_capability_count (capability_count, id)
+);
+
+REPLACE INTO bootcamp.bootcamp_read_model (id, name, description, launch_date, duration_weeks, capability_count, technology_count)
+SELECT b.id,
+       b.name,
+       b.description,
+       b.launch_date,
+       b.duration_weeks,
+       COUNT(DISTINCT bc.capability_id),
+       COUNT(DISTINCT ct.technology_id)
+FROM bootcamp.bootcamps b
+LEFT JOIN bootcamp.bootcamp_capability bc ON bc.bootcamp_id = b.id
+LEFT JOIN bootcamp.capability_technology ct ON ct.capability_id = bc.capability_id
+GROUP BY b.id, b.name, b.description, b.launch_date, b.duration_weeks;
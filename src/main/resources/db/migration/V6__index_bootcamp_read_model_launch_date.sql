@@ -0,0 +1 @@
+CREATE INDEX idx_bootcamp_read_model_launch_date ON bootcamp.bootcamp_read_model (launch_date, id);
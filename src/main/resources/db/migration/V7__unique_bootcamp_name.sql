@@ -0,0 +1,15 @@
+UPDATE bootcamp.bootcamps b
+JOIN (
+    SELECT name, MIN(id) AS kept_id
+    FROM bootcamp.bootcamps
+    GROUP BY name
+    HAVING COUNT(*) > 1
+) duplicated ON duplicated.name = b.name AND b.id <> duplicated.kept_id
+SET b.name = CONCAT(LEFT(b.name, 62), ' #', b.id);
+
+UPDATE bootcamp.bootcamp_read_model rm
+JOIN bootcamp.bootcamps b ON b.id = rm.id
+SET rm.name = b.name
+WHERE rm.name <> b.name;
+
+CREATE UNIQUE INDEX ux_bootcamps_name ON bootcamp.bootcamps (name);
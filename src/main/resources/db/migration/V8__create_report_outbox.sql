@@ -0,0 +1,14 @@
+CREATE TABLE IF NOT EXISTS bootcamp.report_outbox (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    bootcamp_id VARCHAR(36) NOT NULL,
+    payload MEDIUMTEXT NOT NULL,
+    attempts INT NOT NULL DEFAULT 0,
+    created_at DATETIME(3) NOT NULL,
+    next_attempt_at DATETIME(3) NOT NULL,
+    locked_by VARCHAR(64) NULL,
+    locked_until DATETIME(3) NULL,
+    failed_at DATETIME(3) NULL,
+    last_error VARCHAR(500) NULL,
+    INDEX idx_report_outbox_due (failed_at, next_attempt_at, id),
+    INDEX idx_report_outbox_lock (locked_by, locked_until)
+);
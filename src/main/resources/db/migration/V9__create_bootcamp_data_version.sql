@@ -0,0 +1,6 @@
+CREATE TABLE IF NOT EXISTS bootcamp.bootcamp_data_version (
+    id TINYINT PRIMARY KEY,
+    version BIGINT NOT NULL
+);
+
+INSERT IGNORE INTO bootcamp.bootcamp_data_version (id, version) VALUES (1, 0);
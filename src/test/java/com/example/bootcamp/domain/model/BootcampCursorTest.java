@@ -0,0 +1,55 @@
+package com.example.bootcamp.domain.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BootcampCursorTest {
+
+    @Test
+    void encodeAndDecode_roundTrip() {
+        BootcampCursor cursor = new BootcampCursor(BootcampSortField.NAME, SortDirection.ASC, "Java: Advanced", "boot-1");
+
+        BootcampCursor decoded = BootcampCursor.decode(cursor.encode());
+
+        assertEquals(cursor, decoded);
+    }
+
+    @Test
+    void after_usesSortKeyOfLastBootcamp() {
+        BootcampSummary last = new BootcampSummary("boot-9", "Zeta", "desc", LocalDate.EPOCH, 4, List.of(), 3);
+
+        assertEquals(new BootcampCursor(BootcampSortField.NAME, SortDirection.ASC, "Zeta", "boot-9"),
+                BootcampCursor.after(BootcampSortField.NAME, SortDirection.ASC, last));
+        assertEquals(new BootcampCursor(BootcampSortField.CAPABILITY_COUNT, SortDirection.ASC, "3", "boot-9"),
+                BootcampCursor.after(BootcampSortField.CAPABILITY_COUNT, SortDirection.ASC, last));
+    }
+
+    @Test
+    void encodeAndDecode_keepsDirection() {
+        BootcampCursor cursor = new BootcampCursor(BootcampSortField.NAME, SortDirection.DESC, "Java", "boot-1");
+
+        assertEquals(SortDirection.DESC, BootcampCursor.decode(cursor.encode()).direction());
+    }
+
+    @Test
+    void decode_rejectsGarbage() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () ->
+                BootcampCursor.decode("not-a-cursor!")
+        );
+
+        assertEquals("invalid.pagination.cursor", exception.getMessage());
+    }
+
+    @Test
+    void create_rejectsNonNumericCapabilityCount() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () ->
+                new BootcampCursor(BootcampSortField.CAPABILITY_COUNT, SortDirection.ASC, "many", "boot-1")
+        );
+
+        assertEquals("invalid.pagination.cursor", exception.getMessage());
+    }
+}
@@ -34,6 +34,17 @@ class BootcampPageRequestTest {
         assertEquals("invalid.pagination.size", exception.getMessage());
     }
 
+    @Test
+    void createBootcampPageRequest_sizeAboveMaximum() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () ->
+                new BootcampPageRequest(0, BootcampPageRequest.MAX_SIZE + 1, BootcampSortField.NAME, SortDirection.ASC)
+        );
+
+        assertEquals("invalid.pagination.size", exception.getMessage());
+        assertEquals(BootcampPageRequest.MAX_SIZE,
+                new BootcampPageRequest(0, BootcampPageRequest.MAX_SIZE, BootcampSortField.NAME, SortDirection.ASC).size());
+    }
+
     @Test
     void createBootcampPageRequest_invalidSortField() {
         NullPointerException exception = assertThrows(NullPointerException.class, () ->
@@ -51,4 +62,26 @@ class BootcampPageRequestTest {
 
         assertEquals("invalid.pagination.direction", exception.getMessage());
     }
+
+    @Test
+    void createBootcampPageRequest_cursorForAnotherSortField() {
+        BootcampCursor cursor = new BootcampCursor(BootcampSortField.CAPABILITY_COUNT, SortDirection.ASC, "2", "boot-1");
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () ->
+                new BootcampPageRequest(0, 10, BootcampSortField.NAME, SortDirection.ASC, cursor)
+        );
+
+        assertEquals("invalid.pagination.cursor", exception.getMessage());
+    }
+
+    @Test
+    void createBootcampPageRequest_cursorForAnotherDirection() {
+        BootcampCursor cursor = new BootcampCursor(BootcampSortField.NAME, SortDirection.DESC, "Java", "boot-1");
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () ->
+                new BootcampPageRequest(0, 10, BootcampSortField.NAME, SortDirection.ASC, cursor)
+        );
+
+        assertEquals("invalid.pagination.cursor", exception.getMessage());
+    }
 }
@@ -0,0 +1,194 @@
+package com.example.bootcamp.domain.usecase;
+
+import com.example.bootcamp.domain.error.DomainException;
+import com.example.bootcamp.domain.error.ErrorCodes;
+import com.example.bootcamp.domain.model.Bootcamp;
+import com.example.bootcamp.domain.model.BootcampBatchResult;
+import com.example.bootcamp.domain.model.BootcampDraft;
+import com.example.bootcamp.domain.model.BootcampSummary;
+import com.example.bootcamp.domain.model.CapabilitySummary;
+import com.example.bootcamp.infrastructure.client.BootcampReportRequest;
+import com.example.bootcamp.infrastructure.outbox.BootcampReportOutbox;
+import com.example.bootcamp.infrastructure.repository.SpringDataBootcampRepository;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CreateBootcampBatchUseCaseTest {
+  private static final LocalDate LAUNCH_DATE = LocalDate.of(2024, 2, 1);
+
+  private final SpringDataBootcampRepository repo = Mockito.mock(SpringDataBootcampRepository.class);
+  private final BootcampReportOutbox reportOutbox = Mockito.mock(BootcampReportOutbox.class);
+
+  @Test
+  void creates_valid_items_and_reports_failures_per_index() {
+    Mockito.when(repo.findExistingNames(Mockito.anyCollection())).thenReturn(Flux.just("TAKEN"));
+    stubSave();
+    var uc = new CreateBootcampBatchUseCase(repo, reportOutbox, 10);
+
+    StepVerifier.create(uc.execute(List.of(
+            new BootcampDraft("Java", "des", LAUNCH_DATE, 8, List.of("c1")),
+            new BootcampDraft("Taken", "des", LAUNCH_DATE, 8, List.of("c1")),
+            new BootcampDraft("JÁVA", "des", LAUNCH_DATE, 8, List.of("c2")),
+            new BootcampDraft("Empty", "des", LAUNCH_DATE, 8, List.of())
+        )))
+        .assertNext(results -> {
+          assertEquals(4, results.size());
+          assertTrue(results.get(0).succeeded());
+          assertNotNull(results.get(0).id());
+          assertEquals(ErrorCodes.CONFLICT, results.get(1).error());
+          assertEquals("bootcamp.name.already.exists", results.get(1).message());
+          assertEquals("bootcamp.name.duplicated.in.batch", results.get(2).message());
+          assertEquals(ErrorCodes.VALIDATION_ERROR, results.get(3).error());
+          assertEquals("invalid.bootcamp.capabilities.min", results.get(3).message());
+        })
+        .verifyComplete();
+
+    Mockito.verify(repo).saveAll(Mockito.argThat((List<Bootcamp> bootcamps) -> bootcamps.size() == 1), Mockito.any());
+    Mockito.verify(repo, Mockito.never()).summarize(Mockito.any(Bootcamp.class));
+    Mockito.verify(reportOutbox).enqueueAll(Mockito.argThat((List<BootcampReportRequest> reports) ->
+        reports.size() == 1 && reports.get(0).name().equals("Java")));
+  }
+
+  @Test
+  void summarizes_the_whole_batch_in_one_lookup() {
+    Mockito.when(repo.findExistingNames(Mockito.anyCollection())).thenReturn(Flux.empty());
+    stubSave();
+    var uc = new CreateBootcampBatchUseCase(repo, reportOutbox, 10);
+
+    StepVerifier.create(uc.execute(List.of(
+            new BootcampDraft("A", "des", LAUNCH_DATE, 8, List.of("c1")),
+            new BootcampDraft("B", "des", LAUNCH_DATE, 8, List.of("c2")),
+            new BootcampDraft("C", "des", LAUNCH_DATE, 8, List.of("c1", "c2"))
+        )))
+        .assertNext(results -> assertTrue(results.stream().allMatch(BootcampBatchResult::succeeded)))
+        .verifyComplete();
+
+    Mockito.verify(repo).summarizeAll(Mockito.argThat((List<Bootcamp> bootcamps) -> bootcamps.size() == 3));
+    Mockito.verify(repo, Mockito.never()).summarize(Mockito.any(Bootcamp.class));
+  }
+
+  @Test
+  void treats_names_as_distinct_only_where_the_unique_index_does() {
+    Mockito.when(repo.findExistingNames(Mockito.anyCollection())).thenReturn(Flux.just("Cafe"));
+    stubSave();
+    var uc = new CreateBootcampBatchUseCase(repo, reportOutbox, 10);
+
+    StepVerifier.create(uc.execute(List.of(
+            new BootcampDraft("Java", "des", LAUNCH_DATE, 8, List.of("c1")),
+            new BootcampDraft("Java ", "des", LAUNCH_DATE, 8, List.of("c1")),
+            new BootcampDraft("CAFÉ", "des", LAUNCH_DATE, 8, List.of("c1"))
+        )))
+        .assertNext(results -> {
+          assertTrue(results.get(0).succeeded());
+          assertTrue(results.get(1).succeeded());
+          assertEquals("bootcamp.name.already.exists", results.get(2).message());
+        })
+        .verifyComplete();
+  }
+
+  @Test
+  void resubscribing_does_not_repeat_rejected_items() {
+    Mockito.when(repo.findExistingNames(Mockito.anyCollection())).thenReturn(Flux.just("TAKEN"));
+    stubSave();
+    var uc = new CreateBootcampBatchUseCase(repo, reportOutbox, 10);
+    Mono<List<BootcampBatchResult>> batch = uc.execute(List.of(
+        new BootcampDraft("Java", "des", LAUNCH_DATE, 8, List.of("c1")),
+        new BootcampDraft("Taken", "des", LAUNCH_DATE, 8, List.of("c1"))
+    ));
+
+    StepVerifier.create(batch).assertNext(results -> assertEquals(2, results.size())).verifyComplete();
+    StepVerifier.create(batch).assertNext(results -> assertEquals(2, results.size())).verifyComplete();
+  }
+
+  @Test
+  void rejects_batches_over_the_configured_size() {
+    var uc = new CreateBootcampBatchUseCase(repo, reportOutbox, 1);
+
+    StepVerifier.create(uc.execute(List.of(
+            new BootcampDraft("A", "des", LAUNCH_DATE, 8, List.of("c1")),
+            new BootcampDraft("B", "des", LAUNCH_DATE, 8, List.of("c1"))
+        )))
+        .expectErrorSatisfies(error -> {
+          assertInstanceOf(DomainException.class, error);
+          assertEquals("invalid.bootcamp.batch.size", error.getMessage());
+        })
+        .verify();
+    Mockito.verifyNoInteractions(repo);
+  }
+
+  @Test
+  void unique_index_violation_maps_to_conflict() {
+    Mockito.when(repo.findExistingNames(Mockito.anyCollection())).thenReturn(Flux.empty());
+    stubSave();
+    Mockito.when(repo.saveAll(Mockito.anyList(), Mockito.any())).thenReturn(Mono.error(new DuplicateKeyException("ux_bootcamps_name")));
+    var uc = new CreateBootcampBatchUseCase(repo, reportOutbox, 10);
+
+    StepVerifier.create(uc.execute(List.of(new BootcampDraft("A", "des", LAUNCH_DATE, 8, List.of("c1")))))
+        .expectErrorSatisfies(error -> {
+          assertInstanceOf(DomainException.class, error);
+          assertEquals("bootcamp.name.already.exists", error.getMessage());
+        })
+        .verify();
+  }
+
+  @Test
+  void reports_unknown_capabilities_per_item_and_saves_the_rest() {
+    Mockito.when(repo.findExistingNames(Mockito.anyCollection())).thenReturn(Flux.empty());
+    stubSave();
+    var uc = new CreateBootcampBatchUseCase(repo, reportOutbox, 10);
+
+    StepVerifier.create(uc.execute(List.of(
+            new BootcampDraft("Unknown", "des", LAUNCH_DATE, 8, List.of("c1", "missing")),
+            new BootcampDraft("Known", "des", LAUNCH_DATE, 8, List.of("c1"))
+        )))
+        .assertNext(results -> {
+          assertEquals(ErrorCodes.VALIDATION_ERROR, results.get(0).error());
+          assertEquals("invalid.bootcamp.capabilities.unknown", results.get(0).message());
+          assertTrue(results.get(1).succeeded());
+        })
+        .verifyComplete();
+
+    Mockito.verify(repo).saveAll(Mockito.argThat((List<Bootcamp> bootcamps) ->
+        bootcamps.size() == 1 && bootcamps.get(0).name().equals("Known")), Mockito.any());
+  }
+
+  @Test
+  void foreign_key_violation_maps_to_validation_error() {
+    Mockito.when(repo.findExistingNames(Mockito.anyCollection())).thenReturn(Flux.empty());
+    stubSave();
+    Mockito.when(repo.saveAll(Mockito.anyList(), Mockito.any()))
+        .thenReturn(Mono.error(new DataIntegrityViolationException("fk_bootcamp_capability_capability")));
+    var uc = new CreateBootcampBatchUseCase(repo, reportOutbox, 10);
+
+    StepVerifier.create(uc.execute(List.of(new BootcampDraft("A", "des", LAUNCH_DATE, 8, List.of("c1")))))
+        .expectErrorSatisfies(error -> {
+          assertInstanceOf(DomainException.class, error);
+          assertEquals(ErrorCodes.VALIDATION_ERROR, ((DomainException) error).getCode());
+          assertEquals("invalid.bootcamp.capabilities.unknown", error.getMessage());
+        })
+        .verify();
+  }
+
+  private void stubSave() {
+    Mockito.when(repo.summarizeAll(Mockito.anyList())).thenAnswer(i -> {
+      List<Bootcamp> bootcamps = i.getArgument(0);
+      return Flux.fromIterable(bootcamps).map(bootcamp -> new BootcampSummary(
+          bootcamp.id(), bootcamp.name(), "des", LAUNCH_DATE, 8, bootcamp.capabilities().stream()
+              .filter(id -> !id.equals("missing"))
+              .map(id -> new CapabilitySummary(id, id, "des", List.of(), 0))
+              .toList(), 0));
+    });
+    Mockito.when(reportOutbox.enqueueAll(Mockito.anyList())).thenReturn(Mono.empty());
+    Mockito.when(repo.saveAll(Mockito.anyList(), Mockito.any())).thenAnswer(i -> Mono.just(i.getArgument(0)));
+  }
+}
@@ -1,14 +1,17 @@
 package com.example.bootcamp.domain.usecase;
 
 import com.example.bootcamp.domain.error.DomainException;
+import com.example.bootcamp.domain.error.ErrorCodes;
 import com.example.bootcamp.domain.model.Bootcamp;
 import com.example.bootcamp.domain.model.BootcampSummary;
 import com.example.bootcamp.domain.model.CapabilitySummary;
 import com.example.bootcamp.domain.model.TechnologySummary;
-import com.example.bootcamp.infrastructure.client.BootcampReportClient;
+import com.example.bootcamp.infrastructure.outbox.BootcampReportOutbox;
 import com.example.bootcamp.infrastructure.repository.SpringDataBootcampRepository;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
@@ -21,23 +24,23 @@ class CreateBootcampUseCaseTest {
   @Test
   void create_ok(){
     SpringDataBootcampRepository repo = Mockito.mock(SpringDataBootcampRepository.class);
-    BootcampReportClient reportClient = Mockito.mock(BootcampReportClient.class);
-    Mockito.when(repo.findByName("My Bootcamp")).thenReturn(Mono.empty());
-    Mockito.when(repo.save(Mockito.any(Bootcamp.class))).thenAnswer(i -> Mono.just((Bootcamp) i.getArguments()[0]));
+    BootcampReportOutbox reportOutbox = Mockito.mock(BootcampReportOutbox.class);
+    Mockito.when(repo.save(Mockito.any(Bootcamp.class), Mockito.any())).thenAnswer(i -> Mono.just((Bootcamp) i.getArguments()[0]));
     var launchDate = LocalDate.of(2024, 2, 1);
-    Mockito.when(repo.findSummaryById(Mockito.anyString())).thenAnswer(invocation -> {
-      String id = invocation.getArgument(0, String.class);
-      CapabilitySummary capability = new CapabilitySummary(
+    Mockito.when(repo.summarize(Mockito.any(Bootcamp.class))).thenAnswer(invocation -> {
+      String id = invocation.getArgument(0, Bootcamp.class).id();
+      CapabilitySummary backend = new CapabilitySummary(
           "c1",
           "Backend",
           "Server",
           List.of(new TechnologySummary("t1", "Java")),
           1
       );
-      return Mono.just(new BootcampSummary(id, "My Bootcamp", "des", launchDate, 8, List.of(capability), 1));
+      CapabilitySummary frontend = new CapabilitySummary("c2", "Frontend", "Client", List.of(), 0);
+      return Mono.just(new BootcampSummary(id, "My Bootcamp", "des", launchDate, 8, List.of(backend, frontend), 2));
     });
-    Mockito.when(reportClient.sendBootcampReport(Mockito.any(), Mockito.any())).thenReturn(Mono.empty());
-    var uc = new CreateBootcampUseCase(repo, reportClient);
+    Mockito.when(reportOutbox.enqueue(Mockito.any(), Mockito.any())).thenReturn(Mono.empty());
+    var uc = new CreateBootcampUseCase(repo, reportOutbox);
     var capabilities = java.util.List.of("c1", "c2");
     StepVerifier.create(uc.execute("My Bootcamp", "des", launchDate, 8, capabilities))
         .assertNext(bootcamp -> {
@@ -48,15 +51,19 @@ class CreateBootcampUseCaseTest {
           assertEquals(capabilities, bootcamp.capabilities());
         })
         .verifyComplete();
-    Mockito.verify(reportClient).sendBootcampReport(Mockito.any(Bootcamp.class), Mockito.any(BootcampSummary.class));
+    Mockito.verify(reportOutbox).enqueue(Mockito.any(Bootcamp.class), Mockito.any(BootcampSummary.class));
+    Mockito.verify(repo, Mockito.never()).findExistingNames(Mockito.anyCollection());
+    Mockito.verify(repo, Mockito.never()).findSummaryById(Mockito.anyString());
   }
 
   @Test
   void create_conflict_when_name_exists(){
     SpringDataBootcampRepository repo = Mockito.mock(SpringDataBootcampRepository.class);
-    BootcampReportClient reportClient = Mockito.mock(BootcampReportClient.class);
-    Mockito.when(repo.findByName("My Bootcamp")).thenReturn(Mono.just(new Bootcamp("id", "My Bootcamp", "des", LocalDate.of(2024,1,1), 10, java.util.List.of("c1","c2"))));
-    var uc = new CreateBootcampUseCase(repo, reportClient);
+    BootcampReportOutbox reportOutbox = Mockito.mock(BootcampReportOutbox.class);
+    Mockito.when(repo.save(Mockito.any(Bootcamp.class), Mockito.any())).thenReturn(Mono.error(new DuplicateKeyException("ux_bootcamps_name")));
+    Mockito.when(repo.summarize(Mockito.any(Bootcamp.class))).thenAnswer(i -> Mono.just(summary(i.getArgument(0), "c1", "c2")));
+    Mockito.when(reportOutbox.enqueue(Mockito.any(), Mockito.any())).thenReturn(Mono.empty());
+    var uc = new CreateBootcampUseCase(repo, reportOutbox);
 
     StepVerifier.create(uc.execute("My Bootcamp", "des", LocalDate.of(2024, 1, 1), 10, java.util.List.of("c1", "c2")))
         .expectErrorSatisfies(error -> {
@@ -66,12 +73,47 @@ class CreateBootcampUseCaseTest {
         .verify();
   }
 
+  @Test
+  void create_validation_error_when_a_capability_is_unknown(){
+    SpringDataBootcampRepository repo = Mockito.mock(SpringDataBootcampRepository.class);
+    BootcampReportOutbox reportOutbox = Mockito.mock(BootcampReportOutbox.class);
+    Mockito.when(repo.summarize(Mockito.any(Bootcamp.class))).thenAnswer(i -> Mono.just(summary(i.getArgument(0), "c1")));
+    var uc = new CreateBootcampUseCase(repo, reportOutbox);
+
+    StepVerifier.create(uc.execute("My Bootcamp", "des", LocalDate.of(2024, 1, 1), 10, java.util.List.of("c1", "missing")))
+        .expectErrorSatisfies(error -> {
+          assertInstanceOf(DomainException.class, error);
+          assertEquals(ErrorCodes.VALIDATION_ERROR, ((DomainException) error).getCode());
+          assertEquals("invalid.bootcamp.capabilities.unknown", error.getMessage());
+        })
+        .verify();
+    Mockito.verify(repo, Mockito.never()).save(Mockito.any(Bootcamp.class), Mockito.any());
+  }
+
+  @Test
+  void create_validation_error_when_a_capability_link_violates_the_foreign_key(){
+    SpringDataBootcampRepository repo = Mockito.mock(SpringDataBootcampRepository.class);
+    BootcampReportOutbox reportOutbox = Mockito.mock(BootcampReportOutbox.class);
+    Mockito.when(repo.summarize(Mockito.any(Bootcamp.class))).thenAnswer(i -> Mono.just(summary(i.getArgument(0), "c1")));
+    Mockito.when(repo.save(Mockito.any(Bootcamp.class), Mockito.any()))
+        .thenReturn(Mono.error(new DataIntegrityViolationException("fk_bootcamp_capability_capability")));
+    Mockito.when(reportOutbox.enqueue(Mockito.any(), Mockito.any())).thenReturn(Mono.empty());
+    var uc = new CreateBootcampUseCase(repo, reportOutbox);
+
+    StepVerifier.create(uc.execute("My Bootcamp", "des", LocalDate.of(2024, 1, 1), 10, java.util.List.of("c1")))
+        .expectErrorSatisfies(error -> {
+          assertInstanceOf(DomainException.class, error);
+          assertEquals(ErrorCodes.VALIDATION_ERROR, ((DomainException) error).getCode());
+          assertEquals("invalid.bootcamp.capabilities.unknown", error.getMessage());
+        })
+        .verify();
+  }
+
   @Test
   void create_validation_error_when_capabilities_invalid(){
     SpringDataBootcampRepository repo = Mockito.mock(SpringDataBootcampRepository.class);
-    BootcampReportClient reportClient = Mockito.mock(BootcampReportClient.class);
-    Mockito.when(repo.findByName("My Bootcamp")).thenReturn(Mono.empty());
-    var uc = new CreateBootcampUseCase(repo, reportClient);
+    BootcampReportOutbox reportOutbox = Mockito.mock(BootcampReportOutbox.class);
+    var uc = new CreateBootcampUseCase(repo, reportOutbox);
 
     StepVerifier.create(uc.execute("My Bootcamp", "des", LocalDate.of(2024, 1, 1), 5, java.util.List.of()))
         .expectErrorSatisfies(error -> {
@@ -80,4 +122,11 @@ class CreateBootcampUseCaseTest {
         })
         .verify();
   }
+
+  private static BootcampSummary summary(Bootcamp bootcamp, String... capabilityIds) {
+    List<CapabilitySummary> capabilities = java.util.Arrays.stream(capabilityIds)
+        .map(id -> new CapabilitySummary(id, id, "des", List.of(), 0))
+        .toList();
+    return new BootcampSummary(bootcamp.id(), bootcamp.name(), "des", bootcamp.launchDate(), bootcamp.durationWeeks(), capabilities, 0);
+  }
 }
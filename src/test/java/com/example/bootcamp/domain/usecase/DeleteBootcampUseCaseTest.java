@@ -0,0 +1,70 @@
+package com.example.bootcamp.domain.usecase;
+
+import com.example.bootcamp.domain.error.DomainException;
+import com.example.bootcamp.domain.error.ErrorCodes;
+import com.example.bootcamp.infrastructure.repository.SpringDataBootcampRepository;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DeleteBootcampUseCaseTest {
+
+  private final SpringDataBootcampRepository repo = Mockito.mock(SpringDataBootcampRepository.class);
+  private final DeleteBootcampUseCase uc = new DeleteBootcampUseCase(repo, 3);
+
+  @Test
+  void delete_decides_not_found_from_affected_rows() {
+    Mockito.when(repo.deleteById("missing")).thenReturn(Mono.just(false));
+
+    StepVerifier.create(uc.execute("missing"))
+        .expectErrorSatisfies(error -> {
+          assertInstanceOf(DomainException.class, error);
+          assertEquals("bootcamp.not.found", error.getMessage());
+        })
+        .verify();
+    Mockito.verify(repo, Mockito.never()).findSummaryById(Mockito.anyString());
+  }
+
+  @Test
+  void delete_ok() {
+    Mockito.when(repo.deleteById("b1")).thenReturn(Mono.just(true));
+
+    StepVerifier.create(uc.execute("b1"))
+        .verifyComplete();
+  }
+
+  @Test
+  void bulk_delete_reports_each_id_in_request_order() {
+    Mockito.when(repo.deleteByIds(Mockito.anyCollection())).thenReturn(Mono.just(Set.of("b1", "b3")));
+
+    StepVerifier.create(uc.executeAll(List.of("b1", "b2", " b3", "b1")))
+        .assertNext(results -> {
+          assertEquals(List.of("b1", "b2", "b3"), results.stream().map(result -> result.id()).toList());
+          assertTrue(results.get(0).succeeded());
+          assertEquals(ErrorCodes.BOOTCAMP_NOT_FOUND, results.get(1).error());
+          assertTrue(results.get(2).succeeded());
+        })
+        .verifyComplete();
+    Mockito.verify(repo).deleteByIds(Set.of("b1", "b2", "b3"));
+  }
+
+  @Test
+  void bulk_delete_validates_ids() {
+    StepVerifier.create(uc.executeAll(List.of()))
+        .expectErrorMessage("invalid.bootcamp.delete.ids.empty")
+        .verify();
+    StepVerifier.create(uc.executeAll(List.of("b1", "")))
+        .expectErrorMessage("invalid.bootcamp.delete.ids.blank")
+        .verify();
+    StepVerifier.create(uc.executeAll(List.of("b1", "b2", "b3", "b4")))
+        .expectErrorMessage("invalid.bootcamp.delete.ids.size")
+        .verify();
+    Mockito.verifyNoInteractions(repo);
+  }
+}
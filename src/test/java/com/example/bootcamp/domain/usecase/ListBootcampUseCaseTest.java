@@ -6,18 +6,35 @@ import com.example.bootcamp.domain.model.BootcampPageRequest;
 import com.example.bootcamp.domain.model.BootcampSortField;
 import com.example.bootcamp.domain.model.PaginatedBootcamp;
 import com.example.bootcamp.domain.model.SortDirection;
+import com.example.bootcamp.infrastructure.repository.BootcampDataVersion;
+import com.example.bootcamp.infrastructure.repository.BootcampPageCache;
 import com.example.bootcamp.infrastructure.repository.SpringDataBootcampRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
 import reactor.test.StepVerifier;
 
+import java.time.Duration;
 import java.util.Collections;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
 class ListBootcampUseCaseTest {
 
     private final SpringDataBootcampRepository repository = Mockito.mock(SpringDataBootcampRepository.class);
-    private final ListBootcampUseCase useCase = new ListBootcampUseCase(repository);
+    private final BootcampDataVersion dataVersion = Mockito.mock(BootcampDataVersion.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final BootcampPageCache pageCache = new BootcampPageCache(100, Duration.ofMinutes(1), meterRegistry);
+    private final ListBootcampUseCase useCase = new ListBootcampUseCase(repository, pageCache, dataVersion);
+
+    @BeforeEach
+    void stubDataVersion() {
+        Mockito.when(dataVersion.current()).thenReturn(Mono.just("1.0"));
+    }
 
     @Test
     void delegatesToRepository() {
@@ -32,6 +49,36 @@ class ListBootcampUseCaseTest {
         Mockito.verify(repository).findAll(request);
     }
 
+    @Test
+    void coalescesConcurrentIdenticalRequests() {
+        BootcampPageRequest request = new BootcampPageRequest(0, 5, BootcampSortField.NAME, SortDirection.ASC);
+        PaginatedBootcamp page = new PaginatedBootcamp(Collections.emptyList(), 0, 5, 0, 0);
+        Sinks.One<PaginatedBootcamp> pending = Sinks.one();
+        Mockito.when(repository.findAll(request)).thenReturn(pending.asMono());
+
+        StepVerifier.create(Mono.zip(useCase.execute(request), useCase.execute(new BootcampPageRequest(0, 5, BootcampSortField.NAME, SortDirection.ASC))))
+                .then(() -> pending.tryEmitValue(page))
+                .assertNext(tuple -> assertSame(tuple.getT1(), tuple.getT2()))
+                .verifyComplete();
+
+        Mockito.verify(repository, Mockito.times(1)).findAll(request);
+        assertEquals(1.0, meterRegistry.get("bootcamp.page.coalesced").counter().count());
+    }
+
+    @Test
+    void reloadsAfterDataVersionChanges() {
+        BootcampPageRequest request = new BootcampPageRequest(0, 5, BootcampSortField.NAME, SortDirection.ASC);
+        PaginatedBootcamp page = new PaginatedBootcamp(Collections.emptyList(), 0, 5, 0, 0);
+        Mockito.when(repository.findAll(request)).thenReturn(Mono.just(page));
+
+        StepVerifier.create(useCase.execute(request)).expectNext(page).verifyComplete();
+        StepVerifier.create(useCase.execute(request)).expectNext(page).verifyComplete();
+        Mockito.when(dataVersion.current()).thenReturn(Mono.just("2.0"));
+        StepVerifier.create(useCase.execute(request)).expectNext(page).verifyComplete();
+
+        Mockito.verify(repository, Mockito.times(2)).findAll(request);
+    }
+
     /*@Test
     void failsForInvalidSize() {
         BootcampPageRequest request = new BootcampPageRequest(0, 0, BootcampSortField.NAME, SortDirection.ASC);
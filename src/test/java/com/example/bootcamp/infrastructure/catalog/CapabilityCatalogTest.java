@@ -0,0 +1,143 @@
+package com.example.bootcamp.infrastructure.catalog;
+
+import com.example.bootcamp.domain.model.CapabilitySummary;
+import com.example.bootcamp.domain.model.TechnologySummary;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CapabilityCatalogTest {
+
+  private final Clock clock = Clock.fixed(Instant.parse("2024-01-01T00:00:00Z"), ZoneOffset.UTC);
+
+  private final CapabilitySummary backend = new CapabilitySummary("c1", "Backend", "Server", List.of(new TechnologySummary("t1", "Java")), 1);
+  private final CapabilitySummary frontend = new CapabilitySummary("c2", "Frontend", "Client", List.of(), 0);
+
+  @Test
+  void resolvesFromLoadedSnapshotInCatalogOrder() {
+    AtomicInteger loads = new AtomicInteger();
+    CapabilityCatalog catalog = new CapabilityCatalog(() -> {
+      loads.incrementAndGet();
+      return Flux.just(backend, frontend);
+    }, Duration.ofMinutes(5), clock);
+
+    StepVerifier.create(catalog.refresh()).expectNextCount(1).verifyComplete();
+    StepVerifier.create(catalog.resolve(List.of("c2", "c1")))
+        .assertNext(capabilities -> {
+          assertEquals(List.of("c1", "c2"), List.copyOf(capabilities.keySet()));
+          assertSame(backend, capabilities.get("c1"));
+        })
+        .verifyComplete();
+
+    assertEquals(1, loads.get());
+  }
+
+  @Test
+  void reloadsOnUnknownIdOncePerInterval() {
+    MutableClock mutableClock = new MutableClock(clock.instant());
+    AtomicInteger loads = new AtomicInteger();
+    CapabilityCatalog catalog = new CapabilityCatalog(() -> loads.incrementAndGet() == 1
+        ? Flux.just(backend)
+        : Flux.just(backend, frontend), Duration.ofMinutes(5), mutableClock);
+
+    StepVerifier.create(catalog.resolve(List.of("c1"))).assertNext(capabilities -> assertEquals(1, capabilities.size())).verifyComplete();
+    StepVerifier.create(catalog.resolve(List.of("c1", "c2")))
+        .assertNext(capabilities -> assertEquals(List.of("c1"), List.copyOf(capabilities.keySet())))
+        .verifyComplete();
+    assertEquals(1, loads.get());
+
+    long before = catalog.version();
+    mutableClock.advance(Duration.ofSeconds(2));
+    StepVerifier.create(catalog.resolve(List.of("c1", "c2", "missing")))
+        .assertNext(capabilities -> assertEquals(List.of("c1", "c2"), List.copyOf(capabilities.keySet())))
+        .verifyComplete();
+    assertEquals(2, loads.get());
+    assertNotEquals(before, catalog.version());
+  }
+
+  @Test
+  void waitsForAnInFlightReloadInsteadOfDroppingUnknownIds() {
+    Sinks.One<List<CapabilitySummary>> pendingLoad = Sinks.one();
+    AtomicInteger loads = new AtomicInteger();
+    CapabilityCatalog catalog = new CapabilityCatalog(() -> loads.incrementAndGet() == 1
+        ? Flux.just(backend)
+        : pendingLoad.asMono().flatMapMany(Flux::fromIterable), Duration.ofMinutes(5), clock);
+
+    StepVerifier.create(catalog.refresh()).expectNextCount(1).verifyComplete();
+    catalog.refresh().subscribe();
+
+    StepVerifier.create(catalog.resolve(List.of("c1", "c2")))
+        .then(() -> pendingLoad.tryEmitValue(List.of(backend, frontend)))
+        .assertNext(capabilities -> assertEquals(List.of("c1", "c2"), List.copyOf(capabilities.keySet())))
+        .verifyComplete();
+    assertEquals(2, loads.get());
+  }
+
+  @Test
+  void doesNotBumpVersionWhenContentIsUnchanged() {
+    CapabilityCatalog catalog = new CapabilityCatalog(() -> Flux.just(backend, frontend), Duration.ofMinutes(5), clock);
+
+    StepVerifier.create(catalog.refresh()).expectNextCount(1).verifyComplete();
+    long version = catalog.version();
+    StepVerifier.create(catalog.refresh()).expectNextCount(1).verifyComplete();
+
+    assertEquals(version, catalog.version());
+  }
+
+  @Test
+  void derivesTheVersionFromContentRegardlessOfLoadHistory() {
+    CapabilitySummary renamed = new CapabilitySummary("c1", "Platform", "Server", backend.technologies(), 1);
+    AtomicInteger loads = new AtomicInteger();
+    CapabilityCatalog sawRename = new CapabilityCatalog(() -> loads.incrementAndGet() == 1
+        ? Flux.just(backend, frontend)
+        : Flux.just(frontend, renamed), Duration.ofMinutes(5), clock);
+    CapabilityCatalog startedAfterRename = new CapabilityCatalog(() -> Flux.just(renamed, frontend), Duration.ofMinutes(5), clock);
+    CapabilityCatalog beforeRename = new CapabilityCatalog(() -> Flux.just(backend, frontend), Duration.ofMinutes(5), clock);
+
+    sawRename.refresh().block();
+    sawRename.refresh().block();
+    startedAfterRename.refresh().block();
+    beforeRename.refresh().block();
+
+    assertEquals(startedAfterRename.version(), sawRename.version());
+    assertNotEquals(beforeRename.version(), startedAfterRename.version());
+  }
+
+  private static final class MutableClock extends Clock {
+    private Instant now;
+
+    private MutableClock(Instant now) {
+      this.now = now;
+    }
+
+    private void advance(Duration duration) {
+      now = now.plus(duration);
+    }
+
+    @Override
+    public ZoneId getZone() {
+      return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+      return this;
+    }
+
+    @Override
+    public Instant instant() {
+      return now;
+    }
+  }
+}
@@ -0,0 +1,224 @@
+package com.example.bootcamp.infrastructure.client;
+
+import com.sun.net.httpserver.HttpServer;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.netty.resources.ConnectionProvider;
+import reactor.test.StepVerifier;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BootcampReportClientTest {
+
+  private final AtomicReference<String> receivedBody = new AtomicReference<>();
+  private final AtomicReference<String> responseBody = new AtomicReference<>("");
+  private final AtomicInteger status = new AtomicInteger(202);
+  private final AtomicInteger requests = new AtomicInteger();
+  private final ConnectionProvider connectionProvider = ConnectionProvider.create("test", 4);
+  private final CircuitBreaker circuitBreaker = CircuitBreaker.of("test", CircuitBreakerConfig.custom()
+      .recordException(BootcampReportClientConfig::countsAsFailure)
+      .build());
+  private HttpServer server;
+  private BootcampReportClient client;
+
+  @BeforeEach
+  void startServer() throws IOException {
+    server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+    server.createContext("/bootcamp-reports", exchange -> {
+      requests.incrementAndGet();
+      receivedBody.set(new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8));
+      byte[] response = responseBody.get().getBytes(StandardCharsets.UTF_8);
+      if (response.length > 0) {
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+      }
+      exchange.sendResponseHeaders(status.get(), response.length == 0 ? -1 : response.length);
+      exchange.getResponseBody().write(response);
+      exchange.close();
+    });
+    server.start();
+    client = client();
+  }
+
+  @AfterEach
+  void stopServer() {
+    server.stop(0);
+    connectionProvider.dispose();
+  }
+
+  @Test
+  void postsTheReportPayload() {
+    StepVerifier.create(client.send(request()))
+        .verifyComplete();
+
+    assertTrue(receivedBody.get().contains("\"bootcampId\":\"b1\""));
+    assertTrue(receivedBody.get().contains("\"capacities\":[{\"id\":\"c1\""));
+  }
+
+  @Test
+  void surfacesServerErrors() {
+    status.set(503);
+
+    StepVerifier.create(client.send(request()))
+        .expectError(WebClientResponseException.ServiceUnavailable.class)
+        .verify();
+  }
+
+  @Test
+  void matchesBulkResultsToRequestsInRequestOrder() {
+    responseBody.set("""
+        [{"bootcampId":"b2","accepted":false,"error":"unknown.capability"},
+         {"bootcampId":"b1","accepted":true},
+         {"bootcampId":"b3","accepted":true}]
+        """);
+
+    StepVerifier.create(client.sendBatch(List.of(request("b1"), request("b2"), request("b3"))))
+        .expectNext(new BootcampReportResult("b1", true, null))
+        .assertNext(result -> {
+          assertFalse(result.accepted());
+          BootcampReportRejectedException rejected = assertInstanceOf(BootcampReportRejectedException.class, result.failure());
+          assertEquals("b2", rejected.getBootcampId());
+          assertEquals("unknown.capability", rejected.getMessage());
+        })
+        .expectNext(new BootcampReportResult("b3", true, null))
+        .verifyComplete();
+
+    assertEquals(1, requests.get());
+    assertTrue(receivedBody.get().startsWith("[{\"bootcampId\":\"b1\""));
+  }
+
+  @Test
+  void treatsAnEmptyBulkResponseAsMissingResultsToRetry() {
+    StepVerifier.create(client.sendBatch(List.of(request("b1"), request("b2"))))
+        .expectNext(BootcampReportResult.missing("b1"), BootcampReportResult.missing("b2"))
+        .verifyComplete();
+
+    responseBody.set("[{\"bootcampId\":\"b2\",\"accepted\":true}]");
+    StepVerifier.create(client.sendBatch(List.of(request("b1"), request("b2"))))
+        .assertNext(result -> assertInstanceOf(IllegalStateException.class, result.failure()))
+        .expectNext(new BootcampReportResult("b2", true, null))
+        .verifyComplete();
+  }
+
+  @Test
+  void bulkFailureFailsTheWholeBatch() {
+    status.set(500);
+
+    StepVerifier.create(client.sendBatch(List.of(request("b1"), request("b2"))))
+        .expectError(WebClientResponseException.InternalServerError.class)
+        .verify();
+  }
+
+  @Test
+  void openCircuitFailsFastWithoutCallingTheService() {
+    circuitBreaker.transitionToOpenState();
+
+    StepVerifier.create(client.send(request()))
+        .expectError(CallNotPermittedException.class)
+        .verify();
+    assertEquals(0, requests.get());
+  }
+
+  @Test
+  void clientErrorsDoNotTripTheCircuit() {
+    status.set(400);
+
+    StepVerifier.create(client.send(request()))
+        .expectError(WebClientResponseException.BadRequest.class)
+        .verify();
+    assertEquals(0, circuitBreaker.getMetrics().getNumberOfFailedCalls());
+  }
+
+  @Test
+  void fullBulkheadRejectsExtraCalls() {
+    client = client("/bootcamp-reports/slow", Bulkhead.of("test", BulkheadConfig.custom()
+        .maxConcurrentCalls(1)
+        .maxWaitDuration(Duration.ZERO)
+        .build()));
+    server.createContext("/bootcamp-reports/slow", exchange -> {
+      try {
+        Thread.sleep(500);
+      } catch (InterruptedException ex) {
+        Thread.currentThread().interrupt();
+      }
+      exchange.sendResponseHeaders(202, -1);
+      exchange.close();
+    });
+
+    StepVerifier.create(Mono.zip(
+            client.sendBatch(List.of(request("b1"))).then(Mono.just("ok")),
+            client.sendBatch(List.of(request("b2"))).then(Mono.just("ok"))
+                .onErrorResume(BulkheadFullException.class, ex -> Mono.just("rejected"))
+        ))
+        .assertNext(results -> {
+          assertEquals("ok", results.getT1());
+          assertEquals("rejected", results.getT2());
+        })
+        .verifyComplete();
+    assertEquals(0, circuitBreaker.getMetrics().getNumberOfFailedCalls());
+  }
+
+  @Test
+  void rejectsABulkheadSmallerThanTheDispatcherConcurrency() {
+    BootcampReportProperties properties = properties("/bootcamp-reports/bulk");
+
+    assertThrows(IllegalStateException.class, () -> new BootcampReportClientConfig()
+        .bootcampReportBulkhead(properties, new SimpleMeterRegistry(), properties.bulkhead().maxConcurrentCalls() + 1));
+    assertNotNull(new BootcampReportClientConfig()
+        .bootcampReportBulkhead(properties, new SimpleMeterRegistry(), properties.bulkhead().maxConcurrentCalls()));
+  }
+
+  private BootcampReportClient client() {
+    return client("/bootcamp-reports/bulk", Bulkhead.ofDefaults("test"));
+  }
+
+  private BootcampReportClient client(String bulkPath, Bulkhead bulkhead) {
+    return new BootcampReportClient(WebClient.builder(), properties(bulkPath), connectionProvider, circuitBreaker, bulkhead);
+  }
+
+  private BootcampReportProperties properties(String bulkPath) {
+    return new BootcampReportProperties(
+        "http://127.0.0.1:" + server.getAddress().getPort(),
+        "/bootcamp-reports",
+        bulkPath,
+        new BootcampReportProperties.Batch(true, 3, 2),
+        new BootcampReportProperties.Pool(50, 200, Duration.ofSeconds(5), Duration.ofSeconds(30)),
+        new BootcampReportProperties.Timeouts(Duration.ofSeconds(2), Duration.ofSeconds(5), Duration.ofSeconds(10)),
+        new BootcampReportProperties.Bulkhead(16, Duration.ZERO),
+        new BootcampReportProperties.CircuitBreaker(50, 20, 10, Duration.ofSeconds(30), 3, Duration.ofSeconds(3))
+    );
+  }
+
+  private static BootcampReportRequest request() {
+    return request("b1");
+  }
+
+  private static BootcampReportRequest request(String bootcampId) {
+    return new BootcampReportRequest(
+        bootcampId,
+        "Java",
+        "des",
+        List.of(new BootcampReportRequest.CapabilityPayload("c1", "Backend", "Server")),
+        List.of(new BootcampReportRequest.TechnologyPayload("t1", "Java")),
+        List.of()
+    );
+  }
+}
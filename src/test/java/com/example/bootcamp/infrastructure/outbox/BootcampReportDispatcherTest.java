@@ -0,0 +1,240 @@
+package com.example.bootcamp.infrastructure.outbox;
+
+import com.example.bootcamp.infrastructure.client.BootcampReportClient;
+import com.example.bootcamp.infrastructure.client.BootcampReportProperties;
+import com.example.bootcamp.infrastructure.client.BootcampReportRejectedException;
+import com.example.bootcamp.infrastructure.client.BootcampReportRequest;
+import com.example.bootcamp.infrastructure.client.BootcampReportResult;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BootcampReportDispatcherTest {
+
+  private static final LocalDateTime NOW = LocalDateTime.of(2024, 2, 1, 10, 0);
+
+  private final BootcampReportOutbox outbox = Mockito.mock(BootcampReportOutbox.class);
+  private final BootcampReportClient client = Mockito.mock(BootcampReportClient.class);
+  private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final BootcampReportDispatcher dispatcher = dispatcher(false);
+
+  @Test
+  void deliversClaimedEntriesAndRecordsLag() throws Exception {
+    ReportOutboxEntry entry = entry(1, 0);
+    Mockito.when(outbox.claim(Mockito.anyString(), Mockito.eq(10), Mockito.eq(Duration.ofSeconds(30)))).thenReturn(Flux.just(entry));
+    Mockito.when(outbox.now()).thenReturn(NOW.plusSeconds(2));
+    Mockito.when(client.send(Mockito.any())).thenReturn(Mono.empty());
+    Mockito.when(outbox.complete(entry)).thenReturn(Mono.empty());
+
+    StepVerifier.create(dispatcher.dispatchOnce())
+        .expectNext(1L)
+        .verifyComplete();
+
+    Mockito.verify(client).send(Mockito.argThat(request -> request.bootcampId().equals("b1")));
+    Mockito.verify(outbox, Mockito.never()).reschedule(Mockito.any(), Mockito.anyInt(), Mockito.any(), Mockito.any());
+    assertEquals(1.0, meterRegistry.get("bootcamp.report.outbox.delivered").counter().count());
+    assertEquals(2.0, meterRegistry.get("bootcamp.report.outbox.delivery.lag").timer().totalTime(TimeUnit.SECONDS));
+  }
+
+  @Test
+  void reschedulesFailedDeliveriesWithBackoff() throws Exception {
+    ReportOutboxEntry entry = entry(1, 1);
+    Mockito.when(outbox.claim(Mockito.anyString(), Mockito.anyInt(), Mockito.any())).thenReturn(Flux.just(entry));
+    Mockito.when(client.send(Mockito.any())).thenReturn(Mono.error(new IllegalStateException("down")));
+    Mockito.when(outbox.reschedule(Mockito.any(), Mockito.anyInt(), Mockito.any(), Mockito.anyString())).thenReturn(Mono.empty());
+
+    StepVerifier.create(dispatcher.dispatchOnce())
+        .expectNext(1L)
+        .verifyComplete();
+
+    Mockito.verify(outbox).reschedule(Mockito.eq(entry), Mockito.eq(2), Mockito.eq(Duration.ofSeconds(2)), Mockito.contains("down"));
+    Mockito.verify(outbox, Mockito.never()).complete(Mockito.any());
+  }
+
+  @Test
+  void marksEntriesFailedOnceAttemptsAreExhausted() throws Exception {
+    ReportOutboxEntry entry = entry(1, 2);
+    Mockito.when(outbox.claim(Mockito.anyString(), Mockito.anyInt(), Mockito.any())).thenReturn(Flux.just(entry));
+    Mockito.when(client.send(Mockito.any())).thenReturn(Mono.error(new IllegalStateException("down")));
+    Mockito.when(outbox.fail(Mockito.any(), Mockito.anyInt(), Mockito.anyString())).thenReturn(Mono.empty());
+
+    StepVerifier.create(dispatcher.dispatchOnce())
+        .expectNext(1L)
+        .verifyComplete();
+
+    Mockito.verify(outbox).fail(Mockito.eq(entry), Mockito.eq(3), Mockito.contains("down"));
+    assertEquals(1.0, meterRegistry.get("bootcamp.report.outbox.failed").counter().count());
+  }
+
+  @Test
+  void failsClientErrorsWithoutRetrying() throws Exception {
+    ReportOutboxEntry entry = entry(1, 0);
+    Mockito.when(outbox.claim(Mockito.anyString(), Mockito.anyInt(), Mockito.any())).thenReturn(Flux.just(entry));
+    Mockito.when(client.send(Mockito.any()))
+        .thenReturn(Mono.error(WebClientResponseException.create(422, "Unprocessable Entity", null, null, null)));
+    Mockito.when(outbox.fail(Mockito.any(), Mockito.anyInt(), Mockito.anyString())).thenReturn(Mono.empty());
+
+    StepVerifier.create(dispatcher.dispatchOnce())
+        .expectNext(1L)
+        .verifyComplete();
+
+    Mockito.verify(outbox).fail(Mockito.eq(entry), Mockito.eq(1), Mockito.anyString());
+    Mockito.verify(outbox, Mockito.never()).reschedule(Mockito.any(), Mockito.anyInt(), Mockito.any(), Mockito.any());
+  }
+
+  @Test
+  void failsRejectedReportsWithoutRetrying() throws Exception {
+    ReportOutboxEntry entry = entry(1, 0);
+    Mockito.when(outbox.claim(Mockito.anyString(), Mockito.anyInt(), Mockito.any())).thenReturn(Flux.just(entry));
+    Mockito.when(client.send(Mockito.any())).thenReturn(Mono.error(new BootcampReportRejectedException("b1", "report.invalid")));
+    Mockito.when(outbox.fail(Mockito.any(), Mockito.anyInt(), Mockito.anyString())).thenReturn(Mono.empty());
+
+    StepVerifier.create(dispatcher.dispatchOnce())
+        .expectNext(1L)
+        .verifyComplete();
+
+    Mockito.verify(outbox).fail(Mockito.eq(entry), Mockito.eq(1), Mockito.contains("report.invalid"));
+  }
+
+  @Test
+  void sendsClaimedEntriesStraightToTheBulkEndpointInMaxSizeChunks() throws Exception {
+    BootcampReportDispatcher bulkDispatcher = dispatcher(true);
+    ReportOutboxEntry first = entry(1, "b1", 0);
+    ReportOutboxEntry second = entry(2, "b2", 0);
+    ReportOutboxEntry third = entry(3, "b3", 0);
+    Mockito.when(outbox.claim(Mockito.anyString(), Mockito.anyInt(), Mockito.any())).thenReturn(Flux.just(first, second, third));
+    Mockito.when(outbox.now()).thenReturn(NOW);
+    Mockito.when(outbox.complete(Mockito.any())).thenReturn(Mono.empty());
+    Mockito.when(client.sendBatch(Mockito.anyList())).thenAnswer(invocation -> {
+      List<BootcampReportRequest> requests = invocation.getArgument(0);
+      return Flux.fromIterable(requests).map(request -> new BootcampReportResult(request.bootcampId(), true, null));
+    });
+
+    StepVerifier.create(bulkDispatcher.dispatchOnce())
+        .expectNext(3L)
+        .verifyComplete();
+
+    Mockito.verify(client).sendBatch(Mockito.argThat((List<BootcampReportRequest> requests) -> requests.size() == 2));
+    Mockito.verify(client).sendBatch(Mockito.argThat((List<BootcampReportRequest> requests) -> requests.size() == 1));
+    Mockito.verify(client, Mockito.never()).send(Mockito.any());
+    Mockito.verify(outbox, Mockito.times(3)).complete(Mockito.any());
+    assertEquals(3.0, meterRegistry.get("bootcamp.report.outbox.delivered").counter().count());
+  }
+
+  @Test
+  void settlesEachBulkResultOnItsOwnEntry() throws Exception {
+    BootcampReportDispatcher bulkDispatcher = dispatcher(true);
+    ReportOutboxEntry accepted = entry(1, "b1", 0);
+    ReportOutboxEntry missing = entry(2, "b2", 0);
+    Mockito.when(outbox.claim(Mockito.anyString(), Mockito.anyInt(), Mockito.any())).thenReturn(Flux.just(accepted, missing));
+    Mockito.when(outbox.now()).thenReturn(NOW);
+    Mockito.when(outbox.complete(Mockito.any())).thenReturn(Mono.empty());
+    Mockito.when(outbox.reschedule(Mockito.any(), Mockito.anyInt(), Mockito.any(), Mockito.anyString())).thenReturn(Mono.empty());
+    Mockito.when(client.sendBatch(Mockito.anyList())).thenReturn(Flux.just(
+        new BootcampReportResult("b1", true, null),
+        new BootcampReportResult("b2", false, "report.result.missing")
+    ));
+
+    StepVerifier.create(bulkDispatcher.dispatchOnce())
+        .expectNext(2L)
+        .verifyComplete();
+
+    Mockito.verify(outbox).complete(accepted);
+    Mockito.verify(outbox).reschedule(Mockito.eq(missing), Mockito.eq(1), Mockito.eq(Duration.ofSeconds(1)), Mockito.contains("report.result.missing"));
+    Mockito.verify(outbox, Mockito.never()).fail(Mockito.any(), Mockito.anyInt(), Mockito.any());
+  }
+
+  @Test
+  void reschedulesTheWholeChunkWhenTheBulkCallFails() throws Exception {
+    BootcampReportDispatcher bulkDispatcher = dispatcher(true);
+    ReportOutboxEntry first = entry(1, "b1", 0);
+    ReportOutboxEntry second = entry(2, "b2", 0);
+    Mockito.when(outbox.claim(Mockito.anyString(), Mockito.anyInt(), Mockito.any())).thenReturn(Flux.just(first, second));
+    Mockito.when(outbox.reschedule(Mockito.any(), Mockito.anyInt(), Mockito.any(), Mockito.anyString())).thenReturn(Mono.empty());
+    Mockito.when(client.sendBatch(Mockito.anyList())).thenReturn(Flux.error(new IllegalStateException("down")));
+
+    StepVerifier.create(bulkDispatcher.dispatchOnce())
+        .expectNext(2L)
+        .verifyComplete();
+
+    Mockito.verify(outbox).reschedule(Mockito.eq(first), Mockito.eq(1), Mockito.any(), Mockito.contains("down"));
+    Mockito.verify(outbox).reschedule(Mockito.eq(second), Mockito.eq(1), Mockito.any(), Mockito.contains("down"));
+    Mockito.verify(outbox, Mockito.never()).complete(Mockito.any());
+  }
+
+  @Test
+  void retriesThrottledRequests() {
+    assertFalse(BootcampReportDispatcher.permanent(WebClientResponseException.create(429, "Too Many Requests", null, null, null)));
+    assertFalse(BootcampReportDispatcher.permanent(WebClientResponseException.create(503, "Service Unavailable", null, null, null)));
+    assertTrue(BootcampReportDispatcher.permanent(WebClientResponseException.create(400, "Bad Request", null, null, null)));
+  }
+
+  @Test
+  void postponesCallsRefusedByAnOpenBreakerWithoutCountingAnAttempt() throws Exception {
+    ReportOutboxEntry entry = entry(1, 2);
+    Mockito.when(outbox.claim(Mockito.anyString(), Mockito.anyInt(), Mockito.any())).thenReturn(Flux.just(entry));
+    Mockito.when(client.send(Mockito.any()))
+        .thenReturn(Mono.error(CallNotPermittedException.createCallNotPermittedException(CircuitBreaker.ofDefaults("report"))));
+    Mockito.when(outbox.reschedule(Mockito.any(), Mockito.anyInt(), Mockito.any(), Mockito.anyString())).thenReturn(Mono.empty());
+
+    StepVerifier.create(dispatcher.dispatchOnce())
+        .expectNext(1L)
+        .verifyComplete();
+
+    Mockito.verify(outbox).reschedule(Mockito.eq(entry), Mockito.eq(2), Mockito.eq(Duration.ofSeconds(1)), Mockito.anyString());
+    Mockito.verify(outbox, Mockito.never()).fail(Mockito.any(), Mockito.anyInt(), Mockito.any());
+    assertEquals(1.0, meterRegistry.get("bootcamp.report.outbox.deferred").counter().count());
+  }
+
+  private BootcampReportDispatcher dispatcher(boolean bulk) {
+    BootcampReportProperties reportProperties = new BootcampReportProperties(
+        "http://localhost:8085",
+        "/bootcamp-reports",
+        "/bootcamp-reports/bulk",
+        new BootcampReportProperties.Batch(bulk, 2, 1),
+        new BootcampReportProperties.Pool(50, 200, Duration.ofSeconds(5), Duration.ofSeconds(30)),
+        new BootcampReportProperties.Timeouts(Duration.ofSeconds(2), Duration.ofSeconds(5), Duration.ofSeconds(10)),
+        new BootcampReportProperties.Bulkhead(16, Duration.ZERO),
+        new BootcampReportProperties.CircuitBreaker(50, 20, 10, Duration.ofSeconds(30), 3, Duration.ofSeconds(3))
+    );
+    return new BootcampReportDispatcher(
+        outbox,
+        client,
+        reportProperties,
+        objectMapper,
+        meterRegistry,
+        Duration.ofSeconds(1),
+        10,
+        2,
+        Duration.ofSeconds(30),
+        3,
+        Duration.ofSeconds(1),
+        Duration.ofMinutes(1)
+    );
+  }
+
+  private ReportOutboxEntry entry(long id, int attempts) throws Exception {
+    return entry(id, "b1", attempts);
+  }
+
+  private ReportOutboxEntry entry(long id, String bootcampId, int attempts) throws Exception {
+    BootcampReportRequest request = new BootcampReportRequest(bootcampId, "Java", "des", List.of(), List.of(), List.of());
+    return new ReportOutboxEntry(id, bootcampId, objectMapper.writeValueAsString(request), attempts, NOW, "token");
+  }
+}
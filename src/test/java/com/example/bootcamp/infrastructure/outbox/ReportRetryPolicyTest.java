@@ -0,0 +1,35 @@
+package com.example.bootcamp.infrastructure.outbox;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReportRetryPolicyTest {
+
+  private final ReportRetryPolicy policy = new ReportRetryPolicy(5, Duration.ofSeconds(1), Duration.ofSeconds(10));
+
+  @Test
+  void backsOffExponentiallyUpToTheCap() {
+    assertEquals(Duration.ofSeconds(1), policy.delayAfter(1));
+    assertEquals(Duration.ofSeconds(2), policy.delayAfter(2));
+    assertEquals(Duration.ofSeconds(4), policy.delayAfter(3));
+    assertEquals(Duration.ofSeconds(8), policy.delayAfter(4));
+    assertEquals(Duration.ofSeconds(10), policy.delayAfter(5));
+    assertEquals(Duration.ofSeconds(10), policy.delayAfter(200));
+  }
+
+  @Test
+  void exhaustsAtMaxAttempts() {
+    assertFalse(policy.exhausted(4));
+    assertTrue(policy.exhausted(5));
+  }
+
+  @Test
+  void rejectsInvalidSettings() {
+    assertThrows(IllegalArgumentException.class, () -> new ReportRetryPolicy(0, Duration.ofSeconds(1), Duration.ofSeconds(1)));
+    assertThrows(IllegalArgumentException.class, () -> new ReportRetryPolicy(1, Duration.ZERO, Duration.ofSeconds(1)));
+    assertThrows(IllegalArgumentException.class, () -> new ReportRetryPolicy(1, Duration.ofSeconds(2), Duration.ofSeconds(1)));
+  }
+}
@@ -0,0 +1,141 @@
+package com.example.bootcamp.infrastructure.persistence;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class H2SchemaDriftTest {
+
+    private static final String MIGRATIONS = "classpath:db/migration/V*__*.sql";
+    private static final String H2_SCHEMA = "loadtest-h2-schema.sql";
+
+    private static final Pattern VERSION = Pattern.compile("V(\\d+)__");
+    private static final Pattern DROP_TABLE = Pattern.compile("(?is)DROP\\s+TABLE\\s+(?:IF\\s+EXISTS\\s+)?(\\S+)");
+    private static final Pattern CREATE_TABLE =
+            Pattern.compile("(?is)CREATE\\s+TABLE\\s+(?:IF\\s+NOT\\s+EXISTS\\s+)?(\\S+)\\s*\\((.*)\\)");
+    private static final Pattern CREATE_INDEX = Pattern.compile(
+            "(?is)CREATE\\s+(UNIQUE\\s+)?INDEX\\s+(?:IF\\s+NOT\\s+EXISTS\\s+)?(\\S+)\\s+ON\\s+(\\S+)\\s*\\((.*)\\)");
+    private static final Pattern INLINE_INDEX = Pattern.compile("(?is)(UNIQUE\\s+)?(?:INDEX|KEY)\\s+(\\S+)\\s*\\((.*)\\)");
+    private static final Set<String> CONSTRAINTS = Set.of("PRIMARY", "FOREIGN", "CONSTRAINT", "CHECK");
+
+    @Test
+    void h2SchemaMatchesTheMigratedTablesColumnsAndIndexes() throws IOException {
+        Schema migrated = new Schema();
+        Resource[] migrations = new PathMatchingResourcePatternResolver().getResources(MIGRATIONS);
+        Arrays.stream(migrations)
+                .sorted(Comparator.comparingInt(H2SchemaDriftTest::version))
+                .forEach(migration -> migrated.apply(read(migration)));
+        assertFalse(migrated.tables.isEmpty(), "no migrations found");
+
+        Schema h2 = new Schema();
+        h2.apply(read(new ClassPathResource(H2_SCHEMA)));
+
+        assertEquals(migrated.tables, h2.tables, H2_SCHEMA + " tables or columns differ from db/migration");
+        assertEquals(migrated.indexes, h2.indexes, H2_SCHEMA + " indexes differ from db/migration");
+    }
+
+    private static int version(Resource migration) {
+        Matcher matcher = VERSION.matcher(String.valueOf(migration.getFilename()));
+        assertTrue(matcher.find(), "unversioned migration " + migration.getFilename());
+        return Integer.parseInt(matcher.group(1));
+    }
+
+    private static String read(Resource resource) {
+        try {
+            return resource.getContentAsString(StandardCharsets.UTF_8);
+        } catch (IOException ex) {
+            throw new IllegalStateException("Could not read " + resource, ex);
+        }
+    }
+
+    private static String normalize(String identifier) {
+        return identifier.replaceAll("[`\"\\s]", "").toLowerCase(Locale.ROOT);
+    }
+
+    private static List<String> splitTopLevel(String body) {
+        List<String> parts = new ArrayList<>();
+        int depth = 0;
+        int start = 0;
+        for (int index = 0; index < body.length(); index++) {
+            char current = body.charAt(index);
+            if (current == '(') {
+                depth++;
+            } else if (current == ')') {
+                depth--;
+            } else if (current == ',' && depth == 0) {
+                parts.add(body.substring(start, index).strip());
+                start = index + 1;
+            }
+        }
+        parts.add(body.substring(start).strip());
+        return parts;
+    }
+
+    private static final class Schema {
+
+        private final Map<String, Set<String>> tables = new TreeMap<>();
+        private final Map<String, String> indexes = new TreeMap<>();
+
+        private void apply(String script) {
+            for (String statement : script.split(";")) {
+                apply(statement.strip());
+            }
+        }
+
+        private void apply(String statement) {
+            Matcher drop = DROP_TABLE.matcher(statement);
+            if (drop.lookingAt()) {
+                String table = normalize(drop.group(1));
+                tables.remove(table);
+                indexes.values().removeIf(definition -> definition.startsWith(table + "("));
+                return;
+            }
+            Matcher create = CREATE_TABLE.matcher(statement);
+            if (create.lookingAt()) {
+                createTable(normalize(create.group(1)), create.group(2));
+                return;
+            }
+            Matcher index = CREATE_INDEX.matcher(statement);
+            if (index.lookingAt()) {
+                addIndex(index.group(2), index.group(1) != null, normalize(index.group(3)), index.group(4));
+            }
+        }
+
+        private void createTable(String table, String body) {
+            Set<String> columns = new LinkedHashSet<>();
+            for (String element : splitTopLevel(body)) {
+                Matcher inline = INLINE_INDEX.matcher(element);
+                if (inline.matches()) {
+                    addIndex(inline.group(2), inline.group(1) != null, table, inline.group(3));
+                    continue;
+                }
+                String first = element.split("\\s+", 2)[0];
+                if (!CONSTRAINTS.contains(first.toUpperCase(Locale.ROOT))) {
+                    columns.add(normalize(first));
+                }
+            }
+            tables.putIfAbsent(table, columns);
+        }
+
+        private void addIndex(String name, boolean unique, String table, String columns) {
+            indexes.put(normalize(name), table + "(" + normalize(columns) + ")" + (unique ? " unique" : ""));
+        }
+    }
+}
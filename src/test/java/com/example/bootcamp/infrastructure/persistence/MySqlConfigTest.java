@@ -1,28 +1,74 @@
 package com.example.bootcamp.infrastructure.persistence;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.r2dbc.pool.ConnectionPool;
 import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.Wrapped;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class MySqlConfigTest {
 
+    private static final MySqlProperties.Pool DEFAULT_POOL = new MySqlProperties.Pool(10, 20, 0, Duration.ofMinutes(30),
+            Duration.ofSeconds(5), Duration.ofSeconds(5), Duration.ofMinutes(30), "SELECT 1");
+
     private final MySqlConfig config = new MySqlConfig();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final SlowQueryLog slowQueryLog = new SlowQueryLog(Duration.ofMillis(500), true, 20, false, Duration.ofMinutes(10));
 
     @Test
     void buildsConnectionFactoryFromProperties() {
-        MySqlProperties properties = new MySqlProperties("localhost", 3306, "bootcamp", "user", "secret");
+        MySqlProperties properties = properties(DEFAULT_POOL);
 
-        ConnectionFactory factory = config.connectionFactory(properties);
+        ConnectionFactory factory = config.connectionFactory(properties, meterRegistry, slowQueryLog);
 
         assertNotNull(factory);
+        Object timed = ((Wrapped<?>) factory).unwrap();
+        assertInstanceOf(TimedConnectionFactory.class, timed);
+        assertInstanceOf(ConnectionPool.class, ((Wrapped<?>) timed).unwrap());
+        assertNotNull(meterRegistry.find("r2dbc.pool.acquire").timer());
     }
 
     @Test
     void exposesTemplateBean() {
-        MySqlProperties properties = new MySqlProperties("localhost", 3306, "bootcamp", "user", "secret");
-        ConnectionFactory factory = config.connectionFactory(properties);
+        MySqlProperties properties = properties(DEFAULT_POOL);
+        ConnectionFactory factory = config.connectionFactory(properties, meterRegistry, slowQueryLog);
 
         assertNotNull(config.r2dbcEntityTemplate(factory));
     }
+
+    @Test
+    void exposesTransactionalOperator() {
+        MySqlProperties properties = properties(DEFAULT_POOL);
+        ConnectionFactory factory = config.connectionFactory(properties, meterRegistry, slowQueryLog);
+
+        assertNotNull(config.transactionalOperator(config.transactionManager(factory)));
+    }
+
+    @Test
+    void appliesPoolSettingsFromProperties() {
+        MySqlProperties properties = properties(new MySqlProperties.Pool(4, 8, 2, Duration.ofMinutes(5), Duration.ofSeconds(2),
+                Duration.ofSeconds(3), Duration.ofMinutes(20), "SELECT 1"));
+
+        ConnectionPool pool = ConnectionPoolWarmup.pool(config.connectionFactory(properties, meterRegistry, slowQueryLog));
+
+        assertNotNull(pool);
+        assertEquals(8, pool.getMetrics().orElseThrow().getMaxAllocatedSize());
+    }
+
+    @Test
+    void rejectsInitialSizeAboveMaxSize() {
+        assertThrows(IllegalArgumentException.class, () -> new MySqlProperties.Pool(30, 20, 0, Duration.ofMinutes(30),
+                Duration.ofSeconds(5), Duration.ofSeconds(5), Duration.ofMinutes(30), "SELECT 1"));
+    }
+
+    private static MySqlProperties properties(MySqlProperties.Pool pool) {
+        return new MySqlProperties("localhost", 3306, "bootcamp", "user", "secret", pool, new MySqlProperties.Warmup(true, Duration.ofSeconds(30)));
+    }
 }
@@ -0,0 +1,110 @@
+package com.example.bootcamp.infrastructure.persistence;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SlowQueryLogTest {
+
+    private static final String SELECT = "SELECT id FROM bootcamp.bootcamps WHERE id = ?";
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2026-01-01T00:00:00Z"));
+
+    @Test
+    void treatsStatementsAtOrOverThresholdAsSlow() {
+        SlowQueryLog log = log(true, 10, false);
+
+        assertFalse(log.isSlow(Duration.ofMillis(499)));
+        assertTrue(log.isSlow(Duration.ofMillis(500)));
+    }
+
+    @Test
+    void keepsOnlyTheSlowestStatementsInDescendingOrder() {
+        SlowQueryLog log = log(true, 2, false);
+
+        log.record("page", SELECT, List.of("a"), Duration.ofMillis(600));
+        log.record("links", SELECT, List.of("b"), Duration.ofMillis(900));
+        log.record("count.exact", SELECT, List.of(), Duration.ofMillis(700));
+
+        SlowQueryLog.Report report = log.report();
+        assertEquals(3, report.recorded());
+        assertEquals(List.of("links", "count.exact"), report.slowest().stream().map(SlowQueryLog.SlowQuery::name).toList());
+    }
+
+    @Test
+    void redactsParametersUnlessDisabled() {
+        assertEquals(List.of("?", "null"),
+                log(true, 10, false).record("page", SELECT, Arrays.asList("secret", null), Duration.ofSeconds(1)).parameters());
+        assertEquals(List.of("secret", "null"),
+                log(false, 10, false).record("page", SELECT, Arrays.asList("secret", null), Duration.ofSeconds(1)).parameters());
+    }
+
+    @Test
+    void explainsEachSelectShapeOncePerInterval() {
+        SlowQueryLog log = log(true, 10, true);
+
+        assertTrue(log.explainDue("page", SELECT));
+        assertFalse(log.explainDue("page", SELECT));
+        assertTrue(log.explainDue("links", SELECT));
+        assertFalse(log.explainDue("delete", "DELETE FROM bootcamp.bootcamps WHERE id = ?"));
+
+        clock.advance(Duration.ofMinutes(10));
+
+        assertTrue(log.explainDue("page", SELECT));
+    }
+
+    @Test
+    void neverExplainsWhenDisabled() {
+        assertFalse(log(true, 10, false).explainDue("page", SELECT));
+    }
+
+    @Test
+    void namesUnlabelledStatementsByVerbAndTable() {
+        assertEquals("select bootcamp.capabilities",
+                SlowQueryListener.shape("SELECT c.id AS capability_id\nFROM bootcamp.capabilities c"));
+        assertEquals("update bootcamp.report_outbox",
+                SlowQueryListener.shape("UPDATE bootcamp.report_outbox SET locked_by = ?"));
+        assertEquals("insert bootcamp.report_outbox",
+                SlowQueryListener.shape("INSERT INTO bootcamp.report_outbox (bootcamp_id) VALUES (?)"));
+    }
+
+    private SlowQueryLog log(boolean redact, int topSize, boolean explain) {
+        return new SlowQueryLog(Duration.ofMillis(500), redact, topSize, explain, Duration.ofMinutes(10), clock);
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.bootcamp.infrastructure.repository;
+
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BootcampCountCacheTest {
+
+  private final Clock clock = Clock.fixed(Instant.parse("2024-01-01T00:00:00Z"), ZoneOffset.UTC);
+
+  @Test
+  void loadsOnceAndAdjustsOnWrites() {
+    BootcampCountCache cache = new BootcampCountCache(Duration.ofMinutes(1), clock);
+    AtomicInteger loads = new AtomicInteger();
+    Mono<Long> loader = Mono.fromCallable(() -> {
+      loads.incrementAndGet();
+      return 10L;
+    });
+
+    StepVerifier.create(cache.get(loader)).expectNext(10L).verifyComplete();
+    cache.adjust(1);
+    cache.adjust(-3);
+    StepVerifier.create(cache.get(loader)).expectNext(8L).verifyComplete();
+
+    assertEquals(1, loads.get());
+  }
+
+  @Test
+  void reloadsAfterInvalidate() {
+    BootcampCountCache cache = new BootcampCountCache(Duration.ofMinutes(1), clock);
+    AtomicInteger loads = new AtomicInteger();
+    Mono<Long> loader = Mono.fromCallable(() -> (long) loads.incrementAndGet());
+
+    StepVerifier.create(cache.get(loader)).expectNext(1L).verifyComplete();
+    cache.invalidate();
+
+    assertNull(cache.peek());
+    StepVerifier.create(cache.get(loader)).expectNext(2L).verifyComplete();
+  }
+
+  @Test
+  void ignoresAdjustmentsWhileUnknown() {
+    BootcampCountCache cache = new BootcampCountCache(Duration.ofMinutes(1), clock);
+
+    cache.adjust(5);
+
+    assertNull(cache.peek());
+  }
+}
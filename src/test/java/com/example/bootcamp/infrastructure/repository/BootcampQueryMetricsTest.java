@@ -0,0 +1,63 @@
+package com.example.bootcamp.infrastructure.repository;
+
+import com.example.bootcamp.infrastructure.persistence.SlowQueryLog;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BootcampQueryMetricsTest {
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final BootcampQueryMetrics metrics = new BootcampQueryMetrics(meterRegistry);
+
+  @Test
+  void timesQueriesAndCountsDecodedRows() {
+    StepVerifier.create(metrics.timedRows(BootcampQueryMetrics.QUERY_PAGE, Flux.just(1, 2, 3)))
+        .expectNextCount(3)
+        .verifyComplete();
+    StepVerifier.create(metrics.timedRows(BootcampQueryMetrics.QUERY_PAGE, Flux.just(1)))
+        .expectNextCount(1)
+        .verifyComplete();
+
+    assertEquals(2, meterRegistry.get("bootcamp.db.query")
+        .tags("query", "page", "outcome", "success")
+        .timer()
+        .count());
+    assertEquals(4.0, meterRegistry.get("bootcamp.db.query.rows").tag("query", "page").summary().totalAmount());
+  }
+
+  @Test
+  void tagsFailedQueries() {
+    StepVerifier.create(metrics.timed(BootcampQueryMetrics.QUERY_DELETE, Mono.error(new IllegalStateException("boom"))))
+        .expectError(IllegalStateException.class)
+        .verify();
+
+    assertEquals(1, meterRegistry.get("bootcamp.db.query").tags("query", "delete", "outcome", "error").timer().count());
+  }
+
+  @Test
+  void recordsRowsPerBootcamp() {
+    metrics.recordFanOut(BootcampQueryMetrics.QUERY_LINKS, 12, 4);
+    metrics.recordFanOut(BootcampQueryMetrics.QUERY_LINKS, 5, 0);
+
+    var fanOut = meterRegistry.get("bootcamp.db.query.fanout").tag("query", "links").summary();
+    assertEquals(1, fanOut.count());
+    assertEquals(3.0, fanOut.totalAmount());
+  }
+
+  @Test
+  void exposesQueryNameToTheStatementsItWraps() {
+    StepVerifier.create(metrics.timed(BootcampQueryMetrics.QUERY_PAGE,
+            Mono.deferContextual(context -> Mono.just(context.get(SlowQueryLog.QUERY_NAME_KEY)))))
+        .expectNext("page")
+        .verifyComplete();
+    StepVerifier.create(metrics.timedRows(BootcampQueryMetrics.QUERY_LINKS,
+            Flux.deferContextual(context -> Flux.just(context.get(SlowQueryLog.QUERY_NAME_KEY)))))
+        .expectNext("links")
+        .verifyComplete();
+  }
+}
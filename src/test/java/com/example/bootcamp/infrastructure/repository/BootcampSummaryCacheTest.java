@@ -0,0 +1,71 @@
+package com.example.bootcamp.infrastructure.repository;
+
+import com.example.bootcamp.domain.model.BootcampSummary;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BootcampSummaryCacheTest {
+
+  private final BootcampSummaryCache cache = new BootcampSummaryCache(100, Duration.ofMinutes(5));
+
+  @Test
+  void coalescesConcurrentMisses() {
+    AtomicInteger loads = new AtomicInteger();
+    Sinks.One<BootcampSummary> pending = Sinks.one();
+
+    Mono<BootcampSummary> first = cache.get("1.0", "b1", id -> {
+      loads.incrementAndGet();
+      return pending.asMono();
+    });
+    Mono<BootcampSummary> second = cache.get("1.0", "b1", id -> {
+      loads.incrementAndGet();
+      return pending.asMono();
+    });
+
+    StepVerifier.create(Mono.zip(first, second))
+        .then(() -> pending.tryEmitValue(summary("b1")))
+        .assertNext(tuple -> assertSame(tuple.getT1(), tuple.getT2()))
+        .verifyComplete();
+    assertEquals(1, loads.get());
+  }
+
+  @Test
+  void doesNotCacheMissingBootcamps() {
+    AtomicInteger loads = new AtomicInteger();
+
+    StepVerifier.create(cache.get("1.0", "missing", id -> Mono.fromRunnable(loads::incrementAndGet))).verifyComplete();
+    StepVerifier.create(cache.get("1.0", "missing", id -> Mono.fromRunnable(loads::incrementAndGet))).verifyComplete();
+
+    assertEquals(2, loads.get());
+  }
+
+  @Test
+  void reloadsWhenTheDataVersionChanges() {
+    AtomicInteger loads = new AtomicInteger();
+    Function<String, Mono<BootcampSummary>> loader = id -> Mono.fromCallable(() -> {
+      loads.incrementAndGet();
+      return summary(id);
+    });
+
+    StepVerifier.create(cache.get("1.0", "b1", loader)).expectNextCount(1).verifyComplete();
+    StepVerifier.create(cache.get("1.0", "b1", loader)).expectNextCount(1).verifyComplete();
+    assertEquals(1, loads.get());
+
+    StepVerifier.create(cache.get("2.0", "b1", loader)).expectNextCount(1).verifyComplete();
+    assertEquals(2, loads.get());
+  }
+
+  private static BootcampSummary summary(String id) {
+    return new BootcampSummary(id, "Bootcamp", "desc", LocalDate.EPOCH, 6, List.of(), 0);
+  }
+}
@@ -0,0 +1,264 @@
+package com.example.bootcamp.infrastructure.repository;
+
+import com.example.bootcamp.domain.model.Bootcamp;
+import com.example.bootcamp.domain.model.BootcampCursor;
+import com.example.bootcamp.domain.model.BootcampPageRequest;
+import com.example.bootcamp.domain.model.BootcampSortField;
+import com.example.bootcamp.domain.model.BootcampSummary;
+import com.example.bootcamp.domain.model.BootcampTotalMode;
+import com.example.bootcamp.domain.model.CapabilitySummary;
+import com.example.bootcamp.domain.model.PaginatedBootcamp;
+import com.example.bootcamp.domain.model.SortDirection;
+import com.example.bootcamp.infrastructure.catalog.CapabilityCatalog;
+import com.example.bootcamp.infrastructure.outbox.BootcampReportOutbox;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.r2dbc.proxy.ProxyConnectionFactory;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.r2dbc.connection.R2dbcTransactionManager;
+import org.springframework.r2dbc.connection.init.ResourceDatabasePopulator;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SpringDataBootcampRepositoryTest {
+
+  private static final String SCHEMA_SCRIPT = "loadtest-h2-schema.sql";
+  private static final String H2_URL = "r2dbc:h2:mem:///%s?options=MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+  private static final LocalDate LAUNCH_DATE = LocalDate.of(2024, 3, 1);
+
+  private final List<String> roundTrips = new CopyOnWriteArrayList<>();
+  private DatabaseClient databaseClient;
+  private SpringDataBootcampRepository repository;
+  private BootcampReportOutbox reportOutbox;
+
+  @BeforeEach
+  void setUp() {
+    ConnectionFactory h2 = ConnectionFactories.get(String.format(H2_URL, UUID.randomUUID()));
+    new ResourceDatabasePopulator(new ClassPathResource(SCHEMA_SCRIPT)).populate(h2).block();
+    ConnectionFactory connectionFactory = ProxyConnectionFactory.builder(h2)
+        .onAfterQuery(execution -> execution.getQueries().forEach(query -> roundTrips.add(query.getQuery().strip())))
+        .onAfterMethod(execution -> {
+          String method = execution.getMethod().getName();
+          if (method.equals("beginTransaction") || method.equals("commitTransaction") || method.equals("rollbackTransaction")) {
+            roundTrips.add(method);
+          }
+        })
+        .build();
+
+    R2dbcEntityTemplate template = new R2dbcEntityTemplate(connectionFactory);
+    databaseClient = template.getDatabaseClient();
+    seedCatalog();
+
+    BootcampQueryMetrics queryMetrics = new BootcampQueryMetrics(new SimpleMeterRegistry());
+    CapabilityCatalog capabilityCatalog = new CapabilityCatalog(template, Duration.ofMinutes(5));
+    capabilityCatalog.refresh().block();
+    BootcampCountCache countCache = new BootcampCountCache(Duration.ofMinutes(1));
+    repository = new SpringDataBootcampRepository(
+        template,
+        TransactionalOperator.create(new R2dbcTransactionManager(connectionFactory)),
+        countCache,
+        capabilityCatalog,
+        new BootcampDataVersion(template, capabilityCatalog, queryMetrics),
+        queryMetrics
+    );
+    reportOutbox = new BootcampReportOutbox(template, Jackson2ObjectMapperBuilder.json().build());
+    roundTrips.clear();
+  }
+
+  @Test
+  void save_writesBootcampLinksReadModelAndVersionInSixRoundTrips() {
+    Bootcamp bootcamp = bootcamp("Java", "cap-2", "cap-1");
+
+    StepVerifier.create(repository.save(bootcamp)).expectNext(bootcamp).verifyComplete();
+
+    assertEquals(6, roundTrips.size(), roundTrips::toString);
+    assertEquals("beginTransaction", roundTrips.get(0));
+    assertTrue(roundTrips.get(1).contains("bootcamp.bootcamps"));
+    assertTrue(roundTrips.get(2).contains("bootcamp.bootcamp_capability"));
+    assertTrue(roundTrips.get(3).contains("bootcamp.bootcamp_read_model"));
+    assertTrue(roundTrips.get(4).contains("bootcamp.bootcamp_data_version"));
+    assertEquals("commitTransaction", roundTrips.get(5));
+    assertEquals(2L, count("SELECT COUNT(*) FROM bootcamp.bootcamp_capability WHERE bootcamp_id = '" + bootcamp.id() + "'"));
+    assertEquals(2L, count("SELECT capability_count FROM bootcamp.bootcamp_read_model WHERE id = '" + bootcamp.id() + "'"));
+    assertEquals(3L, count("SELECT technology_count FROM bootcamp.bootcamp_read_model WHERE id = '" + bootcamp.id() + "'"));
+    assertEquals(1L, count("SELECT version FROM bootcamp.bootcamp_data_version WHERE id = 1"));
+
+    StepVerifier.create(repository.findSummaryById(bootcamp.id()))
+        .assertNext(summary -> assertEquals(List.of("cap-1", "cap-2"),
+            summary.capabilities().stream().map(CapabilitySummary::id).toList()))
+        .verifyComplete();
+  }
+
+  @Test
+  void save_writesTheReportOutboxRowInTheSameTransactionInSevenRoundTrips() {
+    Bootcamp bootcamp = bootcamp("Java", "cap-1", "cap-3");
+    BootcampSummary summary = repository.summarize(bootcamp).block();
+    assertNotNull(summary);
+    roundTrips.clear();
+
+    StepVerifier.create(repository.save(bootcamp, reportOutbox.enqueue(bootcamp, summary)))
+        .expectNext(bootcamp)
+        .verifyComplete();
+
+    assertEquals(7, roundTrips.size(), roundTrips::toString);
+    assertEquals("beginTransaction", roundTrips.get(0));
+    assertTrue(roundTrips.get(1).contains("bootcamp.bootcamps"));
+    assertTrue(roundTrips.get(2).contains("bootcamp.bootcamp_capability"));
+    assertTrue(roundTrips.get(3).contains("bootcamp.bootcamp_read_model"));
+    assertTrue(roundTrips.get(4).startsWith("INSERT INTO bootcamp.report_outbox"));
+    assertTrue(roundTrips.get(5).contains("bootcamp.bootcamp_data_version"));
+    assertEquals("commitTransaction", roundTrips.get(6));
+    assertEquals(1L, count("SELECT COUNT(*) FROM bootcamp.report_outbox WHERE bootcamp_id = '" + bootcamp.id() + "'"
+        + " AND attempts = 0 AND locked_by IS NULL AND failed_at IS NULL"));
+  }
+
+  @Test
+  void saveAll_insertsEveryBootcampAndLinkWithOneStatementEach() {
+    List<Bootcamp> bootcamps = IntStream.range(0, 3)
+        .mapToObj(index -> bootcamp("Bootcamp " + index, "cap-1", "cap-3"))
+        .toList();
+
+    StepVerifier.create(repository.saveAll(bootcamps)).expectNext(bootcamps).verifyComplete();
+
+    assertEquals(1, roundTrips.stream().filter(sql -> sql.startsWith("INSERT INTO bootcamp.bootcamps")).count());
+    assertEquals(1, roundTrips.stream().filter(sql -> sql.startsWith("INSERT INTO bootcamp.bootcamp_capability")).count());
+    assertEquals(1, roundTrips.stream().filter(sql -> sql.startsWith("REPLACE INTO bootcamp.bootcamp_read_model")).count());
+    assertEquals(3L, count("SELECT COUNT(*) FROM bootcamp.bootcamps"));
+    assertEquals(6L, count("SELECT COUNT(*) FROM bootcamp.bootcamp_capability"));
+    assertEquals(3L, count("SELECT COUNT(*) FROM bootcamp.bootcamp_read_model WHERE capability_count = 2"));
+  }
+
+  @Test
+  void save_rollsBackTheBootcampWhenALinkFails() {
+    StepVerifier.create(repository.save(bootcamp("Broken", "cap-1", "missing")))
+        .expectError()
+        .verify();
+
+    assertTrue(roundTrips.contains("rollbackTransaction"), roundTrips::toString);
+    assertEquals(0L, count("SELECT COUNT(*) FROM bootcamp.bootcamps"));
+    assertEquals(0L, count("SELECT COUNT(*) FROM bootcamp.bootcamp_capability"));
+    assertEquals(0L, count("SELECT COUNT(*) FROM bootcamp.bootcamp_read_model"));
+    assertEquals(0L, count("SELECT version FROM bootcamp.bootcamp_data_version WHERE id = 1"));
+  }
+
+  @Test
+  void summarizeAll_resolvesTheWholeBatchFromTheCatalogWithoutQueries() {
+    Bootcamp first = bootcamp("First", "cap-2", "cap-1");
+    Bootcamp second = bootcamp("Second", "cap-3");
+
+    StepVerifier.create(repository.summarizeAll(List.of(first, second)).collectList())
+        .assertNext(summaries -> {
+          assertEquals(List.of(first.id(), second.id()), summaries.stream().map(BootcampSummary::id).toList());
+          assertEquals(List.of("cap-1", "cap-2"), summaries.get(0).capabilities().stream().map(CapabilitySummary::id).toList());
+          assertEquals(List.of("cap-3"), summaries.get(1).capabilities().stream().map(CapabilitySummary::id).toList());
+        })
+        .verifyComplete();
+
+    assertTrue(roundTrips.isEmpty(), roundTrips::toString);
+  }
+
+  @Test
+  void findAll_seeksPastTheCursorWithoutSkippingOrRepeatingRows() {
+    List<Bootcamp> bootcamps = IntStream.range(0, 5)
+        .mapToObj(index -> bootcamp("Bootcamp " + index, "cap-1"))
+        .toList();
+    repository.saveAll(bootcamps).block();
+
+    PaginatedBootcamp first = repository.findAll(new BootcampPageRequest(0, 2, BootcampSortField.NAME, SortDirection.ASC)).block();
+    assertNotNull(first);
+    assertEquals(List.of("Bootcamp 0", "Bootcamp 1"), names(first));
+    assertEquals(5L, first.totalElements());
+    assertTrue(first.hasNext());
+
+    PaginatedBootcamp second = repository.findAll(new BootcampPageRequest(
+        0, 2, BootcampSortField.NAME, SortDirection.ASC,
+        BootcampCursor.decode(first.nextCursor()),
+        BootcampTotalMode.NONE
+    )).block();
+    assertNotNull(second);
+    assertEquals(List.of("Bootcamp 2", "Bootcamp 3"), names(second));
+    assertTrue(roundTrips.stream().anyMatch(sql -> sql.contains("name > ") && sql.contains("id > ")), roundTrips::toString);
+  }
+
+  @Test
+  void deleteByIds_removesExistingBootcampsWithTheirLinksAndReadModelRows() {
+    Bootcamp kept = bootcamp("Kept", "cap-1");
+    Bootcamp first = bootcamp("First", "cap-1", "cap-2");
+    Bootcamp second = bootcamp("Second", "cap-3");
+    repository.saveAll(List.of(kept, first, second)).block();
+
+    StepVerifier.create(repository.deleteByIds(List.of(first.id(), second.id(), "unknown")))
+        .expectNext(Set.of(first.id(), second.id()))
+        .verifyComplete();
+
+    assertEquals(1L, count("SELECT COUNT(*) FROM bootcamp.bootcamps"));
+    assertEquals(1L, count("SELECT COUNT(*) FROM bootcamp.bootcamp_capability"));
+    assertEquals(1L, count("SELECT COUNT(*) FROM bootcamp.bootcamp_read_model"));
+    assertEquals(2L, count("SELECT version FROM bootcamp.bootcamp_data_version WHERE id = 1"));
+  }
+
+  @Test
+  void deleteById_locksTheRowAndDeletesThroughTheProcedure() {
+    Bootcamp bootcamp = bootcamp("Java", "cap-1", "cap-2");
+    repository.save(bootcamp).block();
+    roundTrips.clear();
+
+    StepVerifier.create(repository.deleteById(bootcamp.id())).expectNext(true).verifyComplete();
+    StepVerifier.create(repository.deleteById(bootcamp.id())).expectNext(false).verifyComplete();
+
+    assertEquals(1, roundTrips.stream().filter(sql -> sql.startsWith("CALL bootcamp.delete_bootcamp")).count(), roundTrips::toString);
+    assertEquals(0L, count("SELECT COUNT(*) FROM bootcamp.bootcamps"));
+    assertEquals(0L, count("SELECT COUNT(*) FROM bootcamp.bootcamp_capability"));
+    assertEquals(0L, count("SELECT COUNT(*) FROM bootcamp.bootcamp_read_model"));
+    assertEquals(2L, count("SELECT version FROM bootcamp.bootcamp_data_version WHERE id = 1"));
+  }
+
+  private void seedCatalog() {
+    databaseClient.sql("""
+            INSERT INTO bootcamp.technologies (id, name, description) VALUES
+              ('tech-1', 'Java', 'desc'), ('tech-2', 'Spring', 'desc'), ('tech-3', 'React', 'desc')
+            """)
+        .then()
+        .then(databaseClient.sql("""
+            INSERT INTO bootcamp.capabilities (id, name, description) VALUES
+              ('cap-1', 'Backend', 'desc'), ('cap-2', 'Cloud', 'desc'), ('cap-3', 'Frontend', 'desc')
+            """).then())
+        .then(databaseClient.sql("""
+            INSERT INTO bootcamp.capability_technology (capability_id, technology_id) VALUES
+              ('cap-1', 'tech-1'), ('cap-1', 'tech-2'), ('cap-2', 'tech-2'), ('cap-2', 'tech-3'), ('cap-3', 'tech-3')
+            """).then())
+        .block();
+  }
+
+  private long count(String sql) {
+    Long value = databaseClient.sql(sql)
+        .map((row, metadata) -> row.get(0, Number.class).longValue())
+        .one()
+        .block();
+    return value == null ? 0L : value;
+  }
+
+  private static Bootcamp bootcamp(String name, String... capabilityIds) {
+    return new Bootcamp(UUID.randomUUID().toString(), name, "desc", LAUNCH_DATE, 8, List.of(capabilityIds));
+  }
+
+  private static List<String> names(PaginatedBootcamp page) {
+    return page.content().stream().map(BootcampSummary::name).toList();
+  }
+}
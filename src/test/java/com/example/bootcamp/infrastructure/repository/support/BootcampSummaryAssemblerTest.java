@@ -0,0 +1,102 @@
+package com.example.bootcamp.infrastructure.repository.support;
+
+import com.example.bootcamp.domain.model.BootcampSummary;
+import com.example.bootcamp.domain.model.CapabilitySummary;
+import com.example.bootcamp.domain.model.TechnologySummary;
+import com.example.bootcamp.infrastructure.repository.support.BootcampRepositorySupport.BootcampCapabilityLinkRow;
+import com.example.bootcamp.infrastructure.repository.support.BootcampRepositorySupport.BootcampRow;
+import com.example.bootcamp.infrastructure.repository.support.BootcampRepositorySupport.CapabilityTechnologyRow;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BootcampSummaryAssemblerTest {
+
+  private static final int BOOTCAMPS = 10_000;
+  private static final int CAPABILITIES_PER_BOOTCAMP = 4;
+
+  @Test
+  void capabilities_foldsConsecutiveRowsPerCapability() {
+    Flux<CapabilityTechnologyRow> rows = Flux.just(
+        new CapabilityTechnologyRow("cap-1", "Backend", "desc", "tech-1", "Java"),
+        new CapabilityTechnologyRow("cap-1", "Backend", "desc", "tech-2", "Kotlin"),
+        new CapabilityTechnologyRow("cap-2", "Frontend", "desc", null, null)
+    );
+
+    StepVerifier.create(BootcampSummaryAssembler.capabilities(rows))
+        .expectNext(new CapabilitySummary("cap-1", "Backend", "desc",
+            List.of(new TechnologySummary("tech-1", "Java"), new TechnologySummary("tech-2", "Kotlin")), 2))
+        .expectNext(new CapabilitySummary("cap-2", "Frontend", "desc", List.of(), 0))
+        .verifyComplete();
+  }
+
+  @Test
+  void links_tenThousandBootcampsBufferOnlyOneBootcampAtATime() {
+    AtomicLong emittedRows = new AtomicLong();
+    AtomicLong assembledRows = new AtomicLong();
+    AtomicLong maxInFlightRows = new AtomicLong();
+    Flux<BootcampCapabilityLinkRow> rows = Flux.range(0, BOOTCAMPS)
+        .concatMapIterable(bootcamp -> IntStream.range(0, CAPABILITIES_PER_BOOTCAMP)
+            .mapToObj(capability -> new BootcampCapabilityLinkRow("boot-" + bootcamp, "cap-" + capability))
+            .toList())
+        .doOnNext(row -> maxInFlightRows.accumulateAndGet(emittedRows.incrementAndGet() - assembledRows.get(), Math::max));
+
+    StepVerifier.create(BootcampSummaryAssembler.links(rows)
+            .doOnNext(group -> assembledRows.addAndGet(group.capabilityIds().size())))
+        .expectNextCount(BOOTCAMPS)
+        .verifyComplete();
+
+    assertEquals((long) BOOTCAMPS * CAPABILITIES_PER_BOOTCAMP, assembledRows.get());
+    assertTrue(maxInFlightRows.get() <= CAPABILITIES_PER_BOOTCAMP + 1,
+        "buffered " + maxInFlightRows.get() + " rows");
+  }
+
+  @Test
+  void bootcamp_looksUpOnlyLinkedCapabilitiesAndSkipsUnknownOnes() {
+    Map<String, CapabilitySummary> catalog = new HashMap<>() {
+      @Override
+      public Collection<CapabilitySummary> values() {
+        throw new AssertionError("scanned the whole catalog");
+      }
+    };
+    IntStream.range(0, BOOTCAMPS).forEach(index -> catalog.put("cap-" + index,
+        new CapabilitySummary("cap-" + index, "Capability " + index, "desc", List.of(), 0)));
+    BootcampRow row = new BootcampRow("boot-1", "Bootcamp", "desc", LocalDate.EPOCH, 4, null);
+
+    BootcampSummary summary = BootcampSummaryAssembler.bootcamp(row, List.of("cap-20", "missing", "cap-10", "cap-20"), catalog);
+
+    assertEquals(List.of("cap-10", "cap-20"), summary.capabilities().stream().map(CapabilitySummary::id).toList());
+    assertEquals(2, summary.capabilityCount());
+  }
+
+  @Test
+  void summaries_tenThousandBootcampsShareCapabilityInstances() {
+    Map<String, CapabilitySummary> capabilities = new LinkedHashMap<>();
+    Map<String, List<String>> links = new LinkedHashMap<>();
+    IntStream.range(0, CAPABILITIES_PER_BOOTCAMP).forEach(index -> capabilities.put("cap-" + index,
+        new CapabilitySummary("cap-" + index, "Capability " + index, "desc", List.of(), 0)));
+    Flux<BootcampRow> bootcamps = Flux.range(0, BOOTCAMPS)
+        .doOnNext(index -> links.put("boot-" + index, List.of("cap-" + (index % CAPABILITIES_PER_BOOTCAMP))))
+        .map(index -> new BootcampRow("boot-" + index, "Bootcamp " + index, "desc", LocalDate.EPOCH, 4, 1));
+
+    List<BootcampSummary> summaries = BootcampSummaryAssembler.summaries(bootcamps, links, capabilities)
+        .collectList()
+        .block();
+
+    assertNotNull(summaries);
+    assertEquals(BOOTCAMPS, summaries.size());
+    assertSame(capabilities.get("cap-1"), summaries.get(1).capabilities().get(0));
+    assertSame(summaries.get(1).capabilities().get(0), summaries.get(1 + CAPABILITIES_PER_BOOTCAMP).capabilities().get(0));
+  }
+}
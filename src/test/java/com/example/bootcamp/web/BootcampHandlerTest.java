@@ -5,15 +5,21 @@ import com.example.bootcamp.domain.error.DomainException;
 import com.example.bootcamp.domain.error.ErrorCodes;
 import com.example.bootcamp.domain.model.*;
 import com.example.bootcamp.domain.usecase.*;
+import com.example.bootcamp.infrastructure.catalog.CapabilityCatalog;
+import com.example.bootcamp.infrastructure.repository.BootcampDataVersion;
 import com.example.bootcamp.web.dto.Requests.*;
+import com.example.bootcamp.web.dto.Responses;
 import com.example.bootcamp.web.handler.BootcampHandler;
+import com.example.bootcamp.web.handler.BootcampJsonWriter;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 import org.springframework.test.web.reactive.server.WebTestClient;
 import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
 import org.springframework.web.reactive.function.server.HandlerStrategies;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.time.LocalDate;
@@ -22,20 +28,32 @@ import java.util.List;
 class BootcampHandlerTest {
 
   private final CreateBootcampUseCase create = Mockito.mock(CreateBootcampUseCase.class);
+  private final CreateBootcampBatchUseCase createBatch = Mockito.mock(CreateBootcampBatchUseCase.class);
   private final ListBootcampUseCase getAll = Mockito.mock(ListBootcampUseCase.class);
+  private final GetBootcampUseCase getOne = Mockito.mock(GetBootcampUseCase.class);
   private final DeleteBootcampUseCase delete = Mockito.mock(DeleteBootcampUseCase.class);
+  private final ExportBootcampUseCase export = Mockito.mock(ExportBootcampUseCase.class);
+  private final CapabilityCatalog catalog = Mockito.mock(CapabilityCatalog.class);
+  private final BootcampDataVersion dataVersion = Mockito.mock(BootcampDataVersion.class);
+  private final BootcampJsonWriter jsonWriter = new BootcampJsonWriter(Jackson2ObjectMapperBuilder.json().build(), catalog, 100);
 
   private WebTestClient client;
 
   @BeforeEach
   void setUp() {
+    Mockito.when(dataVersion.current()).thenReturn(Mono.just("1.0"));
     LocalValidatorFactoryBean validator = new LocalValidatorFactoryBean();
     validator.afterPropertiesSet();
     BootcampHandler handler = new BootcampHandler(
         validator,
         create,
+        createBatch,
         getAll,
-        delete
+        getOne,
+        delete,
+        export,
+        dataVersion,
+        jsonWriter
     );
     client = WebTestClient.bindToRouterFunction(new RouterConfig().routes(handler))
         .handlerStrategies(HandlerStrategies.withDefaults())
@@ -69,6 +87,45 @@ class BootcampHandlerTest {
         .jsonPath("$.message").isEqualTo("no debe estar vacío,no debe estar vacío");
   }
 
+  @Test
+  void createBootcampBatch_returnsPerItemResults() {
+    Mockito.when(createBatch.execute(Mockito.anyList())).thenReturn(Mono.just(List.of(
+        BootcampBatchResult.created(0, "id-1"),
+        BootcampBatchResult.failed(1, ErrorCodes.CONFLICT, "bootcamp.name.already.exists")
+    )));
+
+    client.post().uri("/bootcamp/batch")
+        .contentType(MediaType.APPLICATION_JSON)
+        .bodyValue(new CreateBootcampBatchRequest(List.of(
+            new CreateBootcampRequest("Acme", "des", LocalDate.EPOCH, 2, List.of("c1")),
+            new CreateBootcampRequest("Taken", "des", LocalDate.EPOCH, 2, List.of("c1"))
+        )))
+        .exchange()
+        .expectStatus().isOk()
+        .expectBody()
+        .jsonPath("$.created").isEqualTo(1)
+        .jsonPath("$.failed").isEqualTo(1)
+        .jsonPath("$.results[0].id").isEqualTo("id-1")
+        .jsonPath("$.results[1].error").isEqualTo("CONFLICT")
+        .jsonPath("$.results[1].message").isEqualTo("bootcamp.name.already.exists");
+  }
+
+  @Test
+  void createBootcampBatch_tooLarge() {
+    Mockito.when(createBatch.execute(Mockito.anyList()))
+        .thenReturn(Mono.error(new DomainException(ErrorCodes.VALIDATION_ERROR, "invalid.bootcamp.batch.size")));
+
+    client.post().uri("/bootcamp/batch")
+        .contentType(MediaType.APPLICATION_JSON)
+        .bodyValue(new CreateBootcampBatchRequest(List.of(
+            new CreateBootcampRequest("Acme", "des", LocalDate.EPOCH, 2, List.of("c1"))
+        )))
+        .exchange()
+        .expectStatus().isBadRequest()
+        .expectBody()
+        .jsonPath("$.message").isEqualTo("invalid.bootcamp.batch.size");
+  }
+
   @Test
   void getAllBootcamp_success() {
     TechnologySummary technology = new TechnologySummary("tech-1", "Java");
@@ -76,7 +133,7 @@ class BootcampHandlerTest {
     BootcampSummary bootcamp = new BootcampSummary("boot-1", "Bootcamp", "desc", LocalDate.EPOCH, 6, List.of(capability), 1);
     PaginatedBootcamp page = new PaginatedBootcamp(List.of(bootcamp), 0, 10, 1, 1);
 
-    Mockito.when(getAll.execute(Mockito.any())).thenReturn(Mono.just(page));
+    Mockito.when(getAll.execute(Mockito.anyString(), Mockito.any())).thenReturn(Mono.just(page));
 
     client.get().uri("/bootcamp")
         .exchange()
@@ -89,7 +146,59 @@ class BootcampHandlerTest {
         .jsonPath("$.content[0].id").isEqualTo("boot-1")
         .jsonPath("$.content[0].capabilities[0].technologies[0].name").isEqualTo("Java");
 
-    Mockito.verify(getAll).execute(new BootcampPageRequest(0, 10, BootcampSortField.NAME, SortDirection.ASC));
+    Mockito.verify(getAll).execute(Mockito.anyString(), Mockito.eq(new BootcampPageRequest(0, 10, BootcampSortField.NAME, SortDirection.ASC)));
+  }
+
+  @Test
+  void getAllBootcamp_withCursor() {
+    BootcampCursor cursor = new BootcampCursor(BootcampSortField.NAME, SortDirection.ASC, "Bootcamp", "boot-1");
+    BootcampSummary bootcamp = new BootcampSummary("boot-2", "Cloud", "desc", LocalDate.EPOCH, 6, List.of(), 0);
+    PaginatedBootcamp page = new PaginatedBootcamp(List.of(bootcamp), 0, 1, 2, 2, true, "next-token");
+
+    Mockito.when(getAll.execute(Mockito.anyString(), Mockito.any())).thenReturn(Mono.just(page));
+
+    client.get().uri(uriBuilder -> uriBuilder.path("/bootcamp")
+            .queryParam("size", 1)
+            .queryParam("cursor", cursor.encode())
+            .build())
+        .exchange()
+        .expectStatus().isOk()
+        .expectBody()
+        .jsonPath("$.content[0].id").isEqualTo("boot-2")
+        .jsonPath("$.hasNext").isEqualTo(true)
+        .jsonPath("$.nextCursor").isEqualTo("next-token");
+
+    Mockito.verify(getAll).execute(Mockito.anyString(), Mockito.eq(new BootcampPageRequest(0, 1, BootcampSortField.NAME, SortDirection.ASC, cursor)));
+  }
+
+  @Test
+  void getAllBootcamp_withoutTotal() {
+    PaginatedBootcamp page = new PaginatedBootcamp(List.of(), 0, 10, PaginatedBootcamp.UNKNOWN_TOTAL, -1, false, null);
+
+    Mockito.when(getAll.execute(Mockito.anyString(), Mockito.any())).thenReturn(Mono.just(page));
+
+    client.get().uri(uriBuilder -> uriBuilder.path("/bootcamp").queryParam("includeTotal", "false").build())
+        .exchange()
+        .expectStatus().isOk()
+        .expectBody()
+        .jsonPath("$.totalElements").doesNotExist()
+        .jsonPath("$.hasNext").isEqualTo(false);
+
+    Mockito.verify(getAll).execute(
+        Mockito.anyString(),
+        Mockito.eq(new BootcampPageRequest(0, 10, BootcampSortField.NAME, SortDirection.ASC, null, BootcampTotalMode.NONE))
+    );
+  }
+
+  @Test
+  void getAllBootcamp_invalidCursor() {
+    client.get().uri(uriBuilder -> uriBuilder.path("/bootcamp").queryParam("cursor", "bad@cursor").build())
+        .exchange()
+        .expectStatus().isBadRequest()
+        .expectBody()
+        .jsonPath("$.message").isEqualTo("invalid.pagination.cursor");
+
+    Mockito.verifyNoInteractions(getAll);
   }
 
   @Test
@@ -103,6 +212,175 @@ class BootcampHandlerTest {
     Mockito.verifyNoInteractions(getAll);
   }
 
+  @Test
+  void exportBootcamps_ndjson() {
+    BootcampSummary first = new BootcampSummary("boot-1", "Bootcamp", "desc", LocalDate.EPOCH, 6, List.of(), 0);
+    BootcampSummary second = new BootcampSummary("boot-2", "Cloud", "desc", LocalDate.EPOCH, 8, List.of(), 0);
+    Mockito.when(export.execute(BootcampExportFilter.all())).thenReturn(Flux.just(first, second));
+
+    client.get().uri("/bootcamp/export")
+        .exchange()
+        .expectStatus().isOk()
+        .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+        .expectBodyList(Responses.BootcampResponse.class)
+        .hasSize(2);
+  }
+
+  @Test
+  void exportBootcamps_csvWithLaunchDateRange() {
+    TechnologySummary technology = new TechnologySummary("tech-1", "Java");
+    CapabilitySummary capability = new CapabilitySummary("cap-1", "Backend", "desc", List.of(technology), 1);
+    BootcampSummary bootcamp = new BootcampSummary("boot-1", "Bootcamp, Java", "desc", LocalDate.of(2024, 3, 1), 6, List.of(capability), 1);
+    BootcampExportFilter filter = new BootcampExportFilter(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31));
+    Mockito.when(export.execute(filter)).thenReturn(Flux.just(bootcamp));
+
+    client.get().uri(uriBuilder -> uriBuilder.path("/bootcamp/export")
+            .queryParam("format", "csv")
+            .queryParam("launchedFrom", "2024-01-01")
+            .queryParam("launchedTo", "2024-12-31")
+            .build())
+        .exchange()
+        .expectStatus().isOk()
+        .expectBody(String.class)
+        .isEqualTo("id,name,description,launchDate,durationWeeks,capabilityCount,capabilities,technologies\n"
+            + "boot-1,\"Bootcamp, Java\",desc,2024-03-01,6,1,Backend,Java\n");
+  }
+
+  @Test
+  void exportBootcamps_invalidDateRange() {
+    client.get().uri(uriBuilder -> uriBuilder.path("/bootcamp/export")
+            .queryParam("launchedFrom", "2024-12-31")
+            .queryParam("launchedTo", "2024-01-01")
+            .build())
+        .exchange()
+        .expectStatus().isBadRequest()
+        .expectBody()
+        .jsonPath("$.message").isEqualTo("invalid.export.launch.date.range");
+
+    Mockito.verifyNoInteractions(export);
+  }
+
+  @Test
+  void getBootcamp_success() {
+    CapabilitySummary capability = new CapabilitySummary("cap-1", "Backend", "desc", List.of(new TechnologySummary("tech-1", "Java")), 1);
+    Mockito.when(getOne.execute(Mockito.anyString(), Mockito.eq("boot-1")))
+        .thenReturn(Mono.just(new BootcampSummary("boot-1", "Bootcamp", "desc", LocalDate.EPOCH, 6, List.of(capability), 1)));
+
+    client.get().uri("/bootcamp/{id}", "boot-1")
+        .exchange()
+        .expectStatus().isOk()
+        .expectBody()
+        .jsonPath("$.id").isEqualTo("boot-1")
+        .jsonPath("$.capabilities[0].technologies[0].name").isEqualTo("Java");
+  }
+
+  @Test
+  void getAllBootcamp_compactView() {
+    BootcampSummary bootcamp = new BootcampSummary("boot-1", "Bootcamp", null, LocalDate.EPOCH, 6, List.of(), 2);
+    Mockito.when(getAll.execute(Mockito.anyString(), Mockito.any()))
+        .thenReturn(Mono.just(new PaginatedBootcamp(List.of(bootcamp), 0, 10, 1, 1)));
+
+    client.get().uri(uriBuilder -> uriBuilder.path("/bootcamp").queryParam("view", "compact").build())
+        .exchange()
+        .expectStatus().isOk()
+        .expectBody()
+        .jsonPath("$.content[0].id").isEqualTo("boot-1")
+        .jsonPath("$.content[0].capabilityCount").isEqualTo(2)
+        .jsonPath("$.content[0].capabilities").doesNotExist()
+        .jsonPath("$.content[0].description").doesNotExist();
+
+    Mockito.verify(getAll).execute(Mockito.anyString(), Mockito.eq(new BootcampPageRequest(
+        0, 10, BootcampSortField.NAME, SortDirection.ASC, null, BootcampTotalMode.EXACT, BootcampView.COMPACT)));
+  }
+
+  @Test
+  void getAllBootcamp_fieldsSelectView() {
+    Mockito.when(getAll.execute(Mockito.anyString(), Mockito.any()))
+        .thenReturn(Mono.just(new PaginatedBootcamp(List.of(), 0, 10, 0, 0)));
+
+    client.get().uri(uriBuilder -> uriBuilder.path("/bootcamp").queryParam("fields", "id,name,launchDate").build())
+        .exchange()
+        .expectStatus().isOk();
+    client.get().uri(uriBuilder -> uriBuilder.path("/bootcamp").queryParam("fields", "id,capabilities").build())
+        .exchange()
+        .expectStatus().isOk();
+
+    Mockito.verify(getAll).execute(Mockito.anyString(), Mockito.argThat(request -> request != null && request.view() == BootcampView.COMPACT));
+    Mockito.verify(getAll).execute(Mockito.anyString(), Mockito.argThat(request -> request != null && request.view() == BootcampView.FULL));
+  }
+
+  @Test
+  void getAllBootcamp_invalidFields() {
+    client.get().uri(uriBuilder -> uriBuilder.path("/bootcamp").queryParam("fields", "id,secret").build())
+        .exchange()
+        .expectStatus().isBadRequest()
+        .expectBody()
+        .jsonPath("$.message").isEqualTo("invalid.pagination.fields");
+  }
+
+  @Test
+  void getAllBootcamp_notModifiedUntilDataChanges() {
+    Mockito.when(getAll.execute(Mockito.anyString(), Mockito.any()))
+        .thenReturn(Mono.just(new PaginatedBootcamp(List.of(), 0, 10, 0, 0)));
+
+    String etag = client.get().uri("/bootcamp")
+        .exchange()
+        .expectStatus().isOk()
+        .returnResult(String.class)
+        .getResponseHeaders()
+        .getETag();
+
+    client.get().uri("/bootcamp")
+        .header("If-None-Match", etag)
+        .exchange()
+        .expectStatus().isNotModified()
+        .expectHeader().valueEquals("ETag", etag);
+    Mockito.verify(getAll, Mockito.times(1)).execute(Mockito.anyString(), Mockito.any());
+
+    client.get().uri(uriBuilder -> uriBuilder.path("/bootcamp").queryParam("page", 1).build())
+        .header("If-None-Match", etag)
+        .exchange()
+        .expectStatus().isOk();
+
+    Mockito.when(dataVersion.current()).thenReturn(Mono.just("2.0"));
+    client.get().uri("/bootcamp")
+        .header("If-None-Match", etag)
+        .exchange()
+        .expectStatus().isOk();
+    Mockito.verify(getAll, Mockito.times(3)).execute(Mockito.anyString(), Mockito.any());
+  }
+
+  @Test
+  void getBootcamp_notModified() {
+    Mockito.when(getOne.execute(Mockito.anyString(), Mockito.eq("boot-1")))
+        .thenReturn(Mono.just(new BootcampSummary("boot-1", "Bootcamp", "desc", LocalDate.EPOCH, 6, List.of(), 0)));
+
+    String etag = client.get().uri("/bootcamp/{id}", "boot-1")
+        .exchange()
+        .expectStatus().isOk()
+        .returnResult(String.class)
+        .getResponseHeaders()
+        .getETag();
+
+    client.get().uri("/bootcamp/{id}", "boot-1")
+        .header("If-None-Match", etag)
+        .exchange()
+        .expectStatus().isNotModified();
+    Mockito.verify(getOne, Mockito.times(1)).execute("boot-1");
+  }
+
+  @Test
+  void getBootcamp_notFound() {
+    Mockito.when(getOne.execute(Mockito.anyString(), Mockito.eq("missing")))
+        .thenReturn(Mono.error(new DomainException(ErrorCodes.BOOTCAMP_NOT_FOUND, "bootcamp.not.found")));
+
+    client.get().uri("/bootcamp/{id}", "missing")
+        .exchange()
+        .expectStatus().isNotFound()
+        .expectBody()
+        .jsonPath("$.message").isEqualTo("bootcamp.not.found");
+  }
+
   @Test
   void deleteBootcamp_success() {
     Mockito.when(delete.execute("id-1")).thenReturn(Mono.empty());
@@ -126,5 +404,34 @@ class BootcampHandlerTest {
         .jsonPath("$.message").isEqualTo("bootcamp.not.found");
   }
 
-}
+  @Test
+  void deleteBootcamps_reportsPerIdOutcome() {
+    Mockito.when(delete.executeAll(List.of("id-1", "missing", "id-2"))).thenReturn(Mono.just(List.of(
+        BootcampDeleteResult.deleted("id-1"),
+        BootcampDeleteResult.notFound("missing"),
+        BootcampDeleteResult.deleted("id-2")
+    )));
 
+    client.delete().uri("/bootcamp?ids=id-1,missing&ids=id-2")
+        .exchange()
+        .expectStatus().isOk()
+        .expectBody()
+        .jsonPath("$.deleted").isEqualTo(2)
+        .jsonPath("$.notFound").isEqualTo(1)
+        .jsonPath("$.results[0].deleted").isEqualTo(true)
+        .jsonPath("$.results[1].id").isEqualTo("missing")
+        .jsonPath("$.results[1].error").isEqualTo("BOOTCAMP_NOT_FOUND");
+  }
+
+  @Test
+  void deleteBootcamps_withoutIdsIsRejected() {
+    Mockito.when(delete.executeAll(List.of()))
+        .thenReturn(Mono.error(new DomainException(ErrorCodes.VALIDATION_ERROR, "invalid.bootcamp.delete.ids.empty")));
+
+    client.delete().uri("/bootcamp")
+        .exchange()
+        .expectStatus().isBadRequest()
+        .expectBody()
+        .jsonPath("$.message").isEqualTo("invalid.bootcamp.delete.ids.empty");
+  }
+}
@@ -0,0 +1,96 @@
+package com.example.bootcamp.web.handler;
+
+import com.example.bootcamp.domain.model.BootcampSummary;
+import com.example.bootcamp.domain.model.CapabilitySummary;
+import com.example.bootcamp.domain.model.PaginatedBootcamp;
+import com.example.bootcamp.domain.model.TechnologySummary;
+import com.example.bootcamp.infrastructure.catalog.CapabilityCatalog;
+import com.example.bootcamp.web.dto.Responses.BootcampResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.http.server.reactive.MockServerHttpResponse;
+import org.springframework.web.reactive.function.BodyInserter;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BootcampJsonWriterTest {
+
+  private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+  private final CapabilityCatalog catalog = Mockito.mock(CapabilityCatalog.class);
+  private final BootcampJsonWriter writer = new BootcampJsonWriter(objectMapper, catalog, 100);
+
+  private final CapabilitySummary capability = new CapabilitySummary("cap-1", "Back\"end", "desc", List.of(new TechnologySummary("tech-1", "Java")), 1);
+  private final BootcampSummary bootcamp = new BootcampSummary("boot-1", "Bootcamp ñ", "desc", LocalDate.of(2024, 3, 1), 6, List.of(capability), 1);
+
+  @Test
+  void writesSameJsonAsTheResponseDtos() throws Exception {
+    PaginatedBootcamp page = new PaginatedBootcamp(List.of(bootcamp), 0, 10, 1, 1, true, "next");
+
+    assertEquals(objectMapper.writeValueAsString(PageResponse.of(page)), render(writer.page(page)));
+  }
+
+  @Test
+  void writesNullTotalsWhenUnknown() throws Exception {
+    PaginatedBootcamp page = new PaginatedBootcamp(List.of(bootcamp), 0, 10, PaginatedBootcamp.UNKNOWN_TOTAL, -1, false, null);
+
+    assertEquals(objectMapper.writeValueAsString(PageResponse.of(page)), render(writer.page(page)));
+  }
+
+  @Test
+  void reusesBootcampFragmentsUntilTheCatalogChangesOrTheBootcampIsEvicted() {
+    var first = writer.bootcamp(bootcamp);
+    assertSame(first, writer.bootcamp(bootcamp));
+
+    writer.evict(bootcamp.id());
+    var afterEvict = writer.bootcamp(bootcamp);
+    assertNotSame(first, afterEvict);
+    assertEquals(first.getValue(), afterEvict.getValue());
+
+    Mockito.when(catalog.version()).thenReturn(1L);
+    assertNotSame(afterEvict, writer.bootcamp(bootcamp));
+  }
+
+  @Test
+  void reusesCapabilityFragmentsUntilTheCatalogChanges() {
+    var before = writer.capability(capability);
+    assertSame(before, writer.capability(capability));
+
+    Mockito.when(catalog.version()).thenReturn(1L);
+    assertNotSame(before, writer.capability(capability));
+  }
+
+  private String render(BodyInserter<?, ? super MockServerHttpResponse> inserter) {
+    MockServerHttpResponse response = new MockServerHttpResponse();
+    StepVerifier.create(inserter.insert(response, null)).verifyComplete();
+    return response.getBodyAsString().block();
+  }
+
+  private record PageResponse(
+      List<BootcampResponse> content,
+      int page,
+      int size,
+      Long totalElements,
+      Integer totalPages,
+      boolean hasNext,
+      String nextCursor
+  ) {
+
+    static PageResponse of(PaginatedBootcamp page) {
+      return new PageResponse(
+          page.content().stream().map(BootcampResponseMapper::bootcamp).toList(),
+          page.page(),
+          page.size(),
+          page.totalKnown() ? page.totalElements() : null,
+          page.totalKnown() ? page.totalPages() : null,
+          page.hasNext(),
+          page.nextCursor()
+      );
+    }
+  }
+}
@@ -4,7 +4,7 @@ import com.example.bootcamp.domain.model.BootcampSummary;
 import com.example.bootcamp.domain.model.CapabilitySummary;
 import com.example.bootcamp.domain.model.PaginatedBootcamp;
 import com.example.bootcamp.domain.model.TechnologySummary;
-import com.example.bootcamp.web.dto.Responses.BootcampPageResponse;
+import com.example.bootcamp.web.dto.Responses.BootcampCompactPageResponse;
 import com.example.bootcamp.web.dto.Responses.BootcampResponse;
 import com.example.bootcamp.web.dto.Responses.CapabilityResponse;
 import com.example.bootcamp.web.dto.Responses.TechnologyResponse;
@@ -14,40 +14,46 @@ import java.time.LocalDate;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class BootcampResponseMapperTest {
 
   @Test
-  void page_shouldMapDomainPageToResponse() {
+  void bootcamp_shouldMapSummaryToResponse() {
     TechnologySummary technology = new TechnologySummary("tech-1", "Java");
     CapabilitySummary capability = new CapabilitySummary("cap-1", "Backend", "desc", List.of(technology), 1);
     BootcampSummary bootcamp = new BootcampSummary("boot-1", "Bootcamp", "description", LocalDate.EPOCH, 6, List.of(capability), 1);
-    PaginatedBootcamp page = new PaginatedBootcamp(List.of(bootcamp), 0, 5, 1, 1);
-
-    BootcampPageResponse response = BootcampResponseMapper.page(page);
-
-    BootcampPageResponse expected = new BootcampPageResponse(
-        List.of(new BootcampResponse(
-            "boot-1",
-            "Bootcamp",
-            "description",
-            LocalDate.EPOCH,
-            6,
-            List.of(new CapabilityResponse(
-                "cap-1",
-                "Backend",
-                "desc",
-                List.of(new TechnologyResponse("tech-1", "Java")),
-                1
-            )),
+
+    BootcampResponse response = BootcampResponseMapper.bootcamp(bootcamp);
+
+    BootcampResponse expected = new BootcampResponse(
+        "boot-1",
+        "Bootcamp",
+        "description",
+        LocalDate.EPOCH,
+        6,
+        List.of(new CapabilityResponse(
+            "cap-1",
+            "Backend",
+            "desc",
+            List.of(new TechnologyResponse("tech-1", "Java")),
             1
         )),
-        0,
-        5,
-        1,
         1
     );
 
     assertEquals(expected, response);
   }
+
+  @Test
+  void compactPage_shouldOmitUnknownTotals() {
+    PaginatedBootcamp page = new PaginatedBootcamp(List.of(), 0, 5, PaginatedBootcamp.UNKNOWN_TOTAL, -1, true, "next");
+
+    BootcampCompactPageResponse response = BootcampResponseMapper.compactPage(page);
+
+    assertNull(response.totalElements());
+    assertNull(response.totalPages());
+    assertTrue(response.hasNext());
+  }
 }